@@ -2,6 +2,12 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.5"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
+}
+
+// src/jmh 의 마이크로 벤치마크 (./gradlew jmh), 할당량은 gc 프로파일러로 함께 측정한다
+jmh {
+    profilers = listOf("gc")
 }
 
 subprojects {
@@ -57,6 +63,9 @@ allprojects {
         implementation("org.springframework.boot:spring-boot-starter-web")
         implementation("org.springframework.boot:spring-boot-starter-actuator")
 
+        // local cache
+        implementation("com.github.ben-manes.caffeine:caffeine")
+
         // micrometer & prometheus
         runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
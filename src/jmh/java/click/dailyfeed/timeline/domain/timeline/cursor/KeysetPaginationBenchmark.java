@@ -0,0 +1,132 @@
+package click.dailyfeed.timeline.domain.timeline.cursor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작성자별 글 목록의 page(OFFSET) 조회와 cursor(seek) 조회 비교 (page 0, 50, 500)
+ * PostRepository.findByAuthorIdAndNotDeleted / findByAuthorIdAndNotDeletedBefore 와 같은 형태의 쿼리를
+ * MySQL 대신 H2 in-memory 에 (author_id, created_at, id) 인덱스를 두고 jdbc 로 실행한다.
+ * seek 는 깊은 페이지도 page 0 과 같은 비용이어야 하고, OFFSET 은 건너뛰는 행 수만큼 늘어난다. 절대값이 아니라 두 방식의 비교용이다.
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KeysetPaginationBenchmark {
+    private static final long AUTHOR_ID = 7L;
+    private static final int POSTS = 20_000;
+    private static final int OTHER_AUTHORS_POSTS = 80_000;
+    private static final int SIZE = 20;
+
+    private static final String OFFSET_QUERY = "SELECT id, created_at FROM posts WHERE author_id = ? AND is_deleted = FALSE "
+            + "ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?";
+    private static final String SEEK_QUERY = "SELECT id, created_at FROM posts WHERE author_id = ? AND is_deleted = FALSE "
+            + "AND (created_at < ? OR (created_at = ? AND id < ?)) ORDER BY created_at DESC, id DESC LIMIT ?";
+
+    @Param({"0", "50", "500"})
+    private int page;
+
+    private Connection connection;
+    // 이전 페이지의 마지막 행 (page 0 이면 null)
+    private FeedCursor cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:keyset_" + page + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE posts (id BIGINT PRIMARY KEY, author_id BIGINT NOT NULL, created_at TIMESTAMP NOT NULL, is_deleted BOOLEAN NOT NULL)");
+            statement.execute("CREATE INDEX idx_posts_author_created ON posts (author_id, created_at, id)");
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO posts (id, author_id, created_at, is_deleted) VALUES (?, ?, ?, FALSE)")) {
+            for (long id = 1; id <= POSTS + OTHER_AUTHORS_POSTS; id++) {
+                // 같은 작성 시각이 섞이도록 초 단위로 둔다 (id 가 tiebreak)
+                insert.setLong(1, id);
+                insert.setLong(2, id % 5 == 0 ? AUTHOR_ID : AUTHOR_ID + 1 + random.nextInt(1_000));
+                insert.setTimestamp(3, Timestamp.valueOf(now.minusSeconds(random.nextInt(POSTS * 10))));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+
+        if (page > 0) {
+            List<FeedCursor> previous = offsetPage((page - 1) * SIZE);
+            cursor = previous.get(previous.size() - 1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public List<FeedCursor> offset() throws SQLException {
+        return offsetPage(page * SIZE);
+    }
+
+    @Benchmark
+    public List<FeedCursor> seek() throws SQLException {
+        if (cursor == null) {
+            return offsetPage(0);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(SEEK_QUERY)) {
+            Timestamp createdAt = Timestamp.valueOf(cursor.createdAt());
+            statement.setLong(1, AUTHOR_ID);
+            statement.setTimestamp(2, createdAt);
+            statement.setTimestamp(3, createdAt);
+            statement.setLong(4, cursor.id());
+            statement.setInt(5, SIZE);
+            return read(statement);
+        }
+    }
+
+    private List<FeedCursor> offsetPage(int offset) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(OFFSET_QUERY)) {
+            statement.setLong(1, AUTHOR_ID);
+            statement.setInt(2, SIZE);
+            statement.setInt(3, offset);
+            return read(statement);
+        }
+    }
+
+    private static List<FeedCursor> read(PreparedStatement statement) throws SQLException {
+        List<FeedCursor> rows = new ArrayList<>(SIZE);
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                rows.add(FeedCursor.ofCreatedAt(resultSet.getTimestamp(2).toLocalDateTime(), resultSet.getLong(1)));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,97 @@
+package click.dailyfeed.timeline.domain.timeline.enrichment;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.timeline.domain.post.document.PostCounterDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 페이지 통계 조립 비용 비교: 기존 stream/collector 경로 (PostLikeCountStatistics, PostCommentCountStatistics Map + 좋아요 Set) 와 PostStatistics
+ * 카운터 조회 결과와 좋아요 문서의 pk 목록을 입력으로, 통계를 만들고 페이지의 모든 게시글에 대해 좋아요 수, 댓글 수, 좋아요 여부를 읽는 데까지 잰다.
+ * 할당량은 gc 프로파일러(gc.alloc.rate.norm)로 본다.
+ * ./gradlew jmh
+ * 이 저장소에서 측정한 결과는 아직 없다. (:dailyfeed-code 등 하위 모듈이 있는 checkout 에서 실행해야 한다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PostStatisticsBenchmark {
+
+    @Param({"20", "100", "1000"})
+    private int pageSize;
+
+    private long[] postPks;
+    private Map<Long, PostCounterDocument> counters;
+    private List<Long> likedDocumentPks;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        postPks = new long[pageSize];
+        List<PostCounterDocument> documents = new ArrayList<>(pageSize);
+        likedDocumentPks = new ArrayList<>();
+        long pk = random.nextLong(1_000_000L, 2_000_000L);
+        for (int i = 0; i < pageSize; i++) {
+            // 최신순 피드처럼 pk 가 듬성듬성 감소한다
+            pk -= random.nextInt(1, 50);
+            postPks[i] = pk;
+            documents.add(PostCounterDocument.of(pk, (long) random.nextInt(1_000), (long) random.nextInt(100)));
+            if (random.nextInt(4) == 0) {
+                likedDocumentPks.add(pk);
+            }
+        }
+        counters = documents.stream().collect(Collectors.toMap(PostCounterDocument::getPostPk, Function.identity()));
+    }
+
+    @Benchmark
+    public void streamCollectors(Blackhole blackhole) {
+        Map<Long, PostDto.PostLikeCountStatistics> likeCountStatisticsMap = counters.values().stream()
+                .map(counter -> PostDto.PostLikeCountStatistics.builder().postPk(counter.getPostPk()).likeCount(counter.getLikeCount()).build())
+                .collect(Collectors.toMap(o -> o.getPostPk(), o -> o));
+        Map<Long, PostDto.PostCommentCountStatistics> commentCountStatisticsMap = counters.values().stream()
+                .map(counter -> PostDto.PostCommentCountStatistics.builder().postPk(counter.getPostPk()).commentCount(counter.getCommentCount()).build())
+                .collect(Collectors.toMap(o -> o.getPostPk(), o -> o));
+        Set<Long> likedPostPks = likedDocumentPks.stream().collect(Collectors.toSet());
+
+        for (long postPk : postPks) {
+            PostDto.PostLikeCountStatistics likeCount = likeCountStatisticsMap.get(postPk);
+            PostDto.PostCommentCountStatistics commentCount = commentCountStatisticsMap.get(postPk);
+            blackhole.consume(likeCount == null ? 0L : likeCount.getLikeCount());
+            blackhole.consume(commentCount == null ? 0L : commentCount.getCommentCount());
+            blackhole.consume(likedPostPks.contains(postPk));
+        }
+    }
+
+    @Benchmark
+    public void postStatistics(Blackhole blackhole) {
+        PostStatistics statistics = PostStatistics.of(counters.values(), likedDocumentPks.stream().mapToLong(Long::longValue).toArray());
+
+        for (long postPk : postPks) {
+            blackhole.consume(statistics.likeCount(postPk));
+            blackhole.consume(statistics.commentCount(postPk));
+            blackhole.consume(statistics.liked(postPk));
+        }
+    }
+}
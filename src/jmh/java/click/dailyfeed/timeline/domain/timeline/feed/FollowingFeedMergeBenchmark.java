@@ -0,0 +1,199 @@
+package click.dailyfeed.timeline.domain.timeline.feed;
+
+import click.dailyfeed.timeline.domain.base.BaseTimeEntity;
+import click.dailyfeed.timeline.domain.post.entity.Post;
+import click.dailyfeed.timeline.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import click.dailyfeed.timeline.domain.timeline.redis.AuthorActivityRedisService;
+import click.dailyfeed.timeline.domain.timeline.service.AuthorActivityService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로잉 피드 첫 페이지 조회 비교 (팔로잉 1k, 10k, 50k)
+ * - singleInClause : 팔로잉 전체를 하나의 IN 절로 묶어 정렬 후 LIMIT (k-way merge 이전의 방식)
+ * - kWayMerge : FollowingFeedMergeEngine 으로 팔로잉 전체를 bucket 별 head 조회 후 병합 (listMyFollowingActivities)
+ * - activeAuthorsThenMerge : AuthorActivityService 로 최근 활동한 팔로잉 max-fan-in 명만 추린 뒤 병합 (super-heavy 경로)
+ * MySQL 대신 H2 in-memory 에 (author_id, created_at, id), (created_at, id) 인덱스를 두고 jdbc 로 같은 형태의 쿼리를 실행한다.
+ * 작성자 인덱스(redis ZMSCORE)는 메모리 Map 으로 대신한다. 절대값이 아니라 경로 간 비교용이며, p99 는 SampleTime 의 백분위로 본다.
+ * ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FollowingFeedMergeBenchmark {
+    private static final int PAGE_SIZE = 21;
+    private static final int POSTS_PER_AUTHOR = 2;
+    // 최근 active-window-days 안에 글을 쓴 팔로잉 비율
+    private static final int ACTIVE_PERCENT = 10;
+    private static final int ACTIVE_WINDOW_DAYS = 3;
+    private static final int MAX_FAN_IN = 500;
+
+    @Param({"1000", "10000", "50000"})
+    private int followings;
+
+    private Connection connection;
+    private List<Long> followingIds;
+    private FollowingFeedMergeEngine mergeEngine;
+    private AuthorActivityService authorActivityService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:merge_" + followings + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE posts (id BIGINT PRIMARY KEY, author_id BIGINT NOT NULL, created_at TIMESTAMP NOT NULL, is_deleted BOOLEAN NOT NULL)");
+            statement.execute("CREATE INDEX idx_posts_author_created ON posts (author_id, created_at, id)");
+            statement.execute("CREATE INDEX idx_posts_created ON posts (created_at, id)");
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Long> lastPostedAt = new HashMap<>();
+        followingIds = new ArrayList<>(followings);
+        long postId = 1L;
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO posts (id, author_id, created_at, is_deleted) VALUES (?, ?, ?, FALSE)")) {
+            for (long authorId = 1; authorId <= followings; authorId++) {
+                followingIds.add(authorId);
+                boolean active = random.nextInt(100) < ACTIVE_PERCENT;
+                LocalDateTime latest = null;
+                for (int i = 0; i < POSTS_PER_AUTHOR; i++) {
+                    LocalDateTime createdAt = active
+                            ? now.minusMinutes(random.nextInt(ACTIVE_WINDOW_DAYS * 24 * 60))
+                            : now.minusDays(ACTIVE_WINDOW_DAYS + 1L + random.nextInt(60));
+                    latest = latest == null || createdAt.isAfter(latest) ? createdAt : latest;
+                    insert.setLong(1, postId++);
+                    insert.setLong(2, authorId);
+                    insert.setTimestamp(3, Timestamp.valueOf(createdAt));
+                    insert.addBatch();
+                }
+                lastPostedAt.put(authorId, latest.toInstant(ZoneOffset.UTC).toEpochMilli());
+            }
+            insert.executeBatch();
+        }
+
+        PostRepository postRepository = jdbcPostRepository(connection);
+        mergeEngine = new FollowingFeedMergeEngine(postRepository);
+        setField(mergeEngine, "bucketSize", 50);
+        setField(mergeEngine, "headSize", 20);
+
+        AuthorActivityRedisService index = new AuthorActivityRedisService(null) {
+            @Override
+            public Map<Long, Long> getLastPostedAt(List<Long> authorIds) {
+                return authorIds.stream().collect(Collectors.toMap(id -> id, lastPostedAt::get));
+            }
+        };
+        authorActivityService = new AuthorActivityService(postRepository, index);
+        setField(authorActivityService, "seedChunkSize", 1000);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> singleInClause() throws SQLException {
+        return findHead(connection, followingIds, null, PAGE_SIZE).stream().map(Post::getId).toList();
+    }
+
+    @Benchmark
+    public List<Post> kWayMerge() {
+        return mergeEngine.merge(followingIds, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Post> activeAuthorsThenMerge() {
+        List<Long> active = authorActivityService.findRecentlyActiveAuthors(followingIds, LocalDateTime.now().minusDays(ACTIVE_WINDOW_DAYS), MAX_FAN_IN);
+        return mergeEngine.merge(active, null, PAGE_SIZE);
+    }
+
+    // FollowingFeedMergeEngine 이 쓰는 head 조회 두 개만 jdbc 로 구현한다
+    private static PostRepository jdbcPostRepository(Connection connection) {
+        return (PostRepository) Proxy.newProxyInstance(PostRepository.class.getClassLoader(), new Class<?>[]{PostRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findHeadByAuthorIdIn" -> findHead(connection, (Collection<?>) args[0], null, ((Pageable) args[1]).getPageSize());
+                    case "findHeadByAuthorIdInBefore" -> findHead(connection, (Collection<?>) args[0],
+                            FeedCursor.ofCreatedAt((LocalDateTime) args[1], (Long) args[2]), ((Pageable) args[3]).getPageSize());
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static List<Post> findHead(Connection connection, Collection<?> authorIds, FeedCursor before, int limit) throws SQLException {
+        String placeholders = authorIds.stream().map(id -> "?").collect(Collectors.joining(","));
+        String seek = before == null ? "" : "AND (created_at < ? OR (created_at = ? AND id < ?)) ";
+        String sql = "SELECT id, author_id, created_at FROM posts WHERE is_deleted = FALSE AND author_id IN (" + placeholders + ") "
+                + seek + "ORDER BY created_at DESC, id DESC LIMIT ?";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int index = 1;
+            for (Object authorId : authorIds) {
+                statement.setLong(index++, ((Number) authorId).longValue());
+            }
+            if (before != null) {
+                Timestamp createdAt = Timestamp.valueOf(before.createdAt());
+                statement.setTimestamp(index++, createdAt);
+                statement.setTimestamp(index++, createdAt);
+                statement.setLong(index++, before.id());
+            }
+            statement.setInt(index, limit);
+            List<Post> rows = new ArrayList<>(limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    rows.add(post(resultSet.getLong(1), resultSet.getLong(2), resultSet.getTimestamp(3).toLocalDateTime()));
+                }
+            }
+            return rows;
+        }
+    }
+
+    private static Post post(long id, long authorId, LocalDateTime createdAt) {
+        Post post = Post.ofAll(id, "", "", authorId, 0L, 0L, false, new ArrayList<>());
+        setField(post, BaseTimeEntity.class, "createdAt", createdAt);
+        return post;
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        setField(target, target.getClass(), name, value);
+    }
+
+    private static void setField(Object target, Class<?> type, String name, Object value) {
+        Field field = ReflectionUtils.findField(type, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
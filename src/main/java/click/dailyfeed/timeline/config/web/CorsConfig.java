@@ -1,5 +1,6 @@
 package click.dailyfeed.timeline.config.web;
 
+import click.dailyfeed.timeline.domain.timeline.cursor.NextCursorHeader;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -12,6 +13,7 @@ public class CorsConfig implements WebMvcConfigurer {
                 .allowedOrigins("http://localhost:3000", "http://localhost:3001")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(NextCursorHeader.NAME)
                 .allowCredentials(true)
                 .maxAge(3600);
     }
@@ -0,0 +1,41 @@
+package click.dailyfeed.timeline.domain.comment.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글별 좋아요 수, 대댓글 수 카운터
+ * comment_likes 와 comments 를 매번 집계하지 않도록 이벤트로 증감시키고, 주기적으로 원본 컬렉션 기준으로 재계산한다.
+ * reply_count 가 없는 문서는 대댓글 수가 추가되기 전에 만들어진 카운터로, 조회 시점에 채워진다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "comment_counters")
+public class CommentCounterDocument {
+    public static final String LIKE_COUNT = "like_count";
+    public static final String REPLY_COUNT = "reply_count";
+    public static final String UPDATED_AT = "updated_at";
+
+    @Id
+    private Long commentPk;
+
+    @Field(LIKE_COUNT)
+    private Long likeCount;
+
+    @Field(REPLY_COUNT)
+    private Long replyCount;
+
+    @Field(UPDATED_AT)
+    private LocalDateTime updatedAt;
+
+    public static CommentCounterDocument of(Long commentPk, Long likeCount, Long replyCount) {
+        return new CommentCounterDocument(commentPk, likeCount, replyCount, LocalDateTime.now());
+    }
+}
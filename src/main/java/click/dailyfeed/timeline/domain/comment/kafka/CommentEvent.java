@@ -0,0 +1,32 @@
+package click.dailyfeed.timeline.domain.comment.kafka;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * content 서비스가 발행하는 댓글 작성/삭제 이벤트 중 카운터 갱신에 필요한 필드
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CommentEvent {
+    private Long postPk;
+    private Long commentPk;
+    private Long parentPk;
+    private Type type;
+    // 댓글 작성 시각 (작성 이벤트에 없으면 수신 시각으로 간주, 삭제 이벤트에 없으면 알 수 없음)
+    private LocalDateTime createdAt;
+
+    public enum Type {
+        CREATE, DELETE
+    }
+
+    public long delta() {
+        return type == Type.CREATE ? 1L : -1L;
+    }
+}
@@ -0,0 +1,60 @@
+package click.dailyfeed.timeline.domain.comment.kafka;
+
+import click.dailyfeed.timeline.domain.comment.service.CommentCounterService;
+import click.dailyfeed.timeline.domain.post.service.PostActivityService;
+import click.dailyfeed.timeline.domain.post.service.PostCounterService;
+import click.dailyfeed.timeline.domain.timeline.service.MostCommentedLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CommentEventKafkaListener {
+    private final PostCounterService postCounterService;
+    private final CommentCounterService commentCounterService;
+    private final MostCommentedLeaderboardService mostCommentedLeaderboardService;
+    private final PostActivityService postActivityService;
+
+    @KafkaListener(
+            topics = "${dailyfeed.services.timeline.counters.comment-topic}",
+            groupId = "${spring.application.name}-counters",
+            properties = {
+                    "spring.json.value.default.type=click.dailyfeed.timeline.domain.comment.kafka.CommentEvent",
+                    "spring.json.use.type.headers=false"
+            }
+    )
+    public void onComment(CommentEvent event, Acknowledgment acknowledgment) {
+        if (event != null && event.getPostPk() != null && event.getType() != null) {
+            log.debug("comment event, postPk={}, commentPk={}, type={}", event.getPostPk(), event.getCommentPk(), event.getType());
+            postCounterService.incrementCommentCount(event.getPostPk(), event.delta());
+            mostCommentedLeaderboardService.onComment(event);
+            if (event.getParentPk() != null) {
+                commentCounterService.incrementReplyCount(event.getParentPk(), event.delta());
+            }
+            if (event.getType() == CommentEvent.Type.CREATE) {
+                postActivityService.touch(event.getPostPk(), event.getCreatedAt());
+            }
+        }
+        acknowledgment.acknowledge();
+    }
+
+    @KafkaListener(
+            topics = "${dailyfeed.services.timeline.counters.comment-like-topic}",
+            groupId = "${spring.application.name}-counters",
+            properties = {
+                    "spring.json.value.default.type=click.dailyfeed.timeline.domain.comment.kafka.CommentLikeEvent",
+                    "spring.json.use.type.headers=false"
+            }
+    )
+    public void onCommentLike(CommentLikeEvent event, Acknowledgment acknowledgment) {
+        if (event != null && event.getCommentPk() != null && event.getType() != null) {
+            log.debug("comment like event, commentPk={}, type={}", event.getCommentPk(), event.getType());
+            commentCounterService.incrementLikeCount(event.getCommentPk(), event.delta());
+        }
+        acknowledgment.acknowledge();
+    }
+}
@@ -0,0 +1,27 @@
+package click.dailyfeed.timeline.domain.comment.kafka;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * content 서비스가 발행하는 댓글 좋아요/좋아요 취소 이벤트 중 카운터 갱신에 필요한 필드
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class CommentLikeEvent {
+    private Long commentPk;
+    private Long memberId;
+    private Type type;
+
+    public enum Type {
+        LIKE, UNLIKE
+    }
+
+    public long delta() {
+        return type == Type.LIKE ? 1L : -1L;
+    }
+}
@@ -0,0 +1,20 @@
+package click.dailyfeed.timeline.domain.comment.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별, 시간(hour) 단위 댓글 수
+ * 댓글 많은 글 순위의 시간 bucket 재계산에 사용한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostHourlyCommentCountProjection {
+    private Long postPk;
+    private LocalDateTime hour;
+    private Long commentCount;
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -22,29 +23,67 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     Optional<Comment> findByIdAndNotDeleted(@Param("id") Long id);
 
     // 특정 댓글의 대댓글들을 Slice 조회 (Scroll 용도)
-    @Query("SELECT c FROM Comment c WHERE c.parent = :parent AND c.isDeleted = false ORDER BY c.createdAt ASC")
+    @Query("SELECT c FROM Comment c WHERE c.parent = :parent AND c.isDeleted = false ORDER BY c.createdAt ASC, c.id ASC")
     Slice<Comment> findChildrenByParentSlice(@Param("parent") Comment parent, Pageable pageable);
 
+    // 특정 댓글의 대댓글들 - (createdAt, id) 이후 seek 조회 (cursor 방식)
+    @Query("SELECT c FROM Comment c " +
+           "WHERE c.parent = :parent AND c.isDeleted = false " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<Comment> findChildrenByParentSliceAfter(
+            @Param("parent") Comment parent,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
     // 특정 사용자의 댓글들 (Scroll 용도)
-    @Query("SELECT c FROM Comment c WHERE c.authorId = :authorId AND c.isDeleted = false ORDER BY c.createdAt DESC")
+    @Query("SELECT c FROM Comment c WHERE c.authorId = :authorId AND c.isDeleted = false ORDER BY c.createdAt DESC, c.id DESC")
     Slice<Comment> findByAuthorIdAndNotDeleted(@Param("authorId") Long authorId, Pageable pageable);
 
+    // 특정 사용자의 댓글들 - (createdAt, id) 이후 seek 조회 (cursor 방식)
+    @Query("SELECT c FROM Comment c " +
+           "WHERE c.authorId = :authorId AND c.isDeleted = false " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Comment> findByAuthorIdAndNotDeletedBefore(
+            @Param("authorId") Long authorId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
     // 특정 게시글의 최상위 댓글들을 대댓글 개수와 함께 조회 (Scroll 용도)
     // 대댓글 개수를 포함한 Projection 을 반환
-    @Query("SELECT c FROM Comment c INNER JOIN FETCH c.post WHERE c.post.id = :postId AND c.parent IS NULL AND c.isDeleted = false ORDER BY c.createdAt ASC")
+    @Query("SELECT c FROM Comment c INNER JOIN FETCH c.post WHERE c.post.id = :postId AND c.parent IS NULL AND c.isDeleted = false ORDER BY c.createdAt ASC, c.id ASC")
     Slice<Comment> findTopLevelCommentsByPostId(@Param("postId") Long postId, Pageable pageable);
 
-    // 특정 댓글들의 대댓글 개수를 조회
+    // 특정 게시글의 최상위 댓글들 - (createdAt, id) 이후 seek 조회 (cursor 방식)
+    @Query("SELECT c FROM Comment c INNER JOIN FETCH c.post " +
+           "WHERE c.post.id = :postId AND c.parent IS NULL AND c.isDeleted = false " +
+           "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) " +
+           "ORDER BY c.createdAt ASC, c.id ASC")
+    Slice<Comment> findTopLevelCommentsByPostIdAfter(
+            @Param("postId") Long postId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    // 여러 댓글의 대댓글을 부모마다 앞에서 perParent 개까지만 한 번에 조회 (스레드 미리 읽기, 부모별 정렬은 호출한 쪽에서 유지)
+    // 대댓글이 많은 부모가 있어도 읽는 행 수가 parentIds 크기 * perParent 를 넘지 않는다 (MySQL 8 window function)
+    @Query(value = "SELECT * FROM (" +
+                   "SELECT c.*, ROW_NUMBER() OVER (PARTITION BY c.parent_id ORDER BY c.created_at ASC, c.id ASC) AS sibling_rank " +
+                   "FROM comments c WHERE c.parent_id IN (:parentIds) AND c.is_deleted = false" +
+                   ") ranked WHERE ranked.sibling_rank <= :perParent ORDER BY ranked.created_at ASC, ranked.id ASC",
+           nativeQuery = true)
+    List<Comment> findChildrenByParentIds(@Param("parentIds") Set<Long> parentIds, @Param("perParent") int perParent);
+
+    // 특정 댓글들의 대댓글 개수를 조회 (comment_counters 가 없는 댓글을 채우거나 재계산할 때만 사용)
     @Query("SELECT c.parent.id as parentId, COUNT(c) as replyCount " +
            "FROM Comment c " +
            "WHERE c.parent.id IN :parentIds AND c.isDeleted = false " +
            "GROUP BY c.parent.id")
     List<ReplyCountProjection> countRepliesByParentIds(@Param("parentIds") Set<Long> parentIds);
 
-    // 특정 댓글(parentId)의 대댓글 개수 를 조회
-    @Query("SELECT count(c) FROM Comment c WHERE c.parent.id = :parentId AND c.isDeleted = false")
-    Long countCommentByParentId(Long parentId);
-
     // 대댓글 개수 조회를 위한 Projection 인터페이스
     interface ReplyCountProjection {
         Long getParentId();
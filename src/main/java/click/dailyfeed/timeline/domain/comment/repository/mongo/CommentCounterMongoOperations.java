@@ -0,0 +1,108 @@
+package click.dailyfeed.timeline.domain.comment.repository.mongo;
+
+import click.dailyfeed.timeline.domain.comment.document.CommentCounterDocument;
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Component
+public class CommentCounterMongoOperations {
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 이미 존재하는 카운터 필드만 증감한다.
+     * 카운터나 필드(reply_count 가 없던 기존 카운터)가 없으면 원본 컬렉션 기준으로 채워야 하므로, 여기서 새로 만들면 과거 건수가 빠진 값이 된다.
+     * @return 카운터 필드가 있어 반영되었는지 여부
+     */
+    public boolean increment(Long commentPk, String field, long delta) {
+        return mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(commentPk).and(field).exists(true)),
+                new Update().inc(field, delta).set(CommentCounterDocument.UPDATED_AT, LocalDateTime.now()),
+                CommentCounterDocument.class
+        ).getMatchedCount() > 0;
+    }
+
+    /**
+     * 없는 카운터만 생성 (그 사이 다른 요청이 먼저 만든 카운터는 덮어쓰지 않음)
+     * @return 이번 호출로 새로 만들어진 카운터의 댓글 id
+     */
+    public Set<Long> insertIfAbsent(List<CommentCounterDocument> counters) {
+        if (counters.isEmpty()) {
+            return Set.of();
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CommentCounterDocument.class);
+        counters.forEach(counter -> bulk.upsert(
+                Query.query(Criteria.where("_id").is(counter.getCommentPk())),
+                new Update()
+                        .setOnInsert(CommentCounterDocument.LIKE_COUNT, counter.getLikeCount())
+                        .setOnInsert(CommentCounterDocument.REPLY_COUNT, counter.getReplyCount())
+                        .setOnInsert(CommentCounterDocument.UPDATED_AT, counter.getUpdatedAt())
+        ));
+        return bulk.execute().getUpserts().stream()
+                .map(upsert -> counters.get(upsert.getIndex()).getCommentPk())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * reply_count 가 없는 기존 카운터에만 대댓글 수를 채운다 (그 사이 채워진 값은 덮어쓰지 않음)
+     * @return 이번 호출로 채워진 카운터 수
+     */
+    public int fillReplyCountIfAbsent(List<CommentCounterDocument> counters) {
+        if (counters.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CommentCounterDocument.class);
+        counters.forEach(counter -> bulk.updateOne(
+                Query.query(Criteria.where("_id").is(counter.getCommentPk()).and(CommentCounterDocument.REPLY_COUNT).exists(false)),
+                new Update().set(CommentCounterDocument.REPLY_COUNT, counter.getReplyCount())
+        ));
+        return bulk.execute().getModifiedCount();
+    }
+
+    /**
+     * 재계산 결과로 덮어쓰기
+     * 재계산 전에 읽어 둔 카운터(observed)의 updated_at 이 그대로인 경우에만 덮어쓴다.
+     * 그 사이 증감($inc)이 반영된 카운터는 재계산 값으로 지우지 않고 다음 reconcile 로 넘긴다. 읽어 둔 카운터가 없으면 없는 경우에만 만든다.
+     * @return 덮어쓰거나 새로 만든 카운터 수
+     */
+    public int overwriteIfUnchanged(Map<Long, CommentCounterDocument> observed, List<CommentCounterDocument> counters) {
+        if (counters.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CommentCounterDocument.class);
+        counters.forEach(counter -> {
+            CommentCounterDocument before = observed.get(counter.getCommentPk());
+            if (before == null) {
+                bulk.upsert(
+                        Query.query(Criteria.where("_id").is(counter.getCommentPk())),
+                        new Update()
+                                .setOnInsert(CommentCounterDocument.LIKE_COUNT, counter.getLikeCount())
+                                .setOnInsert(CommentCounterDocument.REPLY_COUNT, counter.getReplyCount())
+                                .setOnInsert(CommentCounterDocument.UPDATED_AT, counter.getUpdatedAt())
+                );
+                return;
+            }
+            bulk.updateOne(
+                    Query.query(Criteria.where("_id").is(counter.getCommentPk()).and(CommentCounterDocument.UPDATED_AT).is(before.getUpdatedAt())),
+                    new Update()
+                            .set(CommentCounterDocument.LIKE_COUNT, counter.getLikeCount())
+                            .set(CommentCounterDocument.REPLY_COUNT, counter.getReplyCount())
+                            .set(CommentCounterDocument.UPDATED_AT, counter.getUpdatedAt())
+            );
+        });
+        BulkWriteResult result = bulk.execute();
+        return result.getMatchedCount() + result.getUpserts().size();
+    }
+}
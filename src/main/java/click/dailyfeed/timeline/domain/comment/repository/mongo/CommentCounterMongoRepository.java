@@ -0,0 +1,12 @@
+package click.dailyfeed.timeline.domain.comment.repository.mongo;
+
+import click.dailyfeed.timeline.domain.comment.document.CommentCounterDocument;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface CommentCounterMongoRepository extends MongoRepository<CommentCounterDocument, Long> {
+    // 재계산 작업에서 _id 순서로 구간을 나누어 순회
+    List<CommentCounterDocument> findByCommentPkGreaterThanOrderByCommentPkAsc(Long commentPk, Pageable pageable);
+}
@@ -0,0 +1,54 @@
+package click.dailyfeed.timeline.domain.comment.repository.mongo;
+
+import click.dailyfeed.timeline.domain.comment.document.CommentLikeDocument;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+@RequiredArgsConstructor
+@Component
+public class CommentLikeMongoOperations {
+    private static final String MEMBER_ID = "member_id";
+    private static final String COMMENT_PK = "comment_pk";
+
+    private final MongoTemplate mongoTemplate;
+
+    // 회원별 좋아요 여부 조회용 인덱스 ({member_id, comment_pk} 만으로 응답하는 covered query)
+    @PostConstruct
+    public void ensureMemberIndex() {
+        mongoTemplate.indexOps(CommentLikeDocument.class).createIndex(
+                new Index().on(MEMBER_ID, Sort.Direction.ASC)
+                        .on(COMMENT_PK, Sort.Direction.ASC)
+                        .named("member_id_comment_pk")
+        );
+    }
+
+    /**
+     * commentPks 중 회원이 좋아요를 누른 댓글 id
+     * 댓글의 전체 좋아요 도큐먼트를 읽지 않고, 회원의 좋아요 중 해당 댓글 것만 comment_pk 필드로 읽는다.
+     */
+    public Set<Long> findLikedCommentPks(Long memberId, Collection<Long> commentPks) {
+        if (memberId == null || commentPks.isEmpty()) {
+            return Set.of();
+        }
+        Query query = Query.query(Criteria.where(MEMBER_ID).is(memberId).and(COMMENT_PK).in(commentPks));
+        query.fields().include(COMMENT_PK).exclude("_id");
+
+        Set<Long> liked = new HashSet<>();
+        mongoTemplate.getCollection(mongoTemplate.getCollectionName(CommentLikeDocument.class))
+                .find(query.getQueryObject())
+                .projection(query.getFieldsObject())
+                .forEach((Document document) -> liked.add(((Number) document.get(COMMENT_PK)).longValue()));
+        return liked;
+    }
+}
@@ -1,18 +1,25 @@
 package click.dailyfeed.timeline.domain.comment.repository.mongo;
 
 import click.dailyfeed.timeline.domain.comment.projection.PostCommentCountProjection;
+import click.dailyfeed.timeline.domain.comment.projection.PostHourlyCommentCountProjection;
+import click.dailyfeed.timeline.domain.post.projection.PostActivityProjection;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -57,11 +64,39 @@ public class CommentMongoAggregation {
         return results.getMappedResults().isEmpty() ? 0L : results.getMappedResults().get(0).getCommentCount();
     }
 
-    public List<PostCommentCountProjection> findTopPostsByCommentCount(Pageable pageable) {
+    /**
+     * 댓글 수 기준 (commentCount, post_pk) 역순 seek 조회 (cursor 방식)
+     * $skip 없이 직전 페이지 마지막 위치 이후부터 limit 개를 조회한다.
+     * @param since 이 시각 이후 작성된 댓글만 센다 (null 이면 전체 기간)
+     */
+    public List<PostCommentCountProjection> findTopPostsByCommentCountAfter(LocalDateTime since, FeedCursor after, int limit) {
         Aggregation aggregation = Aggregation.newAggregation(
-                Aggregation.match(Criteria.where("is_deleted").is(false)),
+                Aggregation.match(notDeletedSince(since)),
                 Aggregation.group("post_pk").count().as("commentCount"),
-                Aggregation.sort(Sort.Direction.DESC, "commentCount"),
+                Aggregation.match(new Criteria().orOperator(
+                        Criteria.where("commentCount").lt(after.key()),
+                        Criteria.where("commentCount").is(after.key()).and("_id").lt(after.id())
+                )),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "commentCount").and(Sort.by(Sort.Direction.DESC, "_id"))),
+                Aggregation.limit(limit),
+                Aggregation.project()
+                        .andExpression("_id").as("postPk")
+                        .andInclude("commentCount")
+                        .andExclude("_id")
+        );
+
+        AggregationResults<PostCommentCountProjection> results =
+                mongoTemplate.aggregate(aggregation, "comments", PostCommentCountProjection.class);
+
+        return results.getMappedResults();
+    }
+
+    // since 이 시각 이후 작성된 댓글만 센다 (null 이면 전체 기간)
+    public List<PostCommentCountProjection> findTopPostsByCommentCount(LocalDateTime since, Pageable pageable) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(notDeletedSince(since)),
+                Aggregation.group("post_pk").count().as("commentCount"),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "commentCount").and(Sort.by(Sort.Direction.DESC, "_id"))),
                 Aggregation.skip(pageable.getOffset()),
                 Aggregation.limit(pageable.getPageSize()),
                 Aggregation.project()
@@ -76,4 +111,64 @@ public class CommentMongoAggregation {
 
         return results.getMappedResults();
     }
+
+    /**
+     * 전체 게시글의 댓글 수 (댓글 많은 글 순위 재계산용)
+     * 결과 건수가 게시글 수만큼 커질 수 있으므로 cursor 로 흘려서 읽는다.
+     */
+    public Stream<PostCommentCountProjection> streamCommentCountsByPost() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("is_deleted").is(false)),
+                Aggregation.group("post_pk").count().as("commentCount"),
+                Aggregation.project()
+                        .andExpression("_id").as("postPk")
+                        .andInclude("commentCount")
+                        .andExclude("_id")
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        return mongoTemplate.aggregateStream(aggregation, "comments", PostCommentCountProjection.class);
+    }
+
+    /**
+     * 게시글별 마지막 댓글 작성 시각 (최근 활동 인덱스 재구성용)
+     */
+    public Stream<PostActivityProjection> streamLastCommentAtByPost() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("is_deleted").is(false)),
+                Aggregation.group("post_pk").max("created_at").as("lastActivityAt"),
+                Aggregation.project()
+                        .andExpression("_id").as("postPk")
+                        .andInclude("lastActivityAt")
+                        .andExclude("_id")
+        ).withOptions(AggregationOptions.builder().allowDiskUse(true).build());
+
+        return mongoTemplate.aggregateStream(aggregation, "comments", PostActivityProjection.class);
+    }
+
+    private static Criteria notDeletedSince(LocalDateTime since) {
+        Criteria criteria = Criteria.where("is_deleted").is(false);
+        return since == null ? criteria : criteria.and("created_at").gte(since);
+    }
+
+    /**
+     * since 이후 작성된 댓글의 게시글별, 시간(hour) 단위 댓글 수 (댓글 많은 글 순위의 시간 bucket 재계산용)
+     */
+    public List<PostHourlyCommentCountProjection> countCommentsByPostAndHourSince(LocalDateTime since) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("is_deleted").is(false).and("created_at").gte(since)),
+                Aggregation.project("post_pk")
+                        .and(DateOperators.dateOf("created_at").truncate("hour")).as("hour"),
+                Aggregation.group("post_pk", "hour").count().as("commentCount"),
+                Aggregation.project()
+                        .and("_id.post_pk").as("postPk")
+                        .and("_id.hour").as("hour")
+                        .andInclude("commentCount")
+                        .andExclude("_id")
+        );
+
+        AggregationResults<PostHourlyCommentCountProjection> results =
+                mongoTemplate.aggregate(aggregation, "comments", PostHourlyCommentCountProjection.class);
+
+        return results.getMappedResults();
+    }
 }
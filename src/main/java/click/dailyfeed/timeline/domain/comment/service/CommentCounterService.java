@@ -0,0 +1,127 @@
+package click.dailyfeed.timeline.domain.comment.service;
+
+import click.dailyfeed.timeline.domain.comment.document.CommentCounterDocument;
+import click.dailyfeed.timeline.domain.comment.projection.CommentLikeCountProjection;
+import click.dailyfeed.timeline.domain.comment.repository.jpa.CommentRepository;
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentCounterMongoOperations;
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentCounterMongoRepository;
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentLikeMongoAggregation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 좋아요 수, 대댓글 수 조회
+ * comment_counters 를 댓글 id 로 바로 조회하고, 카운터가 아직 없는 댓글만 comment_likes, comments 를 집계하여 채운다.
+ * 대댓글 수는 대댓글 작성/삭제 이벤트로 부모 댓글의 카운터를 증감한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class CommentCounterService {
+    private final CommentCounterMongoRepository commentCounterMongoRepository;
+    private final CommentCounterMongoOperations commentCounterMongoOperations;
+    private final CommentLikeMongoAggregation commentLikeMongoAggregation;
+    private final CommentRepository commentRepository;
+
+    public Map<Long, CommentCounterDocument> getCounters(Set<Long> commentPks) {
+        if (commentPks == null || commentPks.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, CommentCounterDocument> result = new HashMap<>();
+        List<CommentCounterDocument> withoutReplyCount = new ArrayList<>();
+        commentCounterMongoRepository.findAllById(commentPks).forEach(counter -> {
+            if (counter.getReplyCount() == null) {
+                withoutReplyCount.add(counter);
+            } else {
+                result.put(counter.getCommentPk(), counter);
+            }
+        });
+
+        if (!withoutReplyCount.isEmpty()) {
+            Map<Long, Long> replyCountMap = countReplies(withoutReplyCount.stream().map(CommentCounterDocument::getCommentPk).collect(Collectors.toSet()));
+            List<CommentCounterDocument> filled = withoutReplyCount.stream()
+                    .map(counter -> CommentCounterDocument.of(counter.getCommentPk(), counter.getLikeCount(), replyCountMap.getOrDefault(counter.getCommentPk(), 0L)))
+                    .toList();
+            commentCounterMongoOperations.fillReplyCountIfAbsent(filled);
+            filled.forEach(counter -> result.put(counter.getCommentPk(), counter));
+        }
+
+        if (result.size() < commentPks.size()) {
+            Set<Long> missingCommentPks = new HashSet<>(commentPks);
+            missingCommentPks.removeAll(result.keySet());
+
+            List<CommentCounterDocument> seeded = recount(missingCommentPks);
+            commentCounterMongoOperations.insertIfAbsent(seeded);
+            seeded.forEach(counter -> result.put(counter.getCommentPk(), counter));
+        }
+        return result;
+    }
+
+    public void incrementLikeCount(Long commentPk, long delta) {
+        increment(commentPk, CommentCounterDocument.LIKE_COUNT, delta);
+    }
+
+    public void incrementReplyCount(Long parentCommentPk, long delta) {
+        increment(parentCommentPk, CommentCounterDocument.REPLY_COUNT, delta);
+    }
+
+    /**
+     * 카운터가 아직 없으면 버리지 않고 이 댓글의 카운터를 원본 컬렉션 기준으로 만든다. (PostCounterService 와 같은 방식)
+     * reply_count 가 없던 기존 카운터는 같은 재계산 값으로 reply_count 만 채운다.
+     * 원본 컬렉션은 이벤트 발행 전에 기록되므로 재계산 값에 이번 증감이 포함된다.
+     * 그 사이 조회 요청(getCounters)이 먼저 카운터나 reply_count 를 채웠다면 그 재계산이 이번 증감 이전이었을 수 있으므로 증감을 다시 반영한다.
+     */
+    private void increment(Long commentPk, String field, long delta) {
+        if (commentCounterMongoOperations.increment(commentPk, field, delta)) {
+            return;
+        }
+        List<CommentCounterDocument> recounted = recount(Set.of(commentPk));
+        if (!commentCounterMongoOperations.insertIfAbsent(recounted).isEmpty()) {
+            return;
+        }
+        if (CommentCounterDocument.REPLY_COUNT.equals(field) && commentCounterMongoOperations.fillReplyCountIfAbsent(recounted) > 0) {
+            return;
+        }
+        commentCounterMongoOperations.increment(commentPk, field, delta);
+    }
+
+    // 원본 컬렉션 기준으로 다시 계산하여 덮어쓴다 (이벤트 중복/유실로 어긋난 값 보정)
+    // 재계산하는 동안 증감된 카운터는 건너뛰고 다음 reconcile 에서 다시 계산한다
+    public int reconcile(Collection<Long> commentPks) {
+        Map<Long, CommentCounterDocument> observed = new HashMap<>();
+        commentCounterMongoRepository.findAllById(commentPks).forEach(counter -> observed.put(counter.getCommentPk(), counter));
+        List<CommentCounterDocument> recounted = recount(commentPks);
+        int written = commentCounterMongoOperations.overwriteIfUnchanged(observed, recounted);
+        if (written < recounted.size()) {
+            log.debug("skipped {} comment counters updated during reconcile", recounted.size() - written);
+        }
+        return written;
+    }
+
+    private List<CommentCounterDocument> recount(Collection<Long> commentPks) {
+        Set<Long> targets = new HashSet<>(commentPks);
+        Map<Long, Long> likeCountMap = commentLikeMongoAggregation.countLikesByCommentPks(targets).stream()
+                .collect(Collectors.toMap(CommentLikeCountProjection::getCommentPk, CommentLikeCountProjection::getLikeCount));
+        Map<Long, Long> replyCountMap = countReplies(targets);
+
+        return targets.stream()
+                .map(commentPk -> CommentCounterDocument.of(commentPk, likeCountMap.getOrDefault(commentPk, 0L), replyCountMap.getOrDefault(commentPk, 0L)))
+                .collect(Collectors.toList());
+    }
+
+    private Map<Long, Long> countReplies(Set<Long> commentPks) {
+        return commentRepository.countRepliesByParentIds(commentPks).stream()
+                .collect(Collectors.toMap(CommentRepository.ReplyCountProjection::getParentId, CommentRepository.ReplyCountProjection::getReplyCount));
+    }
+}
@@ -0,0 +1,23 @@
+package click.dailyfeed.timeline.domain.member.kafka;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * member 서비스가 발행하는 팔로우/언팔로우 이벤트 중 팔로워 색인, 팔로잉 캐시 갱신에 필요한 필드
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MemberFollowEvent {
+    private Long followerId;
+    private Long followingId;
+    private Type type;
+
+    public enum Type {
+        FOLLOW, UNFOLLOW
+    }
+}
@@ -0,0 +1,39 @@
+package click.dailyfeed.timeline.domain.member.kafka;
+
+import click.dailyfeed.timeline.domain.member.redis.FollowerIndexRedisService;
+import click.dailyfeed.timeline.domain.member.service.FollowingsCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberFollowEventKafkaListener {
+    private final FollowerIndexRedisService followerIndexRedisService;
+    private final FollowingsCacheService followingsCacheService;
+
+    @KafkaListener(
+            topics = "${dailyfeed.services.timeline.fan-out.follow-topic}",
+            groupId = "${spring.application.name}-fan-out",
+            properties = {
+                    "spring.json.value.default.type=click.dailyfeed.timeline.domain.member.kafka.MemberFollowEvent",
+                    "spring.json.use.type.headers=false"
+            }
+    )
+    public void onMemberFollow(MemberFollowEvent event, Acknowledgment acknowledgment) {
+        if (event != null && event.getFollowerId() != null && event.getFollowingId() != null && event.getType() != null) {
+            log.debug("member follow event, followerId={}, followingId={}, type={}", event.getFollowerId(), event.getFollowingId(), event.getType());
+            boolean follow = event.getType() == MemberFollowEvent.Type.FOLLOW;
+            if (follow) {
+                followerIndexRedisService.addFollower(event.getFollowingId(), event.getFollowerId());
+            } else {
+                followerIndexRedisService.removeFollower(event.getFollowingId(), event.getFollowerId());
+            }
+            followingsCacheService.onFollow(event.getFollowerId(), event.getFollowingId(), follow);
+        }
+        acknowledgment.acknowledge();
+    }
+}
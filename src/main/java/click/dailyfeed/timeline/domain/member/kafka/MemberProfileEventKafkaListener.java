@@ -0,0 +1,34 @@
+package click.dailyfeed.timeline.domain.member.kafka;
+
+import click.dailyfeed.timeline.domain.member.service.MemberSummaryCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MemberProfileEventKafkaListener {
+    private final MemberSummaryCacheService memberSummaryCacheService;
+
+    /**
+     * near-cache 는 인스턴스마다 따로 존재하므로 모든 인스턴스가 이벤트를 받도록 인스턴스별 group id 를 사용한다.
+     */
+    @KafkaListener(
+            topics = "${dailyfeed.services.timeline.member-cache.profile-updated-topic}",
+            groupId = "${spring.application.name}-member-summary-cache-${random.uuid}",
+            properties = {
+                    "spring.json.value.default.type=click.dailyfeed.timeline.domain.member.kafka.MemberProfileUpdatedEvent",
+                    "spring.json.use.type.headers=false"
+            }
+    )
+    public void onMemberProfileUpdated(MemberProfileUpdatedEvent event, Acknowledgment acknowledgment) {
+        if (event != null && event.getMemberId() != null) {
+            log.debug("evict member summary cache, memberId={}", event.getMemberId());
+            memberSummaryCacheService.evict(event.getMemberId());
+        }
+        acknowledgment.acknowledge();
+    }
+}
@@ -0,0 +1,15 @@
+package click.dailyfeed.timeline.domain.member.kafka;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * member 서비스가 발행하는 프로필 변경 이벤트 중 캐시 무효화에 필요한 필드만 읽는다.
+ */
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MemberProfileUpdatedEvent {
+    private Long memberId;
+}
@@ -0,0 +1,105 @@
+package click.dailyfeed.timeline.domain.member.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 작성자별 팔로워 색인 (followers:{authorId} = 팔로워 memberId SET)
+ * member 서비스에는 토큰 없이 팔로워 목록을 조회할 수 있는 API 가 없으므로, 팔로우 이벤트와 팔로잉 목록 조회 결과로 이 서비스가 직접 유지한다.
+ * fan-out 시 작성자의 팔로워를 SSCAN 으로 나눠 읽는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class FollowerIndexRedisService {
+    private static final String FOLLOWERS_KEY = "followers:";
+    private static final String REGISTERED_KEY = "followers_registered:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void addFollower(Long authorId, Long followerId) {
+        stringRedisTemplate.opsForSet().add(FOLLOWERS_KEY + authorId, String.valueOf(followerId));
+    }
+
+    public void removeFollower(Long authorId, Long followerId) {
+        stringRedisTemplate.opsForSet().remove(FOLLOWERS_KEY + authorId, String.valueOf(followerId));
+    }
+
+    public long countFollowers(Long authorId) {
+        Long size = stringRedisTemplate.opsForSet().size(FOLLOWERS_KEY + authorId);
+        return size == null ? 0L : size;
+    }
+
+    /**
+     * authorIds 중 followerId 가 팔로우하는 작성자만 반환 (SISMEMBER 를 pipeline 한 번으로 전송)
+     */
+    public List<Long> filterFollowedBy(Long followerId, Collection<Long> authorIds) {
+        if (authorIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> targets = List.copyOf(authorIds);
+        String follower = String.valueOf(followerId);
+        List<Object> replies = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            targets.forEach(authorId -> stringConnection.sIsMember(FOLLOWERS_KEY + authorId, follower));
+            return null;
+        });
+        List<Long> followed = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            if (Boolean.TRUE.equals(replies.get(i))) {
+                followed.add(targets.get(i));
+            }
+        }
+        return followed;
+    }
+
+    /**
+     * 팔로잉 목록 전체를 색인에 반영한다. (팔로우 이벤트 도입 이전의 관계 보완)
+     * refreshInterval 동안은 회원당 한 번만 수행하며, 팔로잉 목록은 실제로 반영할 때만 조회한다.
+     */
+    public void registerFollowings(Long followerId, Supplier<Collection<Long>> followingIds, Duration refreshInterval) {
+        Boolean first = stringRedisTemplate.opsForValue().setIfAbsent(REGISTERED_KEY + followerId, "1", refreshInterval);
+        if (!Boolean.TRUE.equals(first)) {
+            return;
+        }
+        Collection<Long> targets = followingIds.get();
+        if (targets.isEmpty()) {
+            return;
+        }
+        String follower = String.valueOf(followerId);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            targets.forEach(followingId -> stringConnection.sAdd(FOLLOWERS_KEY + followingId, follower));
+            return null;
+        });
+    }
+
+    // 팔로워를 batchSize 개씩 나눠 전달한다
+    public void scanFollowers(Long authorId, int batchSize, Consumer<List<Long>> batchConsumer) {
+        ScanOptions options = ScanOptions.scanOptions().count(batchSize).build();
+        try (Cursor<String> cursor = stringRedisTemplate.opsForSet().scan(FOLLOWERS_KEY + authorId, options)) {
+            List<Long> batch = new ArrayList<>(batchSize);
+            while (cursor.hasNext()) {
+                batch.add(Long.valueOf(cursor.next()));
+                if (batch.size() >= batchSize) {
+                    batchConsumer.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchConsumer.accept(batch);
+            }
+        }
+    }
+}
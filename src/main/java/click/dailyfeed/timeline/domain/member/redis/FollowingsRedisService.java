@@ -0,0 +1,92 @@
+package click.dailyfeed.timeline.domain.member.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 회원별 팔로잉 id 목록 (followings:{memberId} = 팔로잉 memberId SET) 과 버전 (followings_version:{memberId})
+ * 팔로잉이 없는 회원도 캐시되도록 SET 에는 항상 sentinel 원소를 함께 둔다.
+ * 팔로우/언팔로우 이벤트는 버전을 올리고, SET 이 있으면 원소를 더하거나 뺀다.
+ * member 서비스에서 읽은 전체 목록은 읽기 시작할 때의 버전이 그대로일 때만 반영하여, 그 사이 도착한 이벤트를 덮어쓰지 않는다.
+ */
+@RequiredArgsConstructor
+@Service
+public class FollowingsRedisService {
+    private static final String FOLLOWINGS_KEY = "followings:";
+    private static final String VERSION_KEY = "followings_version:";
+    private static final String SENTINEL = "_";
+
+    // KEYS[1]=followings, KEYS[2]=version, ARGV[1]=FOLLOW|UNFOLLOW, ARGV[2]=followingId, ARGV[3]=ttl seconds
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('INCR', KEYS[2])\n" +
+            "redis.call('EXPIRE', KEYS[2], ARGV[3])\n" +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then\n" +
+            "  if ARGV[1] == 'FOLLOW' then redis.call('SADD', KEYS[1], ARGV[2]) else redis.call('SREM', KEYS[1], ARGV[2]) end\n" +
+            "end\n" +
+            "return version\n",
+            Long.class);
+
+    // KEYS[1]=followings, KEYS[2]=version, ARGV[1]=읽기 시작할 때의 버전, ARGV[2]=ttl seconds, ARGV[3..]=팔로잉 id
+    private static final RedisScript<Long> REPLACE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[2]) or '0'\n" +
+            "if current ~= ARGV[1] then return 0 end\n" +
+            "redis.call('DEL', KEYS[1])\n" +
+            "for i = 3, #ARGV, 5000 do\n" +
+            "  redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 4999, #ARGV)))\n" +
+            "end\n" +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2])\n" +
+            "return 1\n",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 캐시된 팔로잉 id 목록, 없으면 null
+     */
+    public List<Long> get(Long memberId) {
+        Set<String> members = stringRedisTemplate.opsForSet().members(FOLLOWINGS_KEY + memberId);
+        if (members == null || members.isEmpty()) {
+            return null;
+        }
+        List<Long> followingIds = new ArrayList<>(members.size() - 1);
+        for (String member : members) {
+            if (!SENTINEL.equals(member)) {
+                followingIds.add(Long.valueOf(member));
+            }
+        }
+        return followingIds;
+    }
+
+    public String version(Long memberId) {
+        String version = stringRedisTemplate.opsForValue().get(VERSION_KEY + memberId);
+        return version == null ? "0" : version;
+    }
+
+    /**
+     * expectedVersion 이후 이벤트가 없었을 때만 목록을 교체한다.
+     * @return 반영 여부
+     */
+    public boolean replaceIfVersion(Long memberId, String expectedVersion, Collection<Long> followingIds, Duration ttl) {
+        List<String> args = new ArrayList<>(followingIds.size() + 3);
+        args.add(expectedVersion);
+        args.add(String.valueOf(ttl.toSeconds()));
+        args.add(SENTINEL);
+        followingIds.forEach(id -> args.add(String.valueOf(id)));
+        Long replaced = stringRedisTemplate.execute(REPLACE_SCRIPT, List.of(FOLLOWINGS_KEY + memberId, VERSION_KEY + memberId), args.toArray());
+        return Long.valueOf(1L).equals(replaced);
+    }
+
+    public void apply(Long followerId, Long followingId, boolean follow, Duration versionTtl) {
+        stringRedisTemplate.execute(APPLY_SCRIPT, List.of(FOLLOWINGS_KEY + followerId, VERSION_KEY + followerId),
+                follow ? "FOLLOW" : "UNFOLLOW", String.valueOf(followingId), String.valueOf(versionTtl.toSeconds()));
+    }
+}
@@ -0,0 +1,65 @@
+package click.dailyfeed.timeline.domain.member.service;
+
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.feign.domain.member.MemberFeignHelper;
+import click.dailyfeed.timeline.domain.member.redis.FollowingsRedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 회원별 팔로잉 id 목록 캐시
+ * 피드 요청마다 member 서비스에서 팔로잉 요약 정보 전체를 받아 Map 으로 만드는 대신, redis SET 에 id 만 보관해 읽는다.
+ * 작성자 요약 정보는 페이지에 실제로 나온 작성자만 MemberSummaryCacheService 로 채운다.
+ * 팔로우/언팔로우 이벤트로 갱신되며, TTL 은 이벤트 유실에 대비한 상한이다.
+ * 결과는 timeline.followings.cache{result=hit|miss} 로 집계한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class FollowingsCacheService {
+    private static final String METRIC_CACHE = "timeline.followings.cache";
+
+    private final FollowingsRedisService followingsRedisService;
+    private final MemberFeignHelper memberFeignHelper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dailyfeed.services.timeline.followings-cache.ttl-hours:6}")
+    private Integer ttlHours;
+
+    /**
+     * @param memberId 토큰의 회원 id (member 서비스는 토큰 기준으로 팔로잉 목록을 돌려준다)
+     */
+    public List<Long> getFollowingIds(Long memberId, String token, HttpServletResponse httpResponse) {
+        List<Long> cached = followingsRedisService.get(memberId);
+        if (cached != null) {
+            meterRegistry.counter(METRIC_CACHE, "result", "hit").increment();
+            return cached;
+        }
+        meterRegistry.counter(METRIC_CACHE, "result", "miss").increment();
+
+        // 목록을 읽는 사이 도착한 팔로우 이벤트가 덮어써지지 않도록, 읽기 전 버전이 그대로일 때만 반영한다
+        String version = followingsRedisService.version(memberId);
+        List<Long> followingIds = memberFeignHelper.getMyFollowingMembers(token, httpResponse).stream()
+                .map(MemberProfileDto.Summary::getMemberId)
+                .toList();
+        if (!followingsRedisService.replaceIfVersion(memberId, version, followingIds, ttl())) {
+            log.debug("followings changed while loading, skip caching, memberId={}", memberId);
+        }
+        return followingIds;
+    }
+
+    public void onFollow(Long followerId, Long followingId, boolean follow) {
+        followingsRedisService.apply(followerId, followingId, follow, ttl());
+    }
+
+    private Duration ttl() {
+        return Duration.ofHours(ttlHours);
+    }
+}
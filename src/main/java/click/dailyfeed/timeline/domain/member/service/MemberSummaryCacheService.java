@@ -0,0 +1,95 @@
+package click.dailyfeed.timeline.domain.member.service;
+
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.feign.domain.member.MemberFeignHelper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 작성자 요약 정보(MemberProfileDto.Summary) near-cache
+ * 피드/댓글 조회마다 같은 작성자를 member 서비스에 반복 조회하지 않도록, 인스턴스 로컬에 크기/TTL 제한을 두고 보관한다.
+ * 여러 건 조회 시에는 캐시에 없는 id 만 feign 으로 조회하여 병합한다.
+ * 프로필 변경은 member-profile-updated 이벤트로 무효화되며, TTL 은 이벤트 유실에 대비한 상한이다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class MemberSummaryCacheService {
+    private final MemberFeignHelper memberFeignHelper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dailyfeed.services.timeline.member-cache.maximum-size:50000}")
+    private Long maximumSize;
+
+    @Value("${dailyfeed.services.timeline.member-cache.ttl-seconds:60}")
+    private Long ttlSeconds;
+
+    private Cache<Long, MemberProfileDto.Summary> cache;
+
+    @PostConstruct
+    void init() {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions 등을 prometheus 로 노출
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "member_summary");
+    }
+
+    public Map<Long, MemberProfileDto.Summary> getMemberMap(Set<Long> memberIds, String token, HttpServletResponse httpResponse) {
+        if (memberIds == null || memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, MemberProfileDto.Summary> result = new HashMap<>(cache.getAllPresent(memberIds));
+        if (result.size() == memberIds.size()) {
+            return result;
+        }
+
+        Set<Long> missingIds = new HashSet<>(memberIds);
+        missingIds.removeAll(result.keySet());
+
+        Map<Long, MemberProfileDto.Summary> fetched = memberFeignHelper.getMemberMap(missingIds, token, httpResponse);
+        if (fetched != null) {
+            fetched.forEach((memberId, summary) -> {
+                if (summary != null) {
+                    cache.put(memberId, summary);
+                    result.put(memberId, summary);
+                }
+            });
+        }
+        return result;
+    }
+
+    public MemberProfileDto.Summary getMemberSummaryById(Long memberId, String token, HttpServletResponse httpResponse) {
+        MemberProfileDto.Summary cached = cache.getIfPresent(memberId);
+        if (cached != null) {
+            return cached;
+        }
+
+        MemberProfileDto.Summary fetched = memberFeignHelper.getMemberSummaryById(memberId, token, httpResponse);
+        if (fetched != null) {
+            cache.put(memberId, fetched);
+        }
+        return fetched;
+    }
+
+    public void evict(Long memberId) {
+        cache.invalidate(memberId);
+    }
+}
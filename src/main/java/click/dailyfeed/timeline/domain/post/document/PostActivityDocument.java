@@ -0,0 +1,29 @@
+package click.dailyfeed.timeline.domain.post.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 마지막 활동 시각 (작성, 댓글 작성, 좋아요 중 가장 최근)
+ * posts 테이블은 content 서비스 소유이므로 컬럼 대신 별도 컬렉션에 두고,
+ * (last_activity_at desc, _id desc) 인덱스로 최근 활동순 피드를 바로 읽는다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "post_activities")
+public class PostActivityDocument {
+    public static final String LAST_ACTIVITY_AT = "last_activity_at";
+
+    @Id
+    private Long postPk;
+
+    @Field(LAST_ACTIVITY_AT)
+    private LocalDateTime lastActivityAt;
+}
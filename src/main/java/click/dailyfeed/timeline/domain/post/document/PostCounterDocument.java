@@ -0,0 +1,45 @@
+package click.dailyfeed.timeline.domain.post.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 좋아요 수, 댓글 수 카운터
+ * post_likes, comments 를 매번 $group 집계하지 않도록 이벤트로 증감시키고, 주기적으로 원본 컬렉션 기준으로 재계산한다.
+ * popularity_score 는 인기 글 정렬용 점수이며 (popularity_score desc, _id desc) 인덱스로 바로 읽는다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "post_counters")
+public class PostCounterDocument {
+    public static final String LIKE_COUNT = "like_count";
+    public static final String COMMENT_COUNT = "comment_count";
+    public static final String POPULARITY_SCORE = "popularity_score";
+    public static final String UPDATED_AT = "updated_at";
+
+    @Id
+    private Long postPk;
+
+    @Field(LIKE_COUNT)
+    private Long likeCount;
+
+    @Field(COMMENT_COUNT)
+    private Long commentCount;
+
+    @Field(POPULARITY_SCORE)
+    private Long popularityScore;
+
+    @Field(UPDATED_AT)
+    private LocalDateTime updatedAt;
+
+    public static PostCounterDocument of(Long postPk, Long likeCount, Long commentCount) {
+        return new PostCounterDocument(postPk, likeCount, commentCount, null, LocalDateTime.now());
+    }
+}
@@ -92,8 +92,4 @@ public class Post extends BaseTimeEntity {
     public boolean isAuthor(Long userId){
         return this.authorId.equals(userId);
     }
-
-    public int getCommentsCount(){
-        return this.comments.size();
-    }
 }
@@ -0,0 +1,22 @@
+package click.dailyfeed.timeline.domain.post.kafka;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * content 서비스가 발행하는 게시글 작성 이벤트 중 타임라인 fan-out, 최근 활동 갱신에 필요한 필드
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PostCreatedEvent {
+    private Long postPk;
+    private Long authorId;
+    // 게시글 작성 시각 (없으면 수신 시각으로 간주)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,42 @@
+package click.dailyfeed.timeline.domain.post.kafka;
+
+import click.dailyfeed.timeline.domain.post.service.PostActivityService;
+import click.dailyfeed.timeline.domain.timeline.service.AuthorActivityService;
+import click.dailyfeed.timeline.domain.timeline.service.TimelineFanOutService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostCreatedEventKafkaListener {
+    private final TimelineFanOutService timelineFanOutService;
+    private final PostActivityService postActivityService;
+    private final AuthorActivityService authorActivityService;
+
+    /**
+     * fan-out 이 끝난 뒤에 ack 한다. (ZADD 는 멱등이므로 재처리되어도 타임라인이 중복되지 않는다)
+     */
+    @KafkaListener(
+            topics = "${dailyfeed.services.timeline.fan-out.post-created-topic}",
+            groupId = "${spring.application.name}-fan-out",
+            properties = {
+                    "spring.json.value.default.type=click.dailyfeed.timeline.domain.post.kafka.PostCreatedEvent",
+                    "spring.json.use.type.headers=false"
+            }
+    )
+    public void onPostCreated(PostCreatedEvent event, Acknowledgment acknowledgment) {
+        if (event != null && event.getPostPk() != null) {
+            log.debug("post created event, postPk={}, authorId={}", event.getPostPk(), event.getAuthorId());
+            postActivityService.touch(event.getPostPk(), event.getCreatedAt());
+            if (event.getAuthorId() != null) {
+                authorActivityService.touch(event.getAuthorId(), event.getCreatedAt());
+            }
+            timelineFanOutService.fanOut(event.getPostPk());
+        }
+        acknowledgment.acknowledge();
+    }
+}
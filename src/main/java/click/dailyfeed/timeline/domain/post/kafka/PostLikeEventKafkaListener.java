@@ -0,0 +1,39 @@
+package click.dailyfeed.timeline.domain.post.kafka;
+
+import click.dailyfeed.timeline.domain.post.service.PostActivityService;
+import click.dailyfeed.timeline.domain.post.service.PostCounterService;
+import click.dailyfeed.timeline.domain.post.service.PostPopularityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostLikeEventKafkaListener {
+    private final PostCounterService postCounterService;
+    private final PostPopularityService postPopularityService;
+    private final PostActivityService postActivityService;
+
+    @KafkaListener(
+            topics = "${dailyfeed.services.timeline.counters.post-like-topic}",
+            groupId = "${spring.application.name}-counters",
+            properties = {
+                    "spring.json.value.default.type=click.dailyfeed.timeline.domain.post.kafka.PostLikeEvent",
+                    "spring.json.use.type.headers=false"
+            }
+    )
+    public void onPostLike(PostLikeEvent event, Acknowledgment acknowledgment) {
+        if (event != null && event.getPostPk() != null && event.getType() != null) {
+            log.debug("post like event, postPk={}, type={}", event.getPostPk(), event.getType());
+            postCounterService.incrementLikeCount(event.getPostPk(), event.delta());
+            postPopularityService.markDirty(event.getPostPk());
+            if (event.getType() == PostLikeEvent.Type.LIKE) {
+                postActivityService.touch(event.getPostPk(), null);
+            }
+        }
+        acknowledgment.acknowledge();
+    }
+}
@@ -25,6 +25,25 @@ public interface TimelinePostMapper {
                 .build();
     }
 
+    // 캐시된 본문(작성자, 통계 제외)에 조회 시점의 작성자 정보와 통계를 채운다
+    default PostDto.Post toPostDto(PostDto.Post body, Boolean liked, MemberProfileDto.Summary author, Long commentCount, Long likeCount) {
+        return PostDto.Post.builder()
+                .id(body.getId())
+                .title(body.getTitle())
+                .content(body.getContent())
+                .authorId(author == null ? null : author.getId())
+                .authorName(author == null ? "탈퇴한 사용자" : author.getDisplayName())
+                .authorHandle(author == null ? "탈퇴한 사용지" : author.getMemberHandle())
+                .authorAvatarUrl(author == null ? null : author.getAvatarUrl())
+                .liked(liked)
+                .viewCount(body.getViewCount())
+                .likeCount(likeCount)
+                .commentCount(commentCount)
+                .createdAt(body.getCreatedAt())
+                .updatedAt(body.getUpdatedAt())
+                .build();
+    }
+
     default PostDto.Post toPostDto(Post post, Boolean liked, MemberProfileDto.Summary author, Long commentCount, Long likeCount) {
         return PostDto.Post.builder()
                 .id(post.getId())
@@ -42,4 +61,23 @@ public interface TimelinePostMapper {
                 .updatedAt(post.getUpdatedAt())
                 .build();
     }
+
+    // 회원과 무관하게 조립된 글에 요청한 회원의 좋아요 여부를 덧씌운다
+    default PostDto.Post withLiked(PostDto.Post post, Boolean liked) {
+        return PostDto.Post.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .authorId(post.getAuthorId())
+                .authorName(post.getAuthorName())
+                .authorHandle(post.getAuthorHandle())
+                .authorAvatarUrl(post.getAuthorAvatarUrl())
+                .liked(liked)
+                .viewCount(post.getViewCount())
+                .likeCount(post.getLikeCount())
+                .commentCount(post.getCommentCount())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,19 @@
+package click.dailyfeed.timeline.domain.post.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글별 활동 시각 (게시글 작성 시각 또는 마지막 댓글 작성 시각)
+ * 최근 활동 인덱스 재구성에 사용한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostActivityProjection {
+    private Long postPk;
+    private LocalDateTime lastActivityAt;
+}
@@ -0,0 +1,45 @@
+package click.dailyfeed.timeline.domain.post.redis;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 게시글 본문 공유 캐시 (post_body:{postId})
+ * 타임라인마다 글을 복제하지 않고 한 벌만 두며, 읽기는 타임라인 페이지 조회 스크립트에서 MGET 으로 함께 읽는다.
+ * 작성자 정보와 좋아요/댓글 수는 담지 않는다. (조회 시점에 카운터에서 채움)
+ */
+@RequiredArgsConstructor
+@Service
+public class PostBodyRedisService {
+    public static final String POST_BODY_KEY = "post_body:";
+
+    @Qualifier("postDtoPostRedisTemplate")
+    private final RedisTemplate<String, PostDto.Post> redisTemplate;
+
+    public void putAll(Collection<PostDto.Post> bodies, Duration ttl) {
+        if (bodies.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, PostDto.Post> ops = (RedisOperations<String, PostDto.Post>) operations;
+                bodies.forEach(body -> ops.opsForValue().set(key(body.getId()), body, ttl));
+                return null;
+            }
+        });
+    }
+
+    private static String key(Long postPk) {
+        return POST_BODY_KEY + postPk;
+    }
+}
@@ -0,0 +1,30 @@
+package click.dailyfeed.timeline.domain.post.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * posts.view_count 일괄 증가
+ * 조회수 버퍼 flush 전용이며, 영속성 컨텍스트를 거치지 않고 JDBC batch 로 한 번에 보낸다.
+ * 실패 시 버퍼로 되돌린 증가량이 이미 반영된 행에 다시 더해지지 않도록 batch 전체를 한 트랜잭션으로 묶는다.
+ */
+@RequiredArgsConstructor
+@Repository
+public class PostViewCountJdbcRepository {
+    private static final String INCREMENT_VIEW_COUNT_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void incrementViewCounts(Map<Long, Long> deltas) {
+        List<Object[]> args = deltas.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate(INCREMENT_VIEW_COUNT_SQL, args);
+    }
+}
@@ -1,6 +1,7 @@
 package click.dailyfeed.timeline.domain.post.repository.jpa;
 
 import click.dailyfeed.timeline.domain.post.entity.Post;
+import click.dailyfeed.timeline.domain.post.projection.PostActivityProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
@@ -8,14 +9,16 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
-    // 인기 게시글 (좋아요 수 기준) - Slice 방식 (Scroll)
-    @Query("SELECT p FROM Post p WHERE p.isDeleted = false ORDER BY (p.viewCount + p.likeCount * 2) DESC, p.createdAt DESC")
-    Slice<Post> findPopularPostsNotDeleted(Pageable pageable);
+    // 인기 점수 재계산 대상 - since 이후 작성된 글 id (삭제된 글 포함, id 순 페이지 조회)
+    @Query("SELECT p.id FROM Post p WHERE p.createdAt >= :since AND p.id > :lastId ORDER BY p.id ASC")
+    List<Long> findIdsCreatedSince(@Param("since") LocalDateTime since, @Param("lastId") Long lastId, Pageable pageable);
 
     // 특정 기간 내 게시글 조회
     @Query("SELECT p FROM Post p WHERE p.createdAt >= :startDate AND p.createdAt <= :endDate AND p.isDeleted = false ORDER BY p.createdAt DESC")
@@ -32,21 +35,58 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "ORDER BY COUNT(c) DESC, p.createdAt DESC")
     Page<Post> findMostCommentedPosts(Pageable pageable);
 
-    // 최근 작성된 게시글 순으로 조회 (댓글 포함) - Slice 방식 (Scroll)
-    @Query("SELECT DISTINCT p FROM Post p LEFT JOIN FETCH p.comments c WHERE p.isDeleted = false ORDER BY p.createdAt DESC")
-    Slice<Post> findPostsByRecentActivities(Pageable pageable);
+    // 최근 활동 인덱스 재구성 - 삭제되지 않은 글의 작성 시각 (id 순 페이지 조회)
+    @Query("SELECT new click.dailyfeed.timeline.domain.post.projection.PostActivityProjection(p.id, p.createdAt) " +
+           "FROM Post p WHERE p.isDeleted = false AND p.id > :lastId ORDER BY p.id ASC")
+    List<PostActivityProjection> findActivitySeedsAfter(@Param("lastId") Long lastId, Pageable pageable);
 
     @Query("SELECT p FROM Post p WHERE p.isDeleted = false and p.id in :ids ORDER BY p.createdAt DESC")
     List<Post> findPostsByIdsInNotDeletedOrderByCreatedDateDesc(Set<Long> ids);
 
-    @Query("SELECT p FROM Post p WHERE p.isDeleted = false and p.authorId in :authorIds ORDER BY p.createdAt DESC")
-    List<Post> findPostsByAuthorIdInAndNotDeletedOrderByCreatedDateDesc(@Param("authorIds") Set<Long> authorIds, Pageable pageable);
+    // 작성자 bucket 의 최신 글 head 조회 (k-way merge 용, LIMIT 은 Pageable 로 지정)
+    @Query("SELECT p FROM Post p WHERE p.isDeleted = false AND p.authorId IN :authorIds ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findHeadByAuthorIdIn(@Param("authorIds") Collection<Long> authorIds, Pageable pageable);
+
+    // 작성자 bucket 의 (createdAt, id) 이후 글 head 조회 (k-way merge 용, seek)
+    @Query("SELECT p FROM Post p " +
+           "WHERE p.isDeleted = false AND p.authorId IN :authorIds " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findHeadByAuthorIdInBefore(
+            @Param("authorIds") Collection<Long> authorIds,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
 
     // 특정 사용자의 게시글 조회
-    @Query("SELECT p FROM Post p WHERE p.authorId = :authorId AND p.isDeleted = false ORDER BY p.createdAt DESC")
+    @Query("SELECT p FROM Post p WHERE p.authorId = :authorId AND p.isDeleted = false ORDER BY p.createdAt DESC, p.id DESC")
     Slice<Post> findByAuthorIdAndNotDeleted(@Param("authorId") Long authorId, Pageable pageable);
 
+    // 특정 사용자의 게시글 - (createdAt, id) 이후 seek 조회 (cursor 방식)
+    @Query("SELECT p FROM Post p " +
+           "WHERE p.authorId = :authorId AND p.isDeleted = false " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<Post> findByAuthorIdAndNotDeletedBefore(
+            @Param("authorId") Long authorId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
     // ID로 삭제되지 않은 게시글 조회
     @Query("SELECT p FROM Post p WHERE p.id = :id AND p.isDeleted = false")
     Optional<Post> findByIdAndNotDeleted(@Param("id") Long id);
+
+    // 작성자별 마지막 글 작성 시각 조회 (작성자 최근 활동 인덱스 적재용)
+    @Query("SELECT p.authorId as authorId, MAX(p.createdAt) as lastPostedAt " +
+           "FROM Post p " +
+           "WHERE p.authorId IN :authorIds AND p.isDeleted = false " +
+           "GROUP BY p.authorId")
+    List<AuthorLastPostedAtProjection> findLastPostedAtByAuthorIds(@Param("authorIds") Collection<Long> authorIds);
+
+    // 작성자별 마지막 글 작성 시각 조회를 위한 Projection 인터페이스
+    interface AuthorLastPostedAtProjection {
+        Long getAuthorId();
+        LocalDateTime getLastPostedAt();
+    }
 }
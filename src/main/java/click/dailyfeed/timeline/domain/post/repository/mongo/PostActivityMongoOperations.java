@@ -0,0 +1,81 @@
+package click.dailyfeed.timeline.domain.post.repository.mongo;
+
+import click.dailyfeed.timeline.domain.post.document.PostActivityDocument;
+import click.dailyfeed.timeline.domain.post.projection.PostActivityProjection;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+public class PostActivityMongoOperations {
+    private final MongoTemplate mongoTemplate;
+
+    @PostConstruct
+    public void ensureIndex() {
+        mongoTemplate.indexOps(PostActivityDocument.class).createIndex(
+                new Index().on(PostActivityDocument.LAST_ACTIVITY_AT, Sort.Direction.DESC)
+                        .on("_id", Sort.Direction.DESC)
+                        .named("last_activity_at_desc_id_desc")
+        );
+    }
+
+    // 마지막 활동 시각을 앞당기지 않도록 $max 로만 갱신한다 (이벤트 순서가 뒤바뀌거나 중복 수신되어도 안전)
+    public void touch(Long postPk, LocalDateTime at) {
+        mongoTemplate.upsert(
+                Query.query(Criteria.where("_id").is(postPk)),
+                new Update().max(PostActivityDocument.LAST_ACTIVITY_AT, at),
+                PostActivityDocument.class
+        );
+    }
+
+    public void touchAll(List<PostActivityProjection> activities) {
+        if (activities.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostActivityDocument.class);
+        activities.forEach(activity -> bulk.upsert(
+                Query.query(Criteria.where("_id").is(activity.getPostPk())),
+                new Update().max(PostActivityDocument.LAST_ACTIVITY_AT, activity.getLastActivityAt())
+        ));
+        bulk.execute();
+    }
+
+    /**
+     * 최근 활동순 조회 (last_activity_at desc, _id desc)
+     * after 가 있으면 (활동 시각, id) 이후부터 seek 하고, 없으면 skip 만큼 건너뛴다.
+     */
+    public List<PostActivityDocument> findRecent(FeedCursor after, long skip, int limit) {
+        Criteria criteria = new Criteria();
+        if (after != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where(PostActivityDocument.LAST_ACTIVITY_AT).lt(after.createdAt()),
+                    Criteria.where(PostActivityDocument.LAST_ACTIVITY_AT).is(after.createdAt()).and("_id").lt(after.id())
+            );
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, PostActivityDocument.LAST_ACTIVITY_AT).and(Sort.by(Sort.Direction.DESC, "_id")))
+                .skip(skip)
+                .limit(limit);
+        return mongoTemplate.find(query, PostActivityDocument.class);
+    }
+
+    public void removeAll(Collection<Long> postPks) {
+        if (postPks.isEmpty()) {
+            return;
+        }
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(postPks)), PostActivityDocument.class);
+    }
+}
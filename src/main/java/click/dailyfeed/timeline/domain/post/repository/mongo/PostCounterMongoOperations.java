@@ -0,0 +1,141 @@
+package click.dailyfeed.timeline.domain.post.repository.mongo;
+
+import click.dailyfeed.timeline.domain.post.document.PostCounterDocument;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import com.mongodb.bulk.BulkWriteResult;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+@Component
+public class PostCounterMongoOperations {
+    private final MongoTemplate mongoTemplate;
+
+    /**
+     * 이미 존재하는 카운터만 증감한다.
+     * 카운터가 없는 게시글은 원본 컬렉션 기준으로 채워야 하므로, 여기서 새로 만들면 과거 건수가 빠진 값이 된다.
+     * @return 카운터가 있어 반영되었는지 여부
+     */
+    public boolean increment(Long postPk, String field, long delta) {
+        return mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(postPk)),
+                new Update().inc(field, delta).set(PostCounterDocument.UPDATED_AT, LocalDateTime.now()),
+                PostCounterDocument.class
+        ).getMatchedCount() > 0;
+    }
+
+    /**
+     * 없는 카운터만 생성 (그 사이 다른 요청이 먼저 만든 카운터는 덮어쓰지 않음)
+     * @return 이번 호출로 새로 만들어진 카운터의 게시글 id
+     */
+    public Set<Long> insertIfAbsent(List<PostCounterDocument> counters) {
+        if (counters.isEmpty()) {
+            return Set.of();
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostCounterDocument.class);
+        counters.forEach(counter -> bulk.upsert(
+                Query.query(Criteria.where("_id").is(counter.getPostPk())),
+                new Update()
+                        .setOnInsert(PostCounterDocument.LIKE_COUNT, counter.getLikeCount())
+                        .setOnInsert(PostCounterDocument.COMMENT_COUNT, counter.getCommentCount())
+                        .setOnInsert(PostCounterDocument.UPDATED_AT, counter.getUpdatedAt())
+        ));
+        return bulk.execute().getUpserts().stream()
+                .map(upsert -> counters.get(upsert.getIndex()).getPostPk())
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 재계산 결과로 덮어쓰기
+     * 재계산 전에 읽어 둔 카운터(observed)의 updated_at 이 그대로인 경우에만 덮어쓴다.
+     * 그 사이 증감($inc)이 반영된 카운터는 재계산 값으로 지우지 않고 다음 reconcile 로 넘긴다. 읽어 둔 카운터가 없으면 없는 경우에만 만든다.
+     * @return 덮어쓰거나 새로 만든 카운터 수
+     */
+    public int overwriteIfUnchanged(Map<Long, PostCounterDocument> observed, List<PostCounterDocument> counters) {
+        if (counters.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostCounterDocument.class);
+        counters.forEach(counter -> {
+            PostCounterDocument before = observed.get(counter.getPostPk());
+            if (before == null) {
+                bulk.upsert(
+                        Query.query(Criteria.where("_id").is(counter.getPostPk())),
+                        new Update()
+                                .setOnInsert(PostCounterDocument.LIKE_COUNT, counter.getLikeCount())
+                                .setOnInsert(PostCounterDocument.COMMENT_COUNT, counter.getCommentCount())
+                                .setOnInsert(PostCounterDocument.UPDATED_AT, counter.getUpdatedAt())
+                );
+                return;
+            }
+            bulk.updateOne(
+                    Query.query(Criteria.where("_id").is(counter.getPostPk()).and(PostCounterDocument.UPDATED_AT).is(before.getUpdatedAt())),
+                    new Update()
+                            .set(PostCounterDocument.LIKE_COUNT, counter.getLikeCount())
+                            .set(PostCounterDocument.COMMENT_COUNT, counter.getCommentCount())
+                            .set(PostCounterDocument.UPDATED_AT, counter.getUpdatedAt())
+            );
+        });
+        BulkWriteResult result = bulk.execute();
+        return result.getMatchedCount() + result.getUpserts().size();
+    }
+
+    // 인기 글 정렬 인덱스 (점수가 없는 카운터는 인덱스에서 제외)
+    @PostConstruct
+    public void ensurePopularityIndex() {
+        mongoTemplate.indexOps(PostCounterDocument.class).createIndex(
+                new Index().on(PostCounterDocument.POPULARITY_SCORE, Sort.Direction.DESC)
+                        .on("_id", Sort.Direction.DESC)
+                        .sparse()
+                        .named("popularity_score_desc_id_desc")
+        );
+    }
+
+    /**
+     * 인기 점수 순 조회 (popularity_score desc, _id desc)
+     * after 가 있으면 (score, id) 이후부터 seek 하고, 없으면 skip 만큼 건너뛴다.
+     */
+    public List<PostCounterDocument> findTopByPopularity(FeedCursor after, long skip, int limit) {
+        Criteria criteria = Criteria.where(PostCounterDocument.POPULARITY_SCORE).exists(true);
+        if (after != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where(PostCounterDocument.POPULARITY_SCORE).lt(after.key()),
+                    Criteria.where(PostCounterDocument.POPULARITY_SCORE).is(after.key()).and("_id").lt(after.id())
+            );
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, PostCounterDocument.POPULARITY_SCORE).and(Sort.by(Sort.Direction.DESC, "_id")))
+                .skip(skip)
+                .limit(limit);
+        return mongoTemplate.find(query, PostCounterDocument.class);
+    }
+
+    // 인기 점수 갱신 (null 이면 삭제된 글로 보고 점수를 지워 정렬 대상에서 뺀다)
+    public void updatePopularityScores(Map<Long, Long> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostCounterDocument.class);
+        scores.forEach((postPk, score) -> bulk.updateOne(
+                Query.query(Criteria.where("_id").is(postPk)),
+                score == null
+                        ? new Update().unset(PostCounterDocument.POPULARITY_SCORE)
+                        : new Update().set(PostCounterDocument.POPULARITY_SCORE, score)
+        ));
+        bulk.execute();
+    }
+}
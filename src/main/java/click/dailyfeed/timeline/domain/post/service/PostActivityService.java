@@ -0,0 +1,85 @@
+package click.dailyfeed.timeline.domain.post.service;
+
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentMongoAggregation;
+import click.dailyfeed.timeline.domain.post.document.PostActivityDocument;
+import click.dailyfeed.timeline.domain.post.projection.PostActivityProjection;
+import click.dailyfeed.timeline.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.timeline.domain.post.repository.mongo.PostActivityMongoOperations;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 게시글 최근 활동 시각 (post_activities.last_activity_at)
+ * 게시글 작성, 댓글 작성, 좋아요 이벤트로 갱신하고, 이벤트 유실에 대비해 주기적으로 원본(posts, comments) 기준으로 다시 채운다.
+ * 좋아요는 원본에 시각이 없어 재구성 대상에서 빠지며 이벤트로만 반영된다.
+ * 한 번이라도 다시 채웠는지는 redis 표시(post_activities:built)로 남겨, 아직 채운 적이 없으면 매일 재구성을 기다리지 않고 기동 직후 채운다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PostActivityService {
+    private static final String BUILT_KEY = "post_activities:built";
+
+    private final PostRepository postRepository;
+    private final CommentMongoAggregation commentMongoAggregation;
+    private final PostActivityMongoOperations postActivityMongoOperations;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void touch(Long postPk, LocalDateTime at) {
+        postActivityMongoOperations.touch(postPk, at == null ? LocalDateTime.now() : at);
+    }
+
+    public List<PostActivityDocument> findRecent(FeedCursor after, long skip, int limit) {
+        return postActivityMongoOperations.findRecent(after, skip, limit);
+    }
+
+    // 삭제된 글은 최근 활동 인덱스에서 뺀다
+    public void remove(Collection<Long> postPks) {
+        postActivityMongoOperations.removeAll(postPks);
+    }
+
+    public boolean isBuilt() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(BUILT_KEY));
+    }
+
+    /**
+     * 게시글 작성 시각과 마지막 댓글 작성 시각으로 인덱스를 다시 채운다. ($max 갱신이므로 이벤트로 반영된 더 최근 값은 유지된다)
+     */
+    public int rebuild(int batchSize) {
+        int total = 0;
+        Long lastPostPk = 0L;
+        while (true) {
+            List<PostActivityProjection> seeds = postRepository.findActivitySeedsAfter(lastPostPk, PageRequest.of(0, batchSize));
+            if (seeds.isEmpty()) {
+                break;
+            }
+            postActivityMongoOperations.touchAll(seeds);
+            total += seeds.size();
+            lastPostPk = seeds.get(seeds.size() - 1).getPostPk();
+        }
+
+        try (Stream<PostActivityProjection> comments = commentMongoAggregation.streamLastCommentAtByPost()) {
+            List<PostActivityProjection> batch = new ArrayList<>(batchSize);
+            comments.forEach(activity -> {
+                batch.add(activity);
+                if (batch.size() >= batchSize) {
+                    postActivityMongoOperations.touchAll(batch);
+                    batch.clear();
+                }
+            });
+            postActivityMongoOperations.touchAll(batch);
+        }
+        stringRedisTemplate.opsForValue().set(BUILT_KEY, LocalDateTime.now().toString());
+        return total;
+    }
+}
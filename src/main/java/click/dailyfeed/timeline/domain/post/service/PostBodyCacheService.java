@@ -0,0 +1,64 @@
+package click.dailyfeed.timeline.domain.post.service;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.timeline.domain.post.entity.Post;
+import click.dailyfeed.timeline.domain.post.redis.PostBodyRedisService;
+import click.dailyfeed.timeline.domain.post.repository.jpa.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 본문 조회 (공유 캐시에서 읽어 온 본문 + 없는 글만 DB 조회 후 캐시에 적재)
+ * 삭제된 글은 결과에서 빠진다. 캐시에 남아 있는 동안(ttl)은 수정/삭제가 늦게 반영될 수 있다.
+ */
+@RequiredArgsConstructor
+@Service
+public class PostBodyCacheService {
+    private final PostBodyRedisService postBodyRedisService;
+    private final PostRepository postRepository;
+
+    @Value("${dailyfeed.services.timeline.post-body-cache.ttl-seconds:600}")
+    private Long ttlSeconds;
+
+    // 이미 읽어 온 본문(prefetched)에 없는 글만 DB 에서 채운다
+    public Map<Long, PostDto.Post> fillMissing(List<Long> postPks, Map<Long, PostDto.Post> prefetched) {
+        Map<Long, PostDto.Post> result = new HashMap<>(prefetched);
+
+        if (result.size() < postPks.size()) {
+            Set<Long> missingPostPks = new HashSet<>(postPks);
+            missingPostPks.removeAll(result.keySet());
+
+            List<PostDto.Post> loaded = postRepository.findPostsByIdsInNotDeletedOrderByCreatedDateDesc(missingPostPks)
+                    .stream()
+                    .map(PostBodyCacheService::toBody)
+                    .toList();
+            postBodyRedisService.putAll(loaded, Duration.ofSeconds(ttlSeconds));
+            loaded.forEach(body -> result.put(body.getId(), body));
+        }
+        return result;
+    }
+
+    public void put(Post post) {
+        postBodyRedisService.putAll(List.of(toBody(post)), Duration.ofSeconds(ttlSeconds));
+    }
+
+    private static PostDto.Post toBody(Post post) {
+        return PostDto.Post.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .authorId(post.getAuthorId())
+                .viewCount(post.getViewCount())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+}
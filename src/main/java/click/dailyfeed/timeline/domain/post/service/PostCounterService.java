@@ -0,0 +1,101 @@
+package click.dailyfeed.timeline.domain.post.service;
+
+import click.dailyfeed.timeline.domain.comment.projection.PostCommentCountProjection;
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentMongoAggregation;
+import click.dailyfeed.timeline.domain.post.document.PostCounterDocument;
+import click.dailyfeed.timeline.domain.post.projection.PostLikeCountProjection;
+import click.dailyfeed.timeline.domain.post.repository.mongo.PostCounterMongoOperations;
+import click.dailyfeed.timeline.domain.post.repository.mongo.PostCounterMongoRepository;
+import click.dailyfeed.timeline.domain.post.repository.mongo.PostLikeMongoAggregation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 좋아요 수, 댓글 수 조회
+ * 피드 렌더링 시에는 post_counters 를 게시글 id 로 바로 조회하고, 카운터가 아직 없는 게시글만 원본 컬렉션을 집계하여 채운다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PostCounterService {
+    private final PostCounterMongoRepository postCounterMongoRepository;
+    private final PostCounterMongoOperations postCounterMongoOperations;
+    private final PostLikeMongoAggregation postLikeMongoAggregation;
+    private final CommentMongoAggregation commentMongoAggregation;
+
+    public Map<Long, PostCounterDocument> getCounters(Set<Long> postPks) {
+        if (postPks == null || postPks.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, PostCounterDocument> result = new HashMap<>();
+        postCounterMongoRepository.findAllById(postPks).forEach(counter -> result.put(counter.getPostPk(), counter));
+
+        if (result.size() < postPks.size()) {
+            Set<Long> missingPostPks = new HashSet<>(postPks);
+            missingPostPks.removeAll(result.keySet());
+
+            List<PostCounterDocument> seeded = recount(missingPostPks);
+            postCounterMongoOperations.insertIfAbsent(seeded);
+            seeded.forEach(counter -> result.put(counter.getPostPk(), counter));
+        }
+        return result;
+    }
+
+    public void incrementLikeCount(Long postPk, long delta) {
+        increment(postPk, PostCounterDocument.LIKE_COUNT, delta);
+    }
+
+    public void incrementCommentCount(Long postPk, long delta) {
+        increment(postPk, PostCounterDocument.COMMENT_COUNT, delta);
+    }
+
+    /**
+     * 카운터가 아직 없으면 버리지 않고 이 게시글의 카운터를 원본 컬렉션 기준으로 만든다.
+     * 원본 컬렉션은 이벤트 발행 전에 기록되므로 재계산 값에 이번 증감이 포함된다.
+     * 그 사이 조회 요청(getCounters)이 먼저 카운터를 만들었다면 그 재계산이 이번 증감 이전이었을 수 있으므로 증감을 다시 반영한다.
+     * 조회 요청의 재계산이 이미 이번 증감을 포함했던 드문 경우에는 한 번 더 세어지며, 이는 야간 reconcile 에서 보정된다.
+     */
+    private void increment(Long postPk, String field, long delta) {
+        if (postCounterMongoOperations.increment(postPk, field, delta)) {
+            return;
+        }
+        if (postCounterMongoOperations.insertIfAbsent(recount(Set.of(postPk))).isEmpty()) {
+            postCounterMongoOperations.increment(postPk, field, delta);
+        }
+    }
+
+    // 원본 컬렉션 기준으로 다시 계산하여 덮어쓴다 (이벤트 중복/유실로 어긋난 값 보정)
+    // 재계산하는 동안 증감된 카운터는 건너뛰고 다음 reconcile 에서 다시 계산한다
+    public int reconcile(Collection<Long> postPks) {
+        Map<Long, PostCounterDocument> observed = new HashMap<>();
+        postCounterMongoRepository.findAllById(postPks).forEach(counter -> observed.put(counter.getPostPk(), counter));
+        List<PostCounterDocument> recounted = recount(postPks);
+        int written = postCounterMongoOperations.overwriteIfUnchanged(observed, recounted);
+        if (written < recounted.size()) {
+            log.debug("skipped {} post counters updated during reconcile", recounted.size() - written);
+        }
+        return written;
+    }
+
+    private List<PostCounterDocument> recount(Collection<Long> postPks) {
+        Set<Long> targets = new HashSet<>(postPks);
+        Map<Long, Long> likeCountMap = postLikeMongoAggregation.countLikesByPostPks(targets).stream()
+                .collect(Collectors.toMap(PostLikeCountProjection::getPostPk, PostLikeCountProjection::getLikeCount));
+        Map<Long, Long> commentCountMap = commentMongoAggregation.countCommentsByPostPks(targets).stream()
+                .collect(Collectors.toMap(PostCommentCountProjection::getPostPk, PostCommentCountProjection::getCommentCount));
+
+        return targets.stream()
+                .map(postPk -> PostCounterDocument.of(postPk, likeCountMap.getOrDefault(postPk, 0L), commentCountMap.getOrDefault(postPk, 0L)))
+                .collect(Collectors.toList());
+    }
+}
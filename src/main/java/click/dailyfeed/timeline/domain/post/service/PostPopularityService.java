@@ -0,0 +1,104 @@
+package click.dailyfeed.timeline.domain.post.service;
+
+import click.dailyfeed.timeline.domain.post.document.PostCounterDocument;
+import click.dailyfeed.timeline.domain.post.entity.Post;
+import click.dailyfeed.timeline.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.timeline.domain.post.repository.mongo.PostCounterMongoOperations;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 글 점수
+ * (조회수 + 좋아요 수 * 2) / (경과 시간 + 2)^gravity 로 시간이 지날수록 점수가 내려가며,
+ * 정렬 인덱스를 타도록 post_counters.popularity_score 에 정수(SCALE 배)로 저장해 둔다.
+ * 조회수/좋아요가 바뀐 글은 dirty set 에 모아 두었다가 스케줄러가 일괄 재계산한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class PostPopularityService {
+    private static final String DIRTY_KEY = "post_popularity:dirty";
+    private static final double SCALE = 1_000_000d;
+
+    private final PostRepository postRepository;
+    private final PostCounterService postCounterService;
+    private final PostCounterMongoOperations postCounterMongoOperations;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${dailyfeed.services.timeline.popularity.gravity:1.8}")
+    private Double gravity;
+
+    public void markDirty(Long postPk) {
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(postPk));
+    }
+
+    // 여러 게시글을 SADD 한 번으로 표시
+    public void markDirty(Collection<Long> postPks) {
+        if (postPks.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, postPks.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    public Set<Long> popDirty(int count) {
+        List<String> popped = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, count);
+        if (popped == null) {
+            return Set.of();
+        }
+        return popped.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    public List<PostCounterDocument> findTop(FeedCursor after, long skip, int limit) {
+        return postCounterMongoOperations.findTopByPopularity(after, skip, limit);
+    }
+
+    /**
+     * 원본 게시글(조회수, 작성 시각, 삭제 여부)과 좋아요 카운터로 점수를 다시 계산한다.
+     * 삭제되었거나 없는 글은 점수를 지운다.
+     */
+    public int recompute(Collection<Long> postPks) {
+        if (postPks.isEmpty()) {
+            return 0;
+        }
+        Set<Long> targets = new HashSet<>(postPks);
+        Map<Long, Post> postMap = postRepository.findAllById(targets).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
+        Map<Long, PostCounterDocument> counters = postCounterService.getCounters(postMap.keySet());
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Long> scores = new HashMap<>();
+        for (Long postPk : targets) {
+            Post post = postMap.get(postPk);
+            if (post == null || Boolean.TRUE.equals(post.getIsDeleted())) {
+                scores.put(postPk, null);
+                continue;
+            }
+            PostCounterDocument counter = counters.get(postPk);
+            long likeCount = counter != null && counter.getLikeCount() != null ? counter.getLikeCount() : 0L;
+            long viewCount = post.getViewCount() != null ? post.getViewCount() : 0L;
+            scores.put(postPk, score(viewCount, likeCount, post.getCreatedAt(), now, gravity));
+        }
+        postCounterMongoOperations.updatePopularityScores(scores);
+        return scores.size();
+    }
+
+    static long score(long viewCount, long likeCount, LocalDateTime createdAt, LocalDateTime now, double gravity) {
+        double ageHours = createdAt == null ? 0d : Math.max(0L, Duration.between(createdAt, now).toMinutes()) / 60d;
+        double raw = (viewCount + likeCount * 2d) / Math.pow(ageHours + 2d, gravity);
+        return Math.round(raw * SCALE);
+    }
+}
@@ -0,0 +1,84 @@
+package click.dailyfeed.timeline.domain.post.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ * 조회 요청마다 posts 행을 UPDATE 하지 않고 게시글별 증가량을 모아 두었다가, 스케줄러가 주기적으로 한꺼번에 반영한다.
+ * 증가(merge)와 꺼내기(remove)가 모두 key 단위로 원자적이므로, flush 와 겹친 조회수도 이번 또는 다음 주기에 정확히 한 번 반영된다.
+ * 아직 반영되지 않은 조회수는 프로세스가 비정상 종료되면 유실되므로 그 규모(pending)와 지연(lag)을 지표로 노출한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PostViewCountBuffer {
+    private static final String METRIC_PENDING_VIEWS = "timeline.view_count.pending";
+    private static final String METRIC_PENDING_POSTS = "timeline.view_count.pending.posts";
+    private static final String METRIC_LAG = "timeline.view_count.flush.lag";
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+    // 반영되지 않은 조회수 중 가장 오래된 것이 쌓인 시각 (없으면 0)
+    private final AtomicLong oldestPendingAtMillis = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder(METRIC_PENDING_VIEWS, this, PostViewCountBuffer::pendingViews)
+                .description("아직 DB 에 반영되지 않은 조회수 (비정상 종료 시 유실 규모)")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PENDING_POSTS, pending, Map::size)
+                .description("반영 대기 중인 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_LAG, this, PostViewCountBuffer::lagSeconds)
+                .description("가장 오래된 미반영 조회수의 대기 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    public void record(Long postPk) {
+        add(postPk, 1L);
+    }
+
+    /**
+     * 쌓인 조회수를 게시글별로 꺼낸다. (꺼낸 게시글은 map 에서 빠지므로 조회가 없는 게시글이 남지 않는다)
+     */
+    public Map<Long, Long> drain() {
+        oldestPendingAtMillis.set(0L);
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long postPk : pending.keySet()) {
+            Long delta = pending.remove(postPk);
+            if (delta != null && delta > 0) {
+                deltas.put(postPk, delta);
+            }
+        }
+        return deltas;
+    }
+
+    // 반영에 실패한 조회수를 다음 주기에 다시 시도하도록 되돌려 놓는다
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    private void add(Long postPk, long delta) {
+        oldestPendingAtMillis.compareAndSet(0L, System.currentTimeMillis());
+        pending.merge(postPk, delta, Long::sum);
+    }
+
+    double pendingViews() {
+        return pending.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    double lagSeconds() {
+        long oldest = oldestPendingAtMillis.get();
+        return oldest == 0L ? 0d : (System.currentTimeMillis() - oldest) / 1000d;
+    }
+}
@@ -0,0 +1,51 @@
+package click.dailyfeed.timeline.domain.statistics.scheduler;
+
+import click.dailyfeed.timeline.domain.timeline.service.AuthorActivityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 작성자별 마지막 글 작성 시각 인덱스를 DB 기준으로 다시 적재
+ * 키 전체를 만료시키는 대신 주기적으로 덮어써서(더 최근 값만) 유실된 글 작성 이벤트를 보정한다.
+ * 여러 인스턴스 중 하나만 실행되도록 redis lock 을 잡는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class AuthorActivityRefreshScheduler {
+    private static final String LOCK_KEY = "lock:author_activity_refresh";
+
+    private final AuthorActivityService authorActivityService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${dailyfeed.services.timeline.super-heavy.index-refresh-lock-minutes:10}")
+    private Integer lockMinutes;
+
+    @Scheduled(
+            initialDelayString = "${dailyfeed.services.timeline.super-heavy.index-refresh-millis:1800000}",
+            fixedDelayString = "${dailyfeed.services.timeline.super-heavy.index-refresh-millis:1800000}"
+    )
+    public void refresh() {
+        String owner = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, Duration.ofMinutes(lockMinutes));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+
+        try {
+            int authors = authorActivityService.refresh();
+            log.info("author activity index refreshed, authors={}", authors);
+        } finally {
+            if (owner.equals(stringRedisTemplate.opsForValue().get(LOCK_KEY))) {
+                stringRedisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+}
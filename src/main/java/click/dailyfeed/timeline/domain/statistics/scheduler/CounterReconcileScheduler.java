@@ -0,0 +1,122 @@
+package click.dailyfeed.timeline.domain.statistics.scheduler;
+
+import click.dailyfeed.timeline.domain.comment.document.CommentCounterDocument;
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentCounterMongoRepository;
+import click.dailyfeed.timeline.domain.comment.service.CommentCounterService;
+import click.dailyfeed.timeline.domain.post.document.PostCounterDocument;
+import click.dailyfeed.timeline.domain.post.repository.mongo.PostCounterMongoRepository;
+import click.dailyfeed.timeline.domain.post.service.PostActivityService;
+import click.dailyfeed.timeline.domain.post.service.PostCounterService;
+import click.dailyfeed.timeline.domain.timeline.service.MostCommentedLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * post_counters, comment_counters, 댓글 많은 글 순위, 최근 활동 인덱스 재계산
+ * 이벤트 중복 수신/유실로 어긋난 카운터를 원본 컬렉션(post_likes, comments, comment_likes) 기준으로 덮어쓴다.
+ * 여러 인스턴스 중 하나만 실행되도록 redis lock 을 잡는다.
+ * 배포 직후나 redis 초기화 직후처럼 아직 한 번도 만들어지지 않은 순위, 최근 활동 인덱스는 매일 재계산을 기다리지 않고 backfill 에서 바로 만든다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CounterReconcileScheduler {
+    private static final String LOCK_KEY = "lock:counter_reconcile";
+
+    private final PostCounterMongoRepository postCounterMongoRepository;
+    private final CommentCounterMongoRepository commentCounterMongoRepository;
+    private final PostCounterService postCounterService;
+    private final CommentCounterService commentCounterService;
+    private final MostCommentedLeaderboardService mostCommentedLeaderboardService;
+    private final PostActivityService postActivityService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${dailyfeed.services.timeline.counters.reconcile-batch-size:500}")
+    private Integer batchSize;
+
+    @Value("${dailyfeed.services.timeline.counters.reconcile-lock-minutes:30}")
+    private Integer lockMinutes;
+
+    @Scheduled(cron = "${dailyfeed.services.timeline.counters.reconcile-cron}")
+    public void reconcile() {
+        runLocked(() -> {
+            int posts = reconcilePostCounters();
+            int comments = reconcileCommentCounters();
+            log.info("counter reconcile finished, posts={}, comments={}", posts, comments);
+            mostCommentedLeaderboardService.rebuild();
+            int activities = postActivityService.rebuild(batchSize);
+            log.info("post activity index rebuilt, posts={}", activities);
+        });
+    }
+
+    // 다른 인스턴스가 이미 실행 중이면 다음 주기에 다시 확인한다
+    @Scheduled(
+            initialDelayString = "${dailyfeed.services.timeline.counters.backfill-initial-delay-millis:30000}",
+            fixedDelayString = "${dailyfeed.services.timeline.counters.backfill-check-millis:300000}"
+    )
+    public void backfill() {
+        if (mostCommentedLeaderboardService.isBuilt() && postActivityService.isBuilt()) {
+            return;
+        }
+        runLocked(() -> {
+            if (!mostCommentedLeaderboardService.isBuilt()) {
+                mostCommentedLeaderboardService.rebuild();
+            }
+            if (!postActivityService.isBuilt()) {
+                int activities = postActivityService.rebuild(batchSize);
+                log.info("post activity index backfilled, posts={}", activities);
+            }
+        });
+    }
+
+    private void runLocked(Runnable task) {
+        String owner = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, Duration.ofMinutes(lockMinutes));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+
+        try {
+            task.run();
+        } finally {
+            if (owner.equals(stringRedisTemplate.opsForValue().get(LOCK_KEY))) {
+                stringRedisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+
+    private int reconcilePostCounters() {
+        int total = 0;
+        Long lastPostPk = Long.MIN_VALUE;
+        while (true) {
+            List<PostCounterDocument> batch = postCounterMongoRepository.findByPostPkGreaterThanOrderByPostPkAsc(lastPostPk, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return total;
+            }
+            total += postCounterService.reconcile(batch.stream().map(PostCounterDocument::getPostPk).toList());
+            lastPostPk = batch.get(batch.size() - 1).getPostPk();
+        }
+    }
+
+    private int reconcileCommentCounters() {
+        int total = 0;
+        Long lastCommentPk = Long.MIN_VALUE;
+        while (true) {
+            List<CommentCounterDocument> batch = commentCounterMongoRepository.findByCommentPkGreaterThanOrderByCommentPkAsc(lastCommentPk, PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                return total;
+            }
+            total += commentCounterService.reconcile(batch.stream().map(CommentCounterDocument::getCommentPk).toList());
+            lastCommentPk = batch.get(batch.size() - 1).getCommentPk();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package click.dailyfeed.timeline.domain.statistics.scheduler;
+
+import click.dailyfeed.timeline.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.timeline.domain.post.service.PostPopularityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 인기 글 점수 갱신
+ * - refreshDirty : 조회수/좋아요가 바뀐 글만 짧은 주기로 재계산
+ * - decay : 최근 decay-horizon-days 안에 작성된 글 전체를 재계산하여 시간 감쇠를 반영 (그보다 오래된 글은 점수가 충분히 작아 마지막 값을 유지)
+ * decay 는 여러 인스턴스 중 하나만 실행되도록 redis lock 을 잡는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PopularityScoreScheduler {
+    private static final String LOCK_KEY = "lock:popularity_decay";
+
+    private final PostRepository postRepository;
+    private final PostPopularityService postPopularityService;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${dailyfeed.services.timeline.popularity.batch-size:500}")
+    private Integer batchSize;
+
+    @Value("${dailyfeed.services.timeline.popularity.decay-horizon-days:7}")
+    private Integer decayHorizonDays;
+
+    @Value("${dailyfeed.services.timeline.popularity.decay-lock-minutes:10}")
+    private Integer lockMinutes;
+
+    @Scheduled(fixedDelayString = "${dailyfeed.services.timeline.popularity.dirty-flush-millis:30000}")
+    public void refreshDirty() {
+        Set<Long> dirty = postPopularityService.popDirty(batchSize);
+        while (!dirty.isEmpty()) {
+            try {
+                postPopularityService.recompute(dirty);
+            } catch (RuntimeException e) {
+                // 다음 주기에 다시 시도하도록 되돌려 둔다
+                dirty.forEach(postPopularityService::markDirty);
+                throw e;
+            }
+            dirty = dirty.size() < batchSize ? Set.of() : postPopularityService.popDirty(batchSize);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${dailyfeed.services.timeline.popularity.decay-initial-delay-millis:60000}",
+            fixedDelayString = "${dailyfeed.services.timeline.popularity.decay-interval-millis:600000}"
+    )
+    public void decay() {
+        String owner = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, Duration.ofMinutes(lockMinutes));
+        if (!Boolean.TRUE.equals(acquired)) {
+            return;
+        }
+
+        try {
+            LocalDateTime since = LocalDateTime.now().minusDays(decayHorizonDays);
+            int total = 0;
+            Long lastPostPk = 0L;
+            while (true) {
+                List<Long> batch = postRepository.findIdsCreatedSince(since, lastPostPk, PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                total += postPopularityService.recompute(batch);
+                lastPostPk = batch.get(batch.size() - 1);
+            }
+            log.info("popularity decay finished, posts={}", total);
+        } finally {
+            if (owner.equals(stringRedisTemplate.opsForValue().get(LOCK_KEY))) {
+                stringRedisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+}
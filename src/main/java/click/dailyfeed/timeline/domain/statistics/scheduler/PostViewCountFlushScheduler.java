@@ -0,0 +1,68 @@
+package click.dailyfeed.timeline.domain.statistics.scheduler;
+
+import click.dailyfeed.timeline.domain.post.repository.jdbc.PostViewCountJdbcRepository;
+import click.dailyfeed.timeline.domain.post.service.PostPopularityService;
+import click.dailyfeed.timeline.domain.post.service.PostViewCountBuffer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 조회수 버퍼를 posts.view_count 에 반영
+ * 주기마다 쌓인 게시글별 증가량을 JDBC batch UPDATE 한 번으로 보낸다.
+ * 반영에 실패하면 버퍼로 되돌려 다음 주기에 다시 시도한다.
+ * 인기 점수 재계산 대상 표시(redis)는 반영이 끝난 뒤 따로 시도한다. 여기서 실패해도 되돌리지 않는다. (이미 반영된 조회수가 다시 더해지지 않도록)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PostViewCountFlushScheduler {
+    private static final String METRIC_FLUSH = "timeline.view_count.flush";
+    private static final String METRIC_FLUSHED = "timeline.view_count.flushed";
+    private static final String METRIC_FLUSH_FAILURES = "timeline.view_count.flush.failures";
+
+    private final PostViewCountBuffer postViewCountBuffer;
+    private final PostViewCountJdbcRepository postViewCountJdbcRepository;
+    private final PostPopularityService postPopularityService;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(fixedDelayString = "${dailyfeed.services.timeline.view-count.flush-millis:5000}")
+    public void flush() {
+        Map<Long, Long> deltas = postViewCountBuffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            postViewCountJdbcRepository.incrementViewCounts(deltas);
+            meterRegistry.counter(METRIC_FLUSHED).increment(deltas.values().stream().mapToLong(Long::longValue).sum());
+        } catch (RuntimeException e) {
+            postViewCountBuffer.restore(deltas);
+            meterRegistry.counter(METRIC_FLUSH_FAILURES).increment();
+            log.warn("view count flush failed, posts={}, will retry: {}", deltas.size(), e.getMessage());
+            return;
+        } finally {
+            sample.stop(meterRegistry.timer(METRIC_FLUSH));
+        }
+
+        try {
+            postPopularityService.markDirty(deltas.keySet());
+        } catch (RuntimeException e) {
+            // 점수는 다음 조회수/좋아요 변경 때 다시 재계산 대상이 된다
+            log.warn("marking popularity dirty failed, posts={}: {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    // 정상 종료 시 남은 조회수를 반영한다
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -39,9 +39,10 @@ public class TimelineController {
             @RequestHeader("Authorization") String token,
             HttpServletResponse response,
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size
     ){
-        return timelineService.getMyFollowingMembersTimeline(memberProfile, page, size, token, response);
+        return timelineService.getMyFollowingMembersTimeline(memberProfile, page, cursor, size, token, response);
     }
 
     @GetMapping("/posts/most-commented")
@@ -50,9 +51,11 @@ public class TimelineController {
             @RequestHeader("Authorization") String token,
             HttpServletResponse response,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String window
     ){
-        return timelineService.getPostsOrderByCommentCount(member.getMemberId(), page, size, token, response);
+        return timelineService.getPostsOrderByCommentCount(member.getMemberId(), window, page, cursor, size, token, response);
     }
 
     // 인기 게시글 조회
@@ -63,9 +66,10 @@ public class TimelineController {
             @RequestHeader("Authorization") String token,
             HttpServletResponse httpResponse,
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size) {
 
-        return timelineService.getPopularPosts(member.getMemberId(), page, size, token, httpResponse);
+        return timelineService.getPopularPosts(member.getMemberId(), page, cursor, size, token, httpResponse);
     }
 
     // 최근 활동이 있는 게시글 조회
@@ -76,9 +80,10 @@ public class TimelineController {
             @RequestHeader("Authorization") String token,
             HttpServletResponse httpResponse,
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "20") int size) {
 
-        return timelineService.getPostsByRecentActivities(member.getMemberId(), page, size, token, httpResponse);
+        return timelineService.getPostsByRecentActivities(member.getMemberId(), page, cursor, size, token, httpResponse);
     }
 
     /// my posts
@@ -89,9 +94,10 @@ public class TimelineController {
             HttpServletResponse httpResponse,
             @RequestHeader("Authorization") String token,
             @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size
     ) {
-        return timelineService.getMyPosts(member, page, size, token, httpResponse);
+        return timelineService.getMyPosts(member, page, cursor, size, token, httpResponse);
     }
 
     // 게시글 상세 조회
@@ -118,6 +124,7 @@ public class TimelineController {
             HttpServletResponse httpResponse,
             @RequestHeader("Authorization") String token,
             @PathVariable Long authorId,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(
                     page = 0,
                     size = 10,
@@ -125,7 +132,7 @@ public class TimelineController {
                     direction = Sort.Direction.DESC
             ) Pageable pageable) {
 
-        DailyfeedScrollPage<PostDto.Post> result = timelineService.getPostsByAuthor(authorId, pageable, token, httpResponse);
+        DailyfeedScrollPage<PostDto.Post> result = timelineService.getPostsByAuthor(authorId, cursor, pageable, token, httpResponse);
         return DailyfeedScrollResponse.<DailyfeedScrollPage<PostDto.Post>>builder()
                 .status(HttpStatus.OK.value())
                 .result(ResponseSuccessCode.SUCCESS)
@@ -160,8 +167,9 @@ public class TimelineController {
             @RequestHeader("Authorization") String authorizationHeader,
             HttpServletResponse httpResponse,
             @AuthenticatedMember MemberDto.Member requestedMember,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(page = 0, size = 20, sort = "createdAt") Pageable pageable) {
-        DailyfeedScrollPage<CommentDto.Comment> result = timelineService.getMyComments(requestedMember.getId(), pageable, authorizationHeader, httpResponse);
+        DailyfeedScrollPage<CommentDto.Comment> result = timelineService.getMyComments(requestedMember.getId(), cursor, pageable, authorizationHeader, httpResponse);
         return DailyfeedScrollResponse.<DailyfeedScrollPage<CommentDto.Comment>>builder()
                 .status(HttpStatus.OK.value())
                 .result(ResponseSuccessCode.SUCCESS)
@@ -177,6 +185,7 @@ public class TimelineController {
             @RequestHeader("Authorization") String authorizationHeader,
             HttpServletResponse httpResponse,
             @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(
                     page = 0,
                     size = 10,
@@ -184,7 +193,7 @@ public class TimelineController {
                     direction = Sort.Direction.DESC
             ) Pageable pageable) {
 
-        DailyfeedScrollPage<CommentDto.Comment> result = timelineService.getCommentsByPostWithReplyCount(requestedMember, postId, pageable, authorizationHeader, httpResponse);
+        DailyfeedScrollPage<CommentDto.Comment> result = timelineService.getCommentsByPostWithReplyCount(requestedMember, postId, cursor, pageable, authorizationHeader, httpResponse);
         return DailyfeedScrollResponse.<DailyfeedScrollPage<CommentDto.Comment>>builder()
                 .result(ResponseSuccessCode.SUCCESS)
                 .status(HttpStatus.OK.value())
@@ -199,6 +208,7 @@ public class TimelineController {
             @RequestHeader("Authorization") String authorizationHeader,
             HttpServletResponse httpResponse,
             @PathVariable Long memberId,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(
                     page = 0,
                     size = 10,
@@ -206,7 +216,7 @@ public class TimelineController {
                     direction = Sort.Direction.DESC
             ) Pageable pageable) {
 
-        DailyfeedScrollPage<CommentDto.Comment> result = timelineService.getCommentsByUser(memberId, pageable, authorizationHeader, httpResponse);
+        DailyfeedScrollPage<CommentDto.Comment> result = timelineService.getCommentsByUser(memberId, cursor, pageable, authorizationHeader, httpResponse);
         return DailyfeedScrollResponse.<DailyfeedScrollPage<CommentDto.Comment>>builder()
                 .status(HttpStatus.OK.value())
                 .result(ResponseSuccessCode.SUCCESS)
@@ -230,12 +240,15 @@ public class TimelineController {
                 .build();
     }
 
+    // 대댓글 목록 (depth 가 2 이상이면 하위 대댓글까지 미리 읽어 함께 응답)
     @GetMapping("/comments/{commentId}/replies")
     public DailyfeedScrollResponse<DailyfeedScrollPage<CommentDto.Comment>> getRepliesByParent(
             @AuthenticatedMemberProfileSummary MemberProfileDto.Summary member,
             @RequestHeader("Authorization") String authorizationHeader,
             HttpServletResponse httpResponse,
             @PathVariable Long commentId,
+            @RequestParam(defaultValue = "1") int depth,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(
                     page = 0,
                     size = 10,
@@ -243,7 +256,7 @@ public class TimelineController {
                     direction = Sort.Direction.DESC
             ) Pageable pageable) {
 
-        DailyfeedScrollPage<CommentDto.Comment> result = timelineService.getRepliesByParent(member, commentId, pageable, authorizationHeader, httpResponse);
+        DailyfeedScrollPage<CommentDto.Comment> result = timelineService.getRepliesByParent(member, commentId, depth, cursor, pageable, authorizationHeader, httpResponse);
         return DailyfeedScrollResponse.<DailyfeedScrollPage<CommentDto.Comment>>builder()
                 .status(HttpStatus.OK.value())
                 .result(ResponseSuccessCode.SUCCESS)
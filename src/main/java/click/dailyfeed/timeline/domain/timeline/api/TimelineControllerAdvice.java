@@ -9,6 +9,9 @@ import click.dailyfeed.code.domain.member.token.exception.TokenRefreshNeededExce
 import click.dailyfeed.code.global.jwt.exception.InvalidTokenException;
 import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
 import click.dailyfeed.code.global.web.response.DailyfeedErrorResponse;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedPageTooDeepException;
+import click.dailyfeed.timeline.domain.timeline.cursor.InvalidFeedCursorException;
+import click.dailyfeed.timeline.domain.timeline.leaderboard.InvalidLeaderboardWindowException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -39,6 +42,42 @@ public class TimelineControllerAdvice {
         );
     }
 
+    @ExceptionHandler(InvalidFeedCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public DailyfeedErrorResponse handleInvalidFeedCursorException(InvalidFeedCursorException e, HttpServletRequest request) {
+        log.warn("Invalid feed cursor: {}, path: {}", e.getMessage(), request.getRequestURI());
+        return DailyfeedErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                ResponseSuccessCode.FAIL,
+                e.getMessage(),
+                request.getRequestURI()
+        );
+    }
+
+    @ExceptionHandler(FeedPageTooDeepException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public DailyfeedErrorResponse handleFeedPageTooDeepException(FeedPageTooDeepException e, HttpServletRequest request) {
+        log.warn("Feed page too deep: {}, path: {}", e.getMessage(), request.getRequestURI());
+        return DailyfeedErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                ResponseSuccessCode.FAIL,
+                e.getMessage(),
+                request.getRequestURI()
+        );
+    }
+
+    @ExceptionHandler(InvalidLeaderboardWindowException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public DailyfeedErrorResponse handleInvalidLeaderboardWindowException(InvalidLeaderboardWindowException e, HttpServletRequest request) {
+        log.warn("Invalid leaderboard window: {}, path: {}", e.getMessage(), request.getRequestURI());
+        return DailyfeedErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                ResponseSuccessCode.FAIL,
+                e.getMessage(),
+                request.getRequestURI()
+        );
+    }
+
     @ExceptionHandler(KeyRefreshErrorException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public DailyfeedErrorResponse handleKeyRefreshErrorException(KeyRefreshErrorException e, HttpServletRequest request, HttpServletResponse response) {
@@ -0,0 +1,25 @@
+package click.dailyfeed.timeline.domain.timeline.cursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * cursor 기반 조회 결과 (content, hasNext, 다음 페이지 cursor)
+ * 정렬 키가 응답 DTO 에 노출되지 않는 피드(인기순 등)에서, 엔티티 기준으로 다음 cursor 를 계산해 전달하기 위해 사용한다.
+ */
+public record CursorPage<T>(List<T> content, boolean hasNext, FeedCursor nextCursor) {
+
+    /**
+     * size + 1 개 조회 결과로 hasNext 와 다음 cursor 를 판단
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, FeedCursor> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<T> content = hasNext ? fetched.subList(0, size) : fetched;
+        FeedCursor nextCursor = hasNext && !content.isEmpty() ? cursorOf.apply(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(content, hasNext, nextCursor);
+    }
+
+    public <R> CursorPage<R> withContent(List<R> newContent) {
+        return new CursorPage<>(newContent, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,66 @@
+package click.dailyfeed.timeline.domain.timeline.cursor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * 피드 seek 위치 (정렬 키, id)
+ * 시간순 피드의 정렬 키는 createdAt 을 epoch micros (UTC) 로 변환한 값을, 랭킹 피드는 점수를 사용한다.
+ * 클라이언트에는 base64url("key:id") 형태의 opaque 문자열로 전달한다.
+ */
+public record FeedCursor(long key, long id) implements Comparable<FeedCursor> {
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final Comparator<FeedCursor> ORDER = Comparator
+            .comparingLong(FeedCursor::key)
+            .thenComparingLong(FeedCursor::id);
+
+    public static FeedCursor ofCreatedAt(LocalDateTime createdAt, Long id) {
+        long key = createdAt.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + createdAt.getNano() / 1_000L;
+        return new FeedCursor(key, id);
+    }
+
+    public static FeedCursor ofScore(long score, Long id) {
+        return new FeedCursor(score, id);
+    }
+
+    public LocalDateTime createdAt() {
+        long seconds = Math.floorDiv(key, MICROS_PER_SECOND);
+        long micros = Math.floorMod(key, MICROS_PER_SECOND);
+        return LocalDateTime.ofEpochSecond(seconds, (int) (micros * 1_000L), ZoneOffset.UTC);
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString((key + ":" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * opaque cursor 문자열 해석
+     * null 또는 빈 문자열이면 첫 페이지를 의미하므로 null 을 반환한다.
+     */
+    public static FeedCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split(":");
+            if (tokens.length != 2) {
+                throw new InvalidFeedCursorException(encoded);
+            }
+            return new FeedCursor(Long.parseLong(tokens[0]), Long.parseLong(tokens[1]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidFeedCursorException(encoded);
+        }
+    }
+
+    @Override
+    public int compareTo(FeedCursor other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,7 @@
+package click.dailyfeed.timeline.domain.timeline.cursor;
+
+public class FeedPageTooDeepException extends RuntimeException {
+    public FeedPageTooDeepException(int page, int maxPage) {
+        super("cursor 없이 조회할 수 있는 page 는 " + maxPage + " 까지입니다. 이어지는 페이지는 cursor 로 조회해 주세요: " + page);
+    }
+}
@@ -0,0 +1,7 @@
+package click.dailyfeed.timeline.domain.timeline.cursor;
+
+public class InvalidFeedCursorException extends RuntimeException {
+    public InvalidFeedCursorException(String cursor) {
+        super("유효하지 않은 cursor 입니다: " + cursor);
+    }
+}
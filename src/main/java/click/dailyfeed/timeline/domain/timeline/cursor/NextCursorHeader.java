@@ -0,0 +1,20 @@
+package click.dailyfeed.timeline.domain.timeline.cursor;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 다음 페이지 cursor 응답 헤더
+ * 스크롤 응답 본문(DailyfeedScrollPage)은 공통 모듈의 타입이므로, 다음 cursor 는 응답 헤더로 전달한다.
+ */
+public final class NextCursorHeader {
+    public static final String NAME = "X-Next-Cursor";
+
+    private NextCursorHeader() {
+    }
+
+    public static void write(HttpServletResponse httpResponse, FeedCursor nextCursor) {
+        if (nextCursor != null) {
+            httpResponse.setHeader(NAME, nextCursor.encode());
+        }
+    }
+}
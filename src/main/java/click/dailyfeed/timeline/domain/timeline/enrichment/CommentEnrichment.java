@@ -0,0 +1,36 @@
+package click.dailyfeed.timeline.domain.timeline.enrichment;
+
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.timeline.domain.comment.document.CommentCounterDocument;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 댓글 목록에 붙일 대댓글 수, 좋아요 수, 작성자 정보, 좋아요 여부
+ * degradedStages 에 포함된 단계는 제한 시간 안에 끝나지 않아 비어 있는 값으로 채워진 상태이다.
+ */
+public record CommentEnrichment(
+        Map<Long, CommentCounterDocument> countersMap,
+        Map<Long, MemberProfileDto.Summary> authorsMap,
+        Set<Long> likedCommentPks,
+        Set<String> degradedStages
+) {
+    public static CommentEnrichment empty() {
+        return new CommentEnrichment(Map.of(), Map.of(), Set.of(), Set.of());
+    }
+
+    public Long replyCount(Long commentPk) {
+        CommentCounterDocument counter = countersMap.get(commentPk);
+        return counter == null || counter.getReplyCount() == null ? 0L : counter.getReplyCount();
+    }
+
+    public Long likeCount(Long commentPk) {
+        CommentCounterDocument counter = countersMap.get(commentPk);
+        return counter == null || counter.getLikeCount() == null ? 0L : counter.getLikeCount();
+    }
+
+    public boolean isDegraded() {
+        return !degradedStages.isEmpty();
+    }
+}
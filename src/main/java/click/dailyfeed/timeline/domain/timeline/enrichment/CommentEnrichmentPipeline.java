@@ -0,0 +1,74 @@
+package click.dailyfeed.timeline.domain.timeline.enrichment;
+
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.timeline.domain.comment.entity.Comment;
+import click.dailyfeed.timeline.domain.comment.document.CommentCounterDocument;
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentLikeMongoOperations;
+import click.dailyfeed.timeline.domain.comment.service.CommentCounterService;
+import click.dailyfeed.timeline.domain.member.service.MemberSummaryCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 목록 응답 조립 단계(대댓글 수와 좋아요 수 카운터, 작성자 정보, 좋아요 여부)를 동시에 실행하고 하나의 제한 시간 안에서 결과를 모은다.
+ * 내 댓글, 게시글 댓글, 사용자 댓글, 대댓글(스레드) 목록이 모두 이 단계를 거친다.
+ */
+@RequiredArgsConstructor
+@Component
+public class CommentEnrichmentPipeline {
+    static final String STAGE_COUNTERS = "comment_counters";
+    static final String STAGE_AUTHORS = "comment_authors";
+    static final String STAGE_LIKED = "comment_liked";
+
+    private static final String METRIC_TOTAL = "timeline.comment_enrichment";
+
+    private final CommentCounterService commentCounterService;
+    private final CommentLikeMongoOperations commentLikeMongoOperations;
+    private final MemberSummaryCacheService memberSummaryCacheService;
+    private final MeterRegistry meterRegistry;
+    private final EnrichmentExecutor enrichmentExecutor;
+
+    public CommentEnrichment enrich(Long memberId, List<Comment> comments, String token, HttpServletResponse httpResponse) {
+        if (comments.isEmpty()) {
+            return CommentEnrichment.empty();
+        }
+        Set<Long> commentIds = comments.stream().map(Comment::getId).collect(Collectors.toSet());
+        Set<Long> authorIds = comments.stream().map(Comment::getAuthorId).collect(Collectors.toSet());
+
+        Timer.Sample total = Timer.start(meterRegistry);
+        long deadline = enrichmentExecutor.deadline();
+
+        EnrichmentTask<Map<Long, CommentCounterDocument>> counters = enrichmentExecutor.submit(STAGE_COUNTERS,
+                () -> commentCounterService.getCounters(commentIds));
+        EnrichmentTask<Map<Long, MemberProfileDto.Summary>> authors = enrichmentExecutor.submit(STAGE_AUTHORS, httpResponse,
+                response -> memberSummaryCacheService.getMemberMap(authorIds, token, response));
+        EnrichmentTask<Set<Long>> liked = enrichmentExecutor.submit(STAGE_LIKED,
+                () -> commentLikeMongoOperations.findLikedCommentPks(memberId, commentIds));
+
+        Set<String> degraded = new HashSet<>();
+        CommentEnrichment result;
+        try {
+            result = new CommentEnrichment(
+                    enrichmentExecutor.await(counters, deadline, Map.of(), degraded),
+                    enrichmentExecutor.await(authors, deadline, Map.of(), degraded),
+                    enrichmentExecutor.await(liked, deadline, Set.of(), degraded),
+                    degraded
+            );
+        } finally {
+            // 한 단계의 실패로 예외가 전파되는 경우 아직 실행 중인 나머지 단계를 남겨두지 않는다
+            enrichmentExecutor.cancel(counters, authors, liked);
+        }
+
+        total.stop(meterRegistry.timer(METRIC_TOTAL, "degraded", String.valueOf(result.isDegraded())));
+        return result;
+    }
+}
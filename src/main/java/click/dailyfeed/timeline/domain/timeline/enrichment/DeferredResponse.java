@@ -0,0 +1,85 @@
+package click.dailyfeed.timeline.domain.timeline.enrichment;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 응답 조립 단계에 실제 HttpServletResponse 대신 넘기는 응답
+ * 단계가 쓰는 헤더/쿠키/상태를 기록만 해 두고, 요청 스레드가 제한 시간 안에 결과를 받은 경우에만 실제 응답에 옮겨 쓴다.
+ * 제한 시간을 넘겨 버려진 단계는 응답이 이미 반환(재사용)된 뒤에도 실제 응답을 건드리지 않는다.
+ * 읽기 메서드는 기록된 헤더만 보고, 그 밖의 값은 기본값(null, 0, false)을 돌려준다.
+ */
+final class DeferredResponse implements InvocationHandler {
+    private final List<Write> writes = new ArrayList<>();
+    private final HttpServletResponse proxy = (HttpServletResponse) Proxy.newProxyInstance(
+            HttpServletResponse.class.getClassLoader(), new Class<?>[]{HttpServletResponse.class}, this);
+
+    HttpServletResponse response() {
+        return proxy;
+    }
+
+    synchronized void applyTo(HttpServletResponse target) {
+        for (Write write : writes) {
+            try {
+                write.method().invoke(target, write.args());
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("failed to apply deferred response " + write.method().getName(), e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized Object invoke(Object proxy, Method method, Object[] args) {
+        String name = method.getName();
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (name) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "DeferredResponse" + writes;
+            };
+        }
+        if (name.startsWith("set") || name.startsWith("add") || name.startsWith("send")) {
+            writes.add(new Write(method, args));
+            return null;
+        }
+        if (name.equals("containsHeader")) {
+            return lastHeader((String) args[0]) != null;
+        }
+        if (name.equals("getHeader")) {
+            return lastHeader((String) args[0]);
+        }
+        return defaultValue(method.getReturnType());
+    }
+
+    private String lastHeader(String headerName) {
+        for (int i = writes.size() - 1; i >= 0; i--) {
+            Write write = writes.get(i);
+            if (write.method().getName().endsWith("Header") && write.args().length == 2 && headerName.equalsIgnoreCase(String.valueOf(write.args()[0]))) {
+                return String.valueOf(write.args()[1]);
+            }
+        }
+        return null;
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+    private record Write(Method method, Object[] args) {
+    }
+}
@@ -0,0 +1,15 @@
+package click.dailyfeed.timeline.domain.timeline.enrichment;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+
+import java.util.List;
+
+/**
+ * 작성자 정보, 통계를 채운 게시글 목록
+ * degraded 이면 일부 단계가 제한 시간을 넘겨 빈 값(탈퇴한 사용자, 0)으로 채워진 목록이므로 캐시에 넣지 않는다.
+ */
+public record EnrichedPosts(List<PostDto.Post> posts, boolean degraded) {
+    public static EnrichedPosts empty() {
+        return new EnrichedPosts(List.of(), false);
+    }
+}
@@ -0,0 +1,159 @@
+package click.dailyfeed.timeline.domain.timeline.enrichment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 게시글/댓글 응답 조립 단계를 동시에 실행하는 공용 실행기
+ * 단계마다 timeline.enrichment.stage{stage} 로 시간을 재고, 하나의 제한 시간(deadline) 안에서 결과를 모은다.
+ * 제한 시간을 넘긴 단계는 fallback 값으로 대체하고(degraded) 단계 자체의 실패는 그대로 전파한다.
+ * 제한 시간을 넘긴 단계는 interrupt 로 취소한다 (mongo, redis 조회는 interrupt 로 중단된다). interrupt 에 반응하지 않는 feign 호출은 read-timeout 이 상한이다.
+ * 한 단계의 실패가 전파되면 호출한 쪽에서 cancel 로 같은 요청의 나머지 단계도 취소한다.
+ * 단계에는 실제 HttpServletResponse 대신 DeferredResponse 를 넘기고, 제한 시간 안에 끝난 단계의 헤더만 요청 스레드에서 실제 응답에 옮겨 쓴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class EnrichmentExecutor {
+    private static final String METRIC_STAGE = "timeline.enrichment.stage";
+    private static final String METRIC_DEGRADED = "timeline.enrichment.degraded";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dailyfeed.services.timeline.enrichment.deadline-millis:800}")
+    private Long deadlineMillis;
+
+    @Value("${dailyfeed.services.timeline.enrichment.pool-size:16}")
+    private Integer poolSize;
+
+    @Value("${dailyfeed.services.timeline.enrichment.queue-capacity:200}")
+    private Integer queueCapacity;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        // 큐가 가득 차면 요청 스레드에서 직접 실행한다 (기존 순차 실행과 동일한 동작으로 후퇴)
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("timeline-enrichment-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "timeline.enrichment");
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    // 지금부터 제한 시간이 끝나는 시각 (System.nanoTime 기준)
+    public long deadline() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+    }
+
+    public <T> EnrichmentTask<T> submit(String stage, Supplier<T> supplier) {
+        return new EnrichmentTask<>(stage, submitTimed(stage, supplier), null, null);
+    }
+
+    // 응답 헤더를 쓸 수 있는 단계 (feign 호출 등). 단계에는 DeferredResponse 가 넘어간다.
+    public <T> EnrichmentTask<T> submit(String stage, HttpServletResponse httpResponse, Function<HttpServletResponse, T> task) {
+        if (httpResponse == null) {
+            return submit(stage, () -> task.apply(null));
+        }
+        DeferredResponse deferredResponse = new DeferredResponse();
+        return new EnrichmentTask<>(stage, submitTimed(stage, () -> task.apply(deferredResponse.response())), deferredResponse, httpResponse);
+    }
+
+    public <T> T await(EnrichmentTask<T> task, long deadline, T fallback, Set<String> degraded) {
+        String stage = task.stage();
+        Future<T> future = task.future();
+        try {
+            T result = future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+            if (task.deferredResponse() != null) {
+                task.deferredResponse().applyTo(task.target());
+            }
+            return result;
+        } catch (TimeoutException | CancellationException e) {
+            future.cancel(true);
+            degraded.add(stage);
+            meterRegistry.counter(METRIC_DEGRADED, "stage", stage).increment();
+            log.warn("enrichment stage '{}' exceeded deadline {}ms, responding with degraded fields", stage, deadlineMillis);
+            return fallback;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            degraded.add(stage);
+            return fallback;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // 이미 끝난 단계에는 영향이 없다
+    public void cancel(EnrichmentTask<?>... tasks) {
+        for (EnrichmentTask<?> task : tasks) {
+            task.future().cancel(true);
+        }
+    }
+
+    private <T> Future<T> submitTimed(String stage, Supplier<T> supplier) {
+        Timer timer = Timer.builder(METRIC_STAGE).tag("stage", stage).register(meterRegistry);
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        // FutureTask 는 cancel(true) 시 실행 중인 스레드를 interrupt 한다 (CompletableFuture 는 interrupt 하지 않는다)
+        return executor.submit(() -> withRequestContext(requestAttributes, mdc, () -> timer.record(supplier)));
+    }
+
+    // feign 호출이 요청 스레드의 RequestAttributes, MDC 를 그대로 사용할 수 있도록 전달
+    // (CallerRunsPolicy 로 요청 스레드에서 실행되는 경우를 위해 기존 context 를 복원한다)
+    private static <T> T withRequestContext(RequestAttributes requestAttributes, Map<String, String> mdc, Supplier<T> supplier) {
+        RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+        Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+        try {
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            return supplier.get();
+        } finally {
+            RequestContextHolder.setRequestAttributes(previous);
+            if (previousMdc != null) {
+                MDC.setContextMap(previousMdc);
+            } else {
+                MDC.clear();
+            }
+        }
+    }
+}
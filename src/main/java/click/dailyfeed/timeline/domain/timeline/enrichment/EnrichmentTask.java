@@ -0,0 +1,18 @@
+package click.dailyfeed.timeline.domain.timeline.enrichment;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * EnrichmentExecutor 에 제출된 단계
+ * deferredResponse 는 단계가 응답 헤더를 쓰는 경우에만 있으며, 제한 시간 안에 끝났을 때 target 에 옮겨 쓴다.
+ */
+record EnrichmentTask<T>(String stage, Future<T> future, DeferredResponse deferredResponse, HttpServletResponse target) {
+
+    // 실행할 필요가 없는 단계 (이미 값이 정해진 경우)
+    static <T> EnrichmentTask<T> completed(String stage, T value) {
+        return new EnrichmentTask<>(stage, CompletableFuture.completedFuture(value), null, null);
+    }
+}
@@ -0,0 +1,24 @@
+package click.dailyfeed.timeline.domain.timeline.enrichment;
+
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 목록에 붙일 작성자 정보, 통계(좋아요 수, 댓글 수, 좋아요 여부)
+ * degradedStages 에 포함된 단계는 제한 시간 안에 끝나지 않아 비어 있는 값으로 채워진 상태이다.
+ */
+public record PostEnrichment(
+        Map<Long, MemberProfileDto.Summary> authorsMap,
+        PostStatistics statistics,
+        Set<String> degradedStages
+) {
+    public static PostEnrichment empty() {
+        return new PostEnrichment(Map.of(), PostStatistics.empty(), Set.of());
+    }
+
+    public boolean isDegraded() {
+        return !degradedStages.isEmpty();
+    }
+}
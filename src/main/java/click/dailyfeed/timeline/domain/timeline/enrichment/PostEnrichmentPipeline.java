@@ -0,0 +1,93 @@
+package click.dailyfeed.timeline.domain.timeline.enrichment;
+
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.timeline.domain.member.service.MemberSummaryCacheService;
+import click.dailyfeed.timeline.domain.post.document.PostCounterDocument;
+import click.dailyfeed.timeline.domain.post.entity.Post;
+import click.dailyfeed.timeline.domain.post.repository.mongo.PostLikeMongoRepository;
+import click.dailyfeed.timeline.domain.post.service.PostCounterService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 피드 응답 조립 단계(작성자 정보, 좋아요/댓글 수 카운터, 좋아요 여부)를 동시에 실행하고 하나의 제한 시간 안에서 결과를 모은다.
+ * 제한 시간을 넘긴 단계는 빈 값으로 대체하고(degraded) 피드는 그대로 응답한다.
+ * 단계 자체가 실패한 경우(인증 오류 등)에는 기존과 동일하게 예외를 그대로 전파한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PostEnrichmentPipeline {
+    static final String STAGE_AUTHORS = "authors";
+    static final String STAGE_COUNTERS = "counters";
+    static final String STAGE_LIKED = "liked";
+
+    private static final String METRIC_TOTAL = "timeline.enrichment";
+    private static final long[] NO_LIKES = new long[0];
+
+    private final MemberSummaryCacheService memberSummaryCacheService;
+    private final PostCounterService postCounterService;
+    private final PostLikeMongoRepository postLikeMongoRepository;
+    private final MeterRegistry meterRegistry;
+    private final EnrichmentExecutor enrichmentExecutor;
+
+    public PostEnrichment enrich(Long memberId, List<Post> posts, String token, HttpServletResponse httpResponse) {
+        Set<Long> postIds = posts.stream().map(Post::getId).collect(Collectors.toSet());
+        Set<Long> authorIds = posts.stream().map(Post::getAuthorId).collect(Collectors.toSet());
+        return enrich(memberId, postIds, authorIds, token, httpResponse);
+    }
+
+    // 엔티티 없이 id 만으로 조립하는 경우 (캐시된 본문 기반 타임라인 등)
+    public PostEnrichment enrich(Long memberId, Set<Long> postIds, Set<Long> authorIds, String token, HttpServletResponse httpResponse) {
+        return enrich(memberId, postIds, authorIds, true, token, httpResponse);
+    }
+
+    // 회원과 무관한 단계(작성자 정보, 카운터)만 실행한다. 좋아요 여부는 호출한 쪽에서 회원별로 덧씌운다.
+    public PostEnrichment enrichShared(List<Post> posts, String token, HttpServletResponse httpResponse) {
+        Set<Long> postIds = posts.stream().map(Post::getId).collect(Collectors.toSet());
+        Set<Long> authorIds = posts.stream().map(Post::getAuthorId).collect(Collectors.toSet());
+        return enrich(null, postIds, authorIds, false, token, httpResponse);
+    }
+
+    private PostEnrichment enrich(Long memberId, Set<Long> postIds, Set<Long> authorIds, boolean includeLiked, String token, HttpServletResponse httpResponse) {
+        if (postIds.isEmpty()) {
+            return PostEnrichment.empty();
+        }
+
+        Timer.Sample total = Timer.start(meterRegistry);
+        long deadline = enrichmentExecutor.deadline();
+
+        EnrichmentTask<Map<Long, MemberProfileDto.Summary>> authors = enrichmentExecutor.submit(STAGE_AUTHORS, httpResponse,
+                response -> memberSummaryCacheService.getMemberMap(authorIds, token, response));
+        EnrichmentTask<Map<Long, PostCounterDocument>> counters = enrichmentExecutor.submit(STAGE_COUNTERS,
+                () -> postCounterService.getCounters(postIds));
+        EnrichmentTask<long[]> liked = includeLiked
+                ? enrichmentExecutor.submit(STAGE_LIKED, () -> postLikeMongoRepository.findByPostPkInAndMemberId(postIds, memberId).stream()
+                        .mapToLong(d -> d.getPostPk())
+                        .toArray())
+                : EnrichmentTask.completed(STAGE_LIKED, NO_LIKES);
+
+        Set<String> degraded = new HashSet<>();
+        PostEnrichment result;
+        try {
+            Map<Long, MemberProfileDto.Summary> authorsMap = enrichmentExecutor.await(authors, deadline, Map.of(), degraded);
+            Map<Long, PostCounterDocument> counterMap = enrichmentExecutor.await(counters, deadline, Map.of(), degraded);
+            long[] likedPostPks = enrichmentExecutor.await(liked, deadline, NO_LIKES, degraded);
+            result = new PostEnrichment(authorsMap, PostStatistics.of(counterMap.values(), likedPostPks), degraded);
+        } finally {
+            // 한 단계의 실패로 예외가 전파되는 경우 아직 실행 중인 나머지 단계를 남겨두지 않는다
+            enrichmentExecutor.cancel(authors, counters, liked);
+        }
+
+        total.stop(meterRegistry.timer(METRIC_TOTAL, "degraded", String.valueOf(result.isDegraded())));
+        return result;
+    }
+}
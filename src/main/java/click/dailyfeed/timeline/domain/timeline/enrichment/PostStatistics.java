@@ -0,0 +1,152 @@
+package click.dailyfeed.timeline.domain.timeline.enrichment;
+
+import click.dailyfeed.timeline.domain.post.document.PostCounterDocument;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 한 페이지 게시글의 좋아요 수, 댓글 수, 좋아요 여부 (post pk 기준)
+ * 요청마다 Map<Long, PostLikeCountStatistics>, Map<Long, PostCommentCountStatistics>, Set<Long> 을 만들고 long 하나를 읽기 위해 DTO 를 거치는 대신,
+ * open addressing 으로 배치한 long 배열(키, 좋아요 수, 댓글 수)과 좋아요 여부 비트 배열에 담는다.
+ * 한 번 채운 뒤에는 읽기만 한다. 없는 게시글은 0 / false 로 읽힌다.
+ */
+public final class PostStatistics {
+    private static final long EMPTY_KEY = Long.MIN_VALUE;
+    private static final long[] NO_LIKES = new long[0];
+    private static final PostStatistics EMPTY = new PostStatistics(0);
+
+    private long[] keys;
+    private long[] likeCounts;
+    private long[] commentCounts;
+    private long[] likedBits;
+    private int mask;
+    private int size;
+
+    private PostStatistics(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    public static PostStatistics empty() {
+        return EMPTY;
+    }
+
+    public static PostStatistics of(Collection<PostCounterDocument> counters) {
+        return of(counters, NO_LIKES);
+    }
+
+    /**
+     * @param likedPostPks 요청한 회원이 좋아요한 게시글 pk (카운터가 없는 게시글이어도 된다)
+     */
+    public static PostStatistics of(Collection<PostCounterDocument> counters, long[] likedPostPks) {
+        if (counters.isEmpty() && likedPostPks.length == 0) {
+            return EMPTY;
+        }
+        PostStatistics statistics = new PostStatistics(Math.max(counters.size(), likedPostPks.length));
+        for (PostCounterDocument counter : counters) {
+            int slot = statistics.slotForInsert(counter.getPostPk());
+            statistics.likeCounts[slot] = counter.getLikeCount() == null ? 0L : counter.getLikeCount();
+            statistics.commentCounts[slot] = counter.getCommentCount() == null ? 0L : counter.getCommentCount();
+        }
+        for (long postPk : likedPostPks) {
+            int slot = statistics.slotForInsert(postPk);
+            statistics.likedBits[slot >>> 6] |= 1L << slot;
+        }
+        return statistics;
+    }
+
+    public long likeCount(long postPk) {
+        int slot = slotOf(postPk);
+        return slot < 0 ? 0L : likeCounts[slot];
+    }
+
+    public long commentCount(long postPk) {
+        int slot = slotOf(postPk);
+        return slot < 0 ? 0L : commentCounts[slot];
+    }
+
+    public boolean liked(long postPk) {
+        int slot = slotOf(postPk);
+        return slot >= 0 && (likedBits[slot >>> 6] & (1L << slot)) != 0;
+    }
+
+    // 카운터 또는 좋아요 여부가 있는 게시글 수
+    public int size() {
+        return size;
+    }
+
+    private int slotOf(long postPk) {
+        int slot = hash(postPk) & mask;
+        while (true) {
+            long key = keys[slot];
+            if (key == postPk) {
+                return slot;
+            }
+            if (key == EMPTY_KEY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private int slotForInsert(long postPk) {
+        // 적재율 1/2 을 넘기 전에 늘린다 (입력 크기로 미리 잡으므로 보통은 일어나지 않는다)
+        if ((size + 1) * 2 > keys.length) {
+            grow();
+        }
+        int slot = hash(postPk) & mask;
+        while (true) {
+            long key = keys[slot];
+            if (key == postPk) {
+                return slot;
+            }
+            if (key == EMPTY_KEY) {
+                keys[slot] = postPk;
+                size++;
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldLikeCounts = likeCounts;
+        long[] oldCommentCounts = commentCounts;
+        long[] oldLikedBits = likedBits;
+        allocate(oldKeys.length * 2);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY_KEY) {
+                continue;
+            }
+            int slot = slotForInsert(oldKeys[i]);
+            likeCounts[slot] = oldLikeCounts[i];
+            commentCounts[slot] = oldCommentCounts[i];
+            if ((oldLikedBits[i >>> 6] & (1L << i)) != 0) {
+                likedBits[slot >>> 6] |= 1L << slot;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        Arrays.fill(keys, EMPTY_KEY);
+        likeCounts = new long[capacity];
+        commentCounts = new long[capacity];
+        likedBits = new long[(capacity + 63) >>> 6];
+        mask = capacity - 1;
+    }
+
+    // 적재율 1/2 이하가 되는 2의 거듭제곱
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) << 1;
+        return Math.max(capacity, 2);
+    }
+
+    // 연속된 pk 가 이웃 슬롯에 몰리지 않도록 섞는다 (Fibonacci hashing)
+    private static int hash(long postPk) {
+        long h = postPk * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
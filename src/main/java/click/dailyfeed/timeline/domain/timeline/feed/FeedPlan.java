@@ -0,0 +1,27 @@
+package click.dailyfeed.timeline.domain.timeline.feed;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 팔로잉 피드 요청 하나의 조회 계획
+ * pushFirst 이면 redis 타임라인을 먼저 읽고 부족한 만큼만 pull 로 채우며, 아니면 처음부터 pull 로 읽는다.
+ * pull 은 pullStrategy 에 따라 전체 팔로잉 또는 최근 활동한 팔로잉만 대상으로 한다.
+ */
+public record FeedPlan(boolean pushFirst, PullStrategy pullStrategy) {
+
+    public String sourceTag() {
+        return pushFirst ? "push" : "pull";
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum PullStrategy {
+        // 팔로잉 전체를 k-way merge
+        ALL_FOLLOWINGS("all_followings"),
+        // 최근 활동한 팔로잉만 추려서 merge (팔로잉이 매우 많거나 pull 이 느릴 때)
+        ACTIVE_AUTHORS("active_authors");
+
+        private final String tag;
+    }
+}
@@ -0,0 +1,102 @@
+package click.dailyfeed.timeline.domain.timeline.feed;
+
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import click.dailyfeed.timeline.domain.timeline.redis.TimelinePostsApiRedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 팔로잉 피드 조회 계획 (push 우선 / pull, pull 대상 범위)
+ * 팔로잉 수만으로 고정하지 않고 요청마다 아래 신호로 가장 싼 조합을 고른다.
+ * - 팔로잉이 적은 회원: redis 타임라인을 먼저 읽고 부족한 만큼만 pull (pull 자체가 가볍다)
+ * - 팔로잉이 많은 회원: redis 타임라인에 요청한 구간을 채울 만큼 글이 쌓여 있으면 push, 아니면 pull
+ * - pull 대상: 팔로잉이 매우 많거나 최근 전체 팔로잉 pull 지연(EWMA)이 예산을 넘으면 최근 활동한 팔로잉만 읽는다.
+ *   예산을 넘은 동안에도 probe-every 번에 한 번은 전체 팔로잉으로 읽어 지연이 회복되었는지 확인한다.
+ * 결정은 timeline.feed.plan{source, pull} 로, pull 지연은 timeline.feed.pull{pull} 로 집계한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class FeedPlanner {
+    private static final String METRIC_PLAN = "timeline.feed.plan";
+    private static final String METRIC_PULL = "timeline.feed.pull";
+
+    private final TimelinePostsApiRedisService timelinePostsApiRedisService;
+    private final MeterRegistry meterRegistry;
+
+    // 전체 팔로잉 pull 지연 EWMA (ms, double bits)
+    private final AtomicLong allFollowingsLatencyBits = new AtomicLong(Double.doubleToLongBits(0d));
+    private final AtomicLong overBudgetRequests = new AtomicLong();
+
+    @Value("${dailyfeed.services.timeline.push-pull.limit}")
+    private Integer pushPullLimit;
+
+    @Value("${dailyfeed.services.timeline.feed-planner.active-authors-followings:10000}")
+    private Integer activeAuthorsFollowings;
+
+    @Value("${dailyfeed.services.timeline.feed-planner.pull-latency-budget-ms:300}")
+    private Long pullLatencyBudgetMillis;
+
+    @Value("${dailyfeed.services.timeline.feed-planner.latency-ewma-alpha:0.2}")
+    private Double latencyEwmaAlpha;
+
+    @Value("${dailyfeed.services.timeline.feed-planner.probe-every:20}")
+    private Integer probeEvery;
+
+    /**
+     * @param after 이전 페이지의 마지막 위치 (null 이면 page 로 요청)
+     * @param size  hasNext 판단용 1개를 뺀 페이지 크기
+     */
+    public FeedPlan plan(Long memberId, Long followingsCount, int page, FeedCursor after, int size) {
+        FeedPlan plan;
+        if (followingsCount == null || followingsCount < pushPullLimit) {
+            plan = new FeedPlan(true, FeedPlan.PullStrategy.ALL_FOLLOWINGS);
+        } else {
+            long needed = after == null ? (long) (page + 1) * (size + 1) : size + 1;
+            boolean pushCovers = timelinePostsApiRedisService.countAvailable(memberId, after) >= needed;
+            plan = new FeedPlan(pushCovers, heavyPullStrategy(followingsCount));
+        }
+        meterRegistry.counter(METRIC_PLAN, "source", plan.sourceTag(), "pull", plan.pullStrategy().getTag()).increment();
+        return plan;
+    }
+
+    /**
+     * pull 조회 시간을 재고, 전체 팔로잉 pull 이면 지연 EWMA 에 반영한다.
+     */
+    public <T> T timePull(FeedPlan.PullStrategy strategy, Supplier<T> pull) {
+        long start = System.nanoTime();
+        try {
+            return pull.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            meterRegistry.timer(METRIC_PULL, "pull", strategy.getTag()).record(elapsed, TimeUnit.NANOSECONDS);
+            if (strategy == FeedPlan.PullStrategy.ALL_FOLLOWINGS) {
+                double millis = elapsed / 1_000_000d;
+                allFollowingsLatencyBits.updateAndGet(bits -> {
+                    double current = Double.longBitsToDouble(bits);
+                    double next = current == 0d ? millis : current + latencyEwmaAlpha * (millis - current);
+                    return Double.doubleToLongBits(next);
+                });
+            }
+        }
+    }
+
+    double allFollowingsLatencyMillis() {
+        return Double.longBitsToDouble(allFollowingsLatencyBits.get());
+    }
+
+    private FeedPlan.PullStrategy heavyPullStrategy(long followingsCount) {
+        if (followingsCount >= activeAuthorsFollowings) {
+            return FeedPlan.PullStrategy.ACTIVE_AUTHORS;
+        }
+        if (allFollowingsLatencyMillis() > pullLatencyBudgetMillis && overBudgetRequests.incrementAndGet() % probeEvery != 0) {
+            return FeedPlan.PullStrategy.ACTIVE_AUTHORS;
+        }
+        return FeedPlan.PullStrategy.ALL_FOLLOWINGS;
+    }
+}
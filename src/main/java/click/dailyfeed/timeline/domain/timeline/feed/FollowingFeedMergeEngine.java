@@ -0,0 +1,126 @@
+package click.dailyfeed.timeline.domain.timeline.feed;
+
+import click.dailyfeed.timeline.domain.post.entity.Post;
+import click.dailyfeed.timeline.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 팔로잉 피드 k-way merge
+ * 작성자를 bucket 단위로 나누고, 각 bucket 에서 (createdAt, id) 역순으로 짧은 head 만 읽어 heap 으로 병합한다.
+ * 모든 작성자를 하나의 IN 절로 묶어 전체 결과를 filesort 하는 대신, bucket 별 LIMIT 조회만 수행하고
+ * limit 개를 채우는 즉시 멈춘다. bucket 은 자신이 마지막으로 읽은 위치(cursor)부터 다음 head 를 이어서 읽는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class FollowingFeedMergeEngine {
+    private static final Comparator<Post> NEWEST_FIRST = Comparator
+            .comparing(Post::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(Post::getId, Comparator.reverseOrder());
+
+    private final PostRepository postRepository;
+
+    @Value("${dailyfeed.services.timeline.feed-merge.bucket-size}")
+    private Integer bucketSize;
+
+    @Value("${dailyfeed.services.timeline.feed-merge.head-size}")
+    private Integer headSize;
+
+    /**
+     * authorIds 의 글을 최신순으로 병합해 after 이후(after 미포함) limit 개를 반환
+     * @param after 이전 페이지의 마지막 위치 (null 이면 처음부터)
+     */
+    public List<Post> merge(Collection<Long> authorIds, FeedCursor after, int limit) {
+        if (authorIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        int head = Math.min(limit, headSize);
+        PriorityQueue<AuthorBucketStream> heap = new PriorityQueue<>(
+                Comparator.comparing(AuthorBucketStream::peek, NEWEST_FIRST)
+        );
+
+        for (List<Long> bucket : partition(List.copyOf(authorIds))) {
+            AuthorBucketStream stream = new AuthorBucketStream(bucket, after, head);
+            if (stream.hasNext()) {
+                heap.add(stream);
+            }
+        }
+
+        List<Post> result = new ArrayList<>(limit);
+        while (!heap.isEmpty() && result.size() < limit) {
+            AuthorBucketStream top = heap.poll();
+            result.add(top.poll());
+            if (top.hasNext()) {
+                heap.add(top);
+            }
+        }
+        return result;
+    }
+
+    private List<List<Long>> partition(List<Long> authorIds) {
+        List<List<Long>> buckets = new ArrayList<>();
+        for (int from = 0; from < authorIds.size(); from += bucketSize) {
+            buckets.add(authorIds.subList(from, Math.min(from + bucketSize, authorIds.size())));
+        }
+        return buckets;
+    }
+
+    /**
+     * 작성자 bucket 하나의 최신순 스트림
+     * 버퍼가 비었을 때만 마지막으로 읽은 위치 이후의 head 를 추가로 조회한다.
+     */
+    private class AuthorBucketStream {
+        private final List<Long> authorIds;
+        private final int head;
+        private final Deque<Post> buffer = new ArrayDeque<>();
+        private FeedCursor cursor;
+        private boolean exhausted = false;
+
+        private AuthorBucketStream(List<Long> authorIds, FeedCursor after, int head) {
+            this.authorIds = authorIds;
+            this.cursor = after;
+            this.head = head;
+        }
+
+        private boolean hasNext() {
+            if (buffer.isEmpty() && !exhausted) {
+                fetchHead();
+            }
+            return !buffer.isEmpty();
+        }
+
+        private Post peek() {
+            return buffer.peekFirst();
+        }
+
+        private Post poll() {
+            return buffer.pollFirst();
+        }
+
+        private void fetchHead() {
+            PageRequest limit = PageRequest.of(0, head);
+            List<Post> rows = cursor == null
+                    ? postRepository.findHeadByAuthorIdIn(authorIds, limit)
+                    : postRepository.findHeadByAuthorIdInBefore(authorIds, cursor.createdAt(), cursor.id(), limit);
+
+            exhausted = rows.size() < head;
+            if (!rows.isEmpty()) {
+                Post last = rows.get(rows.size() - 1);
+                cursor = FeedCursor.ofCreatedAt(last.getCreatedAt(), last.getId());
+                buffer.addAll(rows);
+            }
+        }
+    }
+}
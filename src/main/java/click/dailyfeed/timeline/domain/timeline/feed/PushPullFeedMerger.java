@@ -0,0 +1,74 @@
+package click.dailyfeed.timeline.domain.timeline.feed;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * push 타임라인(redis)과 pull 조회 결과를 (createdAt, id) 역순으로 한 번에 병합한다.
+ * 두 입력이 모두 정렬되어 있다는 전제로 앞에서부터 한 번씩만 비교하고, 같은 글은 id 로 한 번만 담는다. (push 쪽을 우선)
+ * pull 은 미리 전부 읽지 않고, 페이지에 부족한 개수만큼 필요할 때 이어서 읽는다.
+ */
+@Component
+public class PushPullFeedMerger {
+
+    /**
+     * @param pushed push 타임라인에서 읽은 글 (최신순)
+     * @param pull   after 이후(after 미포함) 최대 limit 개를 최신순으로 돌려주는 pull 조회, after 가 null 이면 첫 조회
+     * @param limit  병합 결과 최대 개수
+     */
+    public List<PostDto.Post> merge(List<PostDto.Post> pushed, PullSource pull, int limit) {
+        List<PostDto.Post> result = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        Deque<PostDto.Post> pulled = new ArrayDeque<>();
+        FeedCursor pullCursor = null;
+        boolean pullExhausted = false;
+        int chunk = 0;
+        int pushedIndex = 0;
+
+        while (result.size() < limit) {
+            if (pulled.isEmpty() && !pullExhausted) {
+                // 남은 push 글을 모두 담는다고 가정했을 때 모자라는 개수만큼 읽고, 다시 읽어야 하면 두 배씩 늘린다
+                int shortfall = limit - result.size() - (pushed.size() - pushedIndex);
+                chunk = Math.min(limit, Math.max(Math.max(shortfall, 1), chunk * 2));
+                List<PostDto.Post> rows = pull.fetch(pullCursor, chunk);
+                pullExhausted = rows.size() < chunk;
+                if (!rows.isEmpty()) {
+                    PostDto.Post last = rows.get(rows.size() - 1);
+                    pullCursor = cursorOf(last);
+                    pulled.addAll(rows);
+                }
+            }
+
+            PostDto.Post next;
+            if (pushedIndex < pushed.size() && (pulled.isEmpty() || cursorOf(pushed.get(pushedIndex)).compareTo(cursorOf(pulled.peekFirst())) >= 0)) {
+                next = pushed.get(pushedIndex++);
+            } else if (!pulled.isEmpty()) {
+                next = pulled.pollFirst();
+            } else {
+                break;
+            }
+
+            if (seen.add(next.getId())) {
+                result.add(next);
+            }
+        }
+        return result;
+    }
+
+    private static FeedCursor cursorOf(PostDto.Post post) {
+        return FeedCursor.ofCreatedAt(post.getCreatedAt(), post.getId());
+    }
+
+    @FunctionalInterface
+    public interface PullSource {
+        List<PostDto.Post> fetch(FeedCursor after, int limit);
+    }
+}
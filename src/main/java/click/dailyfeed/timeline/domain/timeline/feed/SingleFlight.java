@@ -0,0 +1,70 @@
+package click.dailyfeed.timeline.domain.timeline.feed;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 조회를 하나로 합친다. (single-flight)
+ * 먼저 들어온 요청이 자신의 스레드에서 조회하고, 그 사이 같은 키로 들어온 요청은 결과(또는 예외)를 그대로 받는다.
+ * 조회가 끝나면 키를 비우므로 결과를 보관하지는 않는다. 인스턴스 안에서만 합쳐진다.
+ * maxWait 를 주면 먼저 들어온 조회를 그 시간까지만 기다리고, 넘기면 기다리던 요청이 직접 조회한다. (결과는 합치지 않는다)
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inflight = new ConcurrentHashMap<>();
+
+    public Outcome<V> execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> leader = inflight.putIfAbsent(key, mine);
+        if (leader != null) {
+            try {
+                return new Outcome<>(leader.join(), true);
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+            }
+        }
+        return lead(key, mine, loader);
+    }
+
+    public Outcome<V> execute(K key, Supplier<V> loader, Duration maxWait) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> leader = inflight.putIfAbsent(key, mine);
+        if (leader != null) {
+            try {
+                return new Outcome<>(leader.get(maxWait.toMillis(), TimeUnit.MILLISECONDS), true);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : new CompletionException(e.getCause());
+            } catch (TimeoutException e) {
+                // 먼저 들어온 조회가 늦어지면 더 기다리지 않고 직접 조회한다
+                return new Outcome<>(loader.get(), false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        }
+        return lead(key, mine, loader);
+    }
+
+    private Outcome<V> lead(K key, CompletableFuture<V> mine, Supplier<V> loader) {
+        try {
+            V loaded = loader.get();
+            mine.complete(loaded);
+            return new Outcome<>(loaded, false);
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(key, mine);
+        }
+    }
+
+    /**
+     * shared 가 true 이면 다른 요청의 조회 결과를 받은 경우이다.
+     */
+    public record Outcome<V>(V value, boolean shared) {}
+}
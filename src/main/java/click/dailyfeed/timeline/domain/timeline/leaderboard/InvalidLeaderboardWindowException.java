@@ -0,0 +1,7 @@
+package click.dailyfeed.timeline.domain.timeline.leaderboard;
+
+public class InvalidLeaderboardWindowException extends RuntimeException {
+    public InvalidLeaderboardWindowException(String window) {
+        super("지원하지 않는 집계 구간입니다: " + window + " (24h, 7d, all)");
+    }
+}
@@ -0,0 +1,9 @@
+package click.dailyfeed.timeline.domain.timeline.leaderboard;
+
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+
+public record LeaderboardEntry(Long postPk, long score) {
+    public FeedCursor cursor() {
+        return FeedCursor.ofScore(score, postPk);
+    }
+}
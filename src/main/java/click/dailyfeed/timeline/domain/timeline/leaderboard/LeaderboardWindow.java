@@ -0,0 +1,35 @@
+package click.dailyfeed.timeline.domain.timeline.leaderboard;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * 댓글 많은 글 순위의 집계 구간
+ * hours 가 0 이면 전체 기간이다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LeaderboardWindow {
+    DAY("24h", 24),
+    WEEK("7d", 24 * 7),
+    ALL("all", 0);
+
+    private final String code;
+    private final int hours;
+
+    public boolean isAllTime() {
+        return hours == 0;
+    }
+
+    public static LeaderboardWindow from(String code) {
+        if (code == null || code.isBlank()) {
+            return ALL;
+        }
+        return Arrays.stream(values())
+                .filter(window -> window.code.equalsIgnoreCase(code))
+                .findFirst()
+                .orElseThrow(() -> new InvalidLeaderboardWindowException(code));
+    }
+}
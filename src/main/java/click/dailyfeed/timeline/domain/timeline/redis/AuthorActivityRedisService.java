@@ -0,0 +1,110 @@
+package click.dailyfeed.timeline.domain.timeline.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 작성자별 마지막 글 작성 시각 인덱스
+ * member = authorId, score = 마지막 글 작성 시각 (epoch millis) 인 ZSET 하나로 관리한다.
+ * 키 전체에 TTL 을 두지 않는다. (한꺼번에 만료되면 다음 요청들이 모두 DB 에서 다시 적재한다) DB 기준 보정은 주기적인 refresh 로 한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class AuthorActivityRedisService {
+    private static final String AUTHOR_LAST_POSTED_AT_KEY = "author_last_posted_at";
+
+    // 순서가 뒤바뀐 이벤트가 더 최근 값을 덮어쓰지 않도록 더 클 때만 갱신한다 (ZADD GT, 없던 작성자는 추가)
+    private static final RedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('ZADD', KEYS[1], 'GT', ARGV[1], ARGV[2])\n",
+            Long.class);
+
+    // 적재도 더 클 때만 갱신한다 (DB 에서 읽는 사이 이벤트로 반영된 더 최근 값을 덮어쓰지 않도록)
+    // 예전 버전이 걸어 둔 키 TTL 은 제거한다. ARGV = score, member 쌍
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "for i = 1, #ARGV, 10000 do\n" +
+            "  redis.call('ZADD', KEYS[1], 'GT', unpack(ARGV, i, math.min(i + 9999, #ARGV)))\n" +
+            "end\n" +
+            "redis.call('PERSIST', KEYS[1])\n" +
+            "return 1\n",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 작성자별 마지막 글 작성 시각 조회 (ZMSCORE, 1 round trip)
+     * 인덱스에 없는 작성자는 결과 Map 에 포함되지 않는다.
+     */
+    public Map<Long, Long> getLastPostedAt(List<Long> authorIds) {
+        if (authorIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Object[] members = authorIds.stream().map(String::valueOf).toArray();
+        List<Double> scores = stringRedisTemplate.opsForZSet().score(AUTHOR_LAST_POSTED_AT_KEY, members);
+
+        Map<Long, Long> result = new HashMap<>();
+        if (scores == null) {
+            return result;
+        }
+
+        for (int i = 0; i < authorIds.size(); i++) {
+            Double score = scores.get(i);
+            if (score != null) {
+                result.put(authorIds.get(i), score.longValue());
+            }
+        }
+        return result;
+    }
+
+    public void putAll(Map<Long, Long> lastPostedAtMap) {
+        if (lastPostedAtMap.isEmpty()) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>(lastPostedAtMap.size() * 2);
+        lastPostedAtMap.forEach((authorId, lastPostedAt) -> {
+            args.add(String.valueOf(lastPostedAt));
+            args.add(String.valueOf(authorId));
+        });
+        stringRedisTemplate.execute(SEED_SCRIPT, List.of(AUTHOR_LAST_POSTED_AT_KEY), args.toArray());
+    }
+
+    /**
+     * 인덱스의 작성자 id 를 chunkSize 개씩 넘겨준다. (ZSCAN, 도중에 점수가 바뀌어도 처음부터 있던 작성자는 빠지지 않는다)
+     */
+    public void scanAuthors(int chunkSize, Consumer<List<Long>> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().count(chunkSize).build();
+        try (Cursor<ZSetOperations.TypedTuple<String>> cursor = stringRedisTemplate.opsForZSet().scan(AUTHOR_LAST_POSTED_AT_KEY, options)) {
+            List<Long> chunk = new ArrayList<>(chunkSize);
+            while (cursor.hasNext()) {
+                chunk.add(Long.valueOf(cursor.next().getValue()));
+                if (chunk.size() >= chunkSize) {
+                    consumer.accept(List.copyOf(chunk));
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                consumer.accept(List.copyOf(chunk));
+            }
+        }
+    }
+
+    /**
+     * 새 글 작성 이벤트로 작성자의 마지막 글 작성 시각을 갱신한다.
+     */
+    public void touch(Long authorId, long postedAtMillis) {
+        stringRedisTemplate.execute(TOUCH_SCRIPT, List.of(AUTHOR_LAST_POSTED_AT_KEY), String.valueOf(postedAtMillis), String.valueOf(authorId));
+    }
+}
@@ -0,0 +1,140 @@
+package click.dailyfeed.timeline.domain.timeline.redis;
+
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 팔로워가 아주 많은 작성자(유명인)의 최근 글 (celebrity_posts:{authorId})
+ * 유명인의 글은 팔로워 타임라인마다 넣지 않고 작성자별 ZSET 한 곳에만 최신 ringSize 개를 두며, 읽는 시점에 팔로워의 타임라인과 합친다.
+ * member 는 게시글 id, score 는 작성 시각(FeedCursor 정렬 키)으로 팔로잉 타임라인과 같다.
+ * 유명인으로 글을 쓴 작성자는 celebrity:authors 에 두고, 최근 글 ZSET 이 만료된 뒤에(ttl 동안 유명인으로 쓴 글이 없을 때) 뺀다.
+ * 팔로워 수가 기준 아래로 내려간 작성자도 유명인일 때 쓴 글이 ZSET 에 남아 있는 동안은 빼지 않는다. (그 글은 팔로워 타임라인에 없다)
+ */
+@RequiredArgsConstructor
+@Service
+public class CelebrityPostsRedisService {
+    private static final String AUTHORS_KEY = "celebrity:authors";
+    private static final String POSTS_KEY = "celebrity_posts:";
+    private static final int SAME_KEY_SLACK = 10;
+
+    // KEYS[1]=celebrity:authors, KEYS[2]=celebrity_posts:{authorId}, ARGV[1]=authorId
+    // 확인과 삭제 사이에 새 글이 들어와 작성자가 빠지는 일이 없도록 한 번에 실행한다
+    private static final RedisScript<Long> RETIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return 0 end\n" +
+            "return redis.call('SREM', KEYS[1], ARGV[1])\n",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void publish(Long authorId, FeedCursor position, int ringSize, Duration ttl) {
+        String key = POSTS_KEY + authorId;
+        String member = String.valueOf(position.id());
+        double score = position.key();
+        long ttlSeconds = ttl.toSeconds();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.zAdd(key, score, member);
+            stringConnection.zRemRange(key, 0, -(ringSize + 1L));
+            stringConnection.expire(key, ttlSeconds);
+            stringConnection.sAdd(AUTHORS_KEY, String.valueOf(authorId));
+            return null;
+        });
+    }
+
+    /**
+     * authorIds 중 유명인만 (SMISMEMBER 한 번)
+     */
+    public List<Long> filterCelebrities(Collection<Long> authorIds) {
+        if (authorIds.isEmpty()) {
+            return List.of();
+        }
+        Object[] members = authorIds.stream().map(String::valueOf).toArray();
+        Map<Object, Boolean> result = stringRedisTemplate.opsForSet().isMember(AUTHORS_KEY, members);
+        if (result == null) {
+            return List.of();
+        }
+        List<Long> celebrities = new ArrayList<>();
+        for (Long authorId : authorIds) {
+            if (Boolean.TRUE.equals(result.get(String.valueOf(authorId)))) {
+                celebrities.add(authorId);
+            }
+        }
+        return celebrities;
+    }
+
+    /**
+     * 최근 글 ZSET 이 만료된 작성자를 celebrity:authors 에서 뺀다. ZSET 이 남아 있으면 그대로 둔다.
+     */
+    public void retireIfExpired(Long authorId) {
+        stringRedisTemplate.execute(RETIRE_SCRIPT, List.of(AUTHORS_KEY, POSTS_KEY + authorId), String.valueOf(authorId));
+    }
+
+    public Set<Long> celebrityAuthors() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(AUTHORS_KEY);
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    /**
+     * 작성자들의 최근 글을 최신순으로 합쳐 cursor 이후(cursor 미포함) 최대 limit 개 (작성자마다 limit 개씩, pipeline 한 번)
+     * 같은 pipeline 에서 ZSET 이 만료된 작성자를 확인해 celebrity:authors 에서 뺀다.
+     */
+    public List<TimelineEntry> recent(Collection<Long> authorIds, FeedCursor cursor, int limit) {
+        if (authorIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        double max = cursor == null ? Double.POSITIVE_INFINITY : cursor.key();
+        int count = cursor == null ? limit : limit + SAME_KEY_SLACK;
+        List<Long> targets = List.copyOf(authorIds);
+        List<Object> replies = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            targets.forEach(authorId -> {
+                stringConnection.zRevRangeByScoreWithScores(POSTS_KEY + authorId, Double.NEGATIVE_INFINITY, max, 0, count);
+                stringConnection.exists(POSTS_KEY + authorId);
+            });
+            return null;
+        });
+
+        List<TimelineEntry> entries = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            if (Boolean.FALSE.equals(replies.get(i * 2 + 1))) {
+                retireIfExpired(targets.get(i));
+            }
+            Object reply = replies.get(i * 2);
+            if (!(reply instanceof Set<?> tuples)) {
+                continue;
+            }
+            // pipeline 결과는 template 직렬화 설정에 따라 TypedTuple 또는 StringTuple 로 돌아온다
+            for (Object tuple : tuples) {
+                if (tuple instanceof ZSetOperations.TypedTuple<?> typed) {
+                    entries.add(new TimelineEntry(Long.valueOf(String.valueOf(typed.getValue())), typed.getScore().longValue(), null));
+                } else if (tuple instanceof StringRedisConnection.StringTuple stringTuple) {
+                    entries.add(new TimelineEntry(Long.valueOf(stringTuple.getValueAsString()), stringTuple.getScore().longValue(), null));
+                }
+            }
+        }
+        return entries.stream()
+                .filter(entry -> cursor == null || entry.cursor().compareTo(cursor) < 0)
+                .sorted(Comparator.comparing(TimelineEntry::cursor, Comparator.reverseOrder()))
+                .limit(limit)
+                .toList();
+    }
+}
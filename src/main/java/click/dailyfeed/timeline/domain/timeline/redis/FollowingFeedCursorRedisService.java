@@ -0,0 +1,33 @@
+package click.dailyfeed.timeline.domain.timeline.redis;
+
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+/**
+ * 팔로잉 피드 페이지 경계 cursor 저장소
+ * page 번호로 요청하는 클라이언트도 다음 페이지를 앞 페이지 재조회 없이 이어서 읽을 수 있도록,
+ * 각 페이지의 마지막 위치를 (memberId, page, size) 단위로 짧게 보관한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class FollowingFeedCursorRedisService {
+    private static final String FOLLOWING_FEED_CURSOR_KEY = "following_feed_cursor:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public FeedCursor get(Long memberId, int page, int size) {
+        return FeedCursor.decode(stringRedisTemplate.opsForValue().get(key(memberId, page, size)));
+    }
+
+    public void put(Long memberId, int page, int size, FeedCursor cursor, Duration ttl) {
+        stringRedisTemplate.opsForValue().set(key(memberId, page, size), cursor.encode(), ttl);
+    }
+
+    private String key(Long memberId, int page, int size) {
+        return FOLLOWING_FEED_CURSOR_KEY + memberId + ":" + page + ":" + size;
+    }
+}
@@ -0,0 +1,72 @@
+package click.dailyfeed.timeline.domain.timeline.redis;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.timeline.domain.timeline.cursor.CursorPage;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 전체 회원이 같은 결과를 보는 피드(인기순, 댓글순, 최근 활동순)의 페이지 캐시
+ * global_feed:{feed}:{조건} 에 좋아요 여부를 뺀 글 목록을 list 로, global_feed_meta:{feed}:{조건} 에 hasNext 와 다음 cursor 를 보관한다.
+ * meta 가 있으면 적중으로 보며, 빈 페이지도 meta 만으로 캐시된다.
+ */
+@RequiredArgsConstructor
+@Service
+public class GlobalFeedRedisService {
+    private static final String PAGE_KEY = "global_feed:";
+    private static final String META_KEY = "global_feed_meta:";
+    // meta 보다 목록이 먼저 만료되어 빈 페이지로 읽히지 않도록 목록 TTL 을 조금 더 길게 둔다
+    private static final Duration PAGE_TTL_MARGIN = Duration.ofSeconds(5);
+
+    @Qualifier("postDtoPostRedisTemplate")
+    private final RedisTemplate<String, PostDto.Post> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public CursorPage<PostDto.Post> get(String feedKey) {
+        String meta = stringRedisTemplate.opsForValue().get(META_KEY + feedKey);
+        if (meta == null) {
+            return null;
+        }
+        List<PostDto.Post> content = redisTemplate.opsForList().range(PAGE_KEY + feedKey, 0, -1);
+        return decodeMeta(meta, content == null ? List.of() : content);
+    }
+
+    public void put(String feedKey, CursorPage<PostDto.Post> page, Duration ttl) {
+        String key = PAGE_KEY + feedKey;
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, PostDto.Post> ops = (RedisOperations<String, PostDto.Post>) operations;
+                ops.delete(key);
+                if (!page.content().isEmpty()) {
+                    ops.opsForList().rightPushAll(key, page.content());
+                    ops.expire(key, ttl.plus(PAGE_TTL_MARGIN));
+                }
+                return null;
+            }
+        });
+        stringRedisTemplate.opsForValue().set(META_KEY + feedKey, encodeMeta(page), ttl);
+    }
+
+    // {hasNext 0|1}:{다음 cursor (없으면 빈 문자열)}
+    static String encodeMeta(CursorPage<?> page) {
+        return (page.hasNext() ? "1" : "0") + ":" + (page.nextCursor() == null ? "" : page.nextCursor().encode());
+    }
+
+    static <T> CursorPage<T> decodeMeta(String meta, List<T> content) {
+        int separator = meta.indexOf(':');
+        boolean hasNext = meta.startsWith("1");
+        FeedCursor nextCursor = FeedCursor.decode(meta.substring(separator + 1));
+        return new CursorPage<>(content, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,79 @@
+package click.dailyfeed.timeline.domain.timeline.redis;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * pull 방식 회원의 팔로잉 피드 페이지 캐시
+ * heavy_following_feed:{memberId}:{generation}:{page}:{size} 에 페이지 결과를 list 로 보관한다.
+ * 팔로잉 작성자가 새 글을 쓰면 회원의 generation 키를 지워 기존 페이지들을 한 번에 무효화한다. (남은 페이지는 TTL 로 사라짐)
+ */
+@RequiredArgsConstructor
+@Service
+public class HeavyFollowingFeedRedisService {
+    private static final String PAGE_KEY = "heavy_following_feed:";
+    private static final String GENERATION_KEY = "heavy_following_feed_gen:";
+
+    @Qualifier("postDtoPostRedisTemplate")
+    private final RedisTemplate<String, PostDto.Post> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 회원의 현재 generation (없으면 새로 발급)
+     * generation 키는 페이지 TTL 보다 길게 유지하여, 만료 후 재발급되어도 이전 페이지가 다시 읽히지 않게 한다.
+     */
+    public String generation(Long memberId, Duration ttl) {
+        String key = GENERATION_KEY + memberId;
+        String generation = stringRedisTemplate.opsForValue().get(key);
+        if (generation != null) {
+            return generation;
+        }
+        String issued = UUID.randomUUID().toString().substring(0, 8);
+        Boolean created = stringRedisTemplate.opsForValue().setIfAbsent(key, issued, ttl);
+        return Boolean.TRUE.equals(created) ? issued : stringRedisTemplate.opsForValue().get(key);
+    }
+
+    public List<PostDto.Post> getPage(Long memberId, String generation, int page, int size) {
+        return redisTemplate.opsForList().range(pageKey(memberId, generation, page, size), 0, -1);
+    }
+
+    public void putPage(Long memberId, String generation, int page, int size, List<PostDto.Post> posts, Duration ttl) {
+        String key = pageKey(memberId, generation, page, size);
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, PostDto.Post> ops = (RedisOperations<String, PostDto.Post>) operations;
+                ops.delete(key);
+                ops.opsForList().rightPushAll(key, posts);
+                ops.expire(key, ttl);
+                return null;
+            }
+        });
+    }
+
+    public void invalidate(Collection<Long> memberIds) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            memberIds.forEach(memberId -> stringConnection.del(GENERATION_KEY + memberId));
+            return null;
+        });
+    }
+
+    private static String pageKey(Long memberId, String generation, int page, int size) {
+        return PAGE_KEY + memberId + ":" + generation + ":" + page + ":" + size;
+    }
+}
@@ -0,0 +1,196 @@
+package click.dailyfeed.timeline.domain.timeline.redis;
+
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import click.dailyfeed.timeline.domain.timeline.leaderboard.LeaderboardEntry;
+import click.dailyfeed.timeline.domain.timeline.leaderboard.LeaderboardWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 댓글 많은 글 순위 (member = 게시글 id, score = 댓글 수)
+ * 전체 기간 ZSET 하나와 시간 단위 bucket ZSET 을 댓글 작성/삭제 이벤트로 증감하고,
+ * 24h/7d 구간은 bucket 들을 ZUNIONSTORE 로 합친 결과를 짧은 TTL 로 보관해 읽는다.
+ * 같은 점수 안에서도 id 역순이 되도록 member 는 19자리 zero-padding 문자열로 저장한다.
+ * 이벤트 증감은 재계산(rebuild)이 한 번 끝난 뒤의 값에만 의미가 있으므로, 재계산이 끝나면 built 표시 키를 남기고 조회는 이 키로 판단한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class MostCommentedLeaderboardRedisService {
+    private static final String KEY_PREFIX = "leaderboard:most_commented:";
+    private static final String ALL_TIME_KEY = KEY_PREFIX + "all";
+    private static final String HOUR_BUCKET_PREFIX = KEY_PREFIX + "h:";
+    private static final String BUILT_KEY = KEY_PREFIX + "built";
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final int WRITE_BATCH = 1000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${dailyfeed.services.timeline.leaderboard.window-cache-seconds:60}")
+    private Integer windowCacheSeconds;
+
+    /**
+     * @param commentCreatedAt 댓글 작성 시각, null 이면 (작성 시각을 모르는 삭제 이벤트) 시간 bucket 은 건드리지 않는다
+     */
+    public void increment(Long postPk, LocalDateTime commentCreatedAt, long delta) {
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+        String member = member(postPk);
+
+        Double allTime = zSet.incrementScore(ALL_TIME_KEY, member, delta);
+        if (allTime != null && allTime <= 0) {
+            zSet.remove(ALL_TIME_KEY, member);
+        }
+
+        if (commentCreatedAt == null) {
+            return;
+        }
+        LocalDateTime hour = commentCreatedAt.truncatedTo(ChronoUnit.HOURS);
+        if (hour.isAfter(LocalDateTime.now().minusHours(LeaderboardWindow.WEEK.getHours() + 1))) {
+            String bucketKey = hourBucketKey(hour);
+            zSet.incrementScore(bucketKey, member, delta);
+            stringRedisTemplate.expire(bucketKey, bucketTtl());
+        }
+    }
+
+    // 재계산이 한 번이라도 끝났는지 (배포 직후, redis 초기화 직후에는 false)
+    public boolean isBuilt() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(BUILT_KEY));
+    }
+
+    public void markBuilt() {
+        stringRedisTemplate.opsForValue().set(BUILT_KEY, LocalDateTime.now().toString());
+    }
+
+    /**
+     * 순위 구간 조회 (hasNext 판단을 위해 size + 1 개)
+     * cursor 가 있으면 (score, id) 이후부터, 없으면 page 위치부터 읽는다.
+     */
+    public List<LeaderboardEntry> range(LeaderboardWindow window, int page, int size, FeedCursor after) {
+        String key = window.isAllTime() ? ALL_TIME_KEY : materializedWindowKey(window);
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+        int limit = size + 1;
+
+        if (after == null) {
+            long start = (long) page * size;
+            return toEntries(zSet.reverseRangeWithScores(key, start, start + limit - 1));
+        }
+
+        // cursor 위치의 글이 같은 점수로 남아 있으면 순위(rank)로 바로 이어서 읽는다
+        String cursorMember = member(after.id());
+        Double cursorScore = zSet.score(key, cursorMember);
+        if (cursorScore != null && cursorScore.longValue() == after.key()) {
+            Long rank = zSet.reverseRank(key, cursorMember);
+            if (rank != null) {
+                return toEntries(zSet.reverseRangeWithScores(key, rank + 1, rank + limit));
+            }
+        }
+
+        // 점수가 바뀐 경우: cursor 점수보다 큰 글 수를 건너뛴 뒤, 같은 점수 구간에서 id 로 걸러낸다
+        Long higher = zSet.count(key, after.key() + 0.5, Double.POSITIVE_INFINITY);
+        long offset = higher == null ? 0 : higher;
+        List<LeaderboardEntry> result = new ArrayList<>();
+        while (result.size() < limit) {
+            List<LeaderboardEntry> batch = toEntries(zSet.reverseRangeWithScores(key, offset, offset + limit - 1));
+            if (batch.isEmpty()) {
+                break;
+            }
+            batch.stream()
+                    .filter(entry -> entry.cursor().compareTo(after) < 0)
+                    .limit(limit - result.size())
+                    .forEach(result::add);
+            offset += batch.size();
+        }
+        return result;
+    }
+
+    /**
+     * 전체 기간 순위를 재계산 결과로 교체 (임시 키에 적재 후 RENAME)
+     */
+    public void replaceAllTime(Stream<LeaderboardEntry> entries) {
+        replace(ALL_TIME_KEY, entries, null);
+    }
+
+    public void replaceHourBucket(LocalDateTime hour, Stream<LeaderboardEntry> entries) {
+        replace(hourBucketKey(hour), entries, bucketTtl());
+    }
+
+    private void replace(String key, Stream<LeaderboardEntry> entries, Duration ttl) {
+        String tempKey = key + ":rebuild";
+        stringRedisTemplate.delete(tempKey);
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        entries.filter(entry -> entry.score() > 0).forEach(entry -> {
+            tuples.add(ZSetOperations.TypedTuple.of(member(entry.postPk()), (double) entry.score()));
+            if (tuples.size() >= WRITE_BATCH) {
+                stringRedisTemplate.opsForZSet().add(tempKey, tuples);
+                tuples.clear();
+            }
+        });
+        if (!tuples.isEmpty()) {
+            stringRedisTemplate.opsForZSet().add(tempKey, tuples);
+        }
+
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(tempKey))) {
+            stringRedisTemplate.rename(tempKey, key);
+            if (ttl != null) {
+                stringRedisTemplate.expire(key, ttl);
+            }
+        } else {
+            stringRedisTemplate.delete(key);
+        }
+    }
+
+    // 24h/7d 구간 순위: 시간 bucket 합산 결과를 window-cache-seconds 동안 재사용
+    private String materializedWindowKey(LeaderboardWindow window) {
+        String windowKey = KEY_PREFIX + window.getCode();
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(windowKey))) {
+            return windowKey;
+        }
+
+        LocalDateTime currentHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        List<String> bucketKeys = new ArrayList<>();
+        for (int i = 0; i < window.getHours(); i++) {
+            bucketKeys.add(hourBucketKey(currentHour.minusHours(i)));
+        }
+
+        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+        zSet.unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), windowKey);
+        zSet.removeRangeByScore(windowKey, Double.NEGATIVE_INFINITY, 0);
+        stringRedisTemplate.expire(windowKey, Duration.ofSeconds(windowCacheSeconds));
+        return windowKey;
+    }
+
+    private List<LeaderboardEntry> toEntries(Set<ZSetOperations.TypedTuple<String>> tuples) {
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        return tuples.stream()
+                .map(tuple -> new LeaderboardEntry(Long.parseLong(tuple.getValue()), tuple.getScore().longValue()))
+                .collect(Collectors.toList());
+    }
+
+    private Duration bucketTtl() {
+        return Duration.ofHours(LeaderboardWindow.WEEK.getHours() + 24);
+    }
+
+    private static String hourBucketKey(LocalDateTime hour) {
+        return HOUR_BUCKET_PREFIX + hour.format(HOUR_FORMAT);
+    }
+
+    private static String member(Long postPk) {
+        return String.format("%019d", postPk);
+    }
+}
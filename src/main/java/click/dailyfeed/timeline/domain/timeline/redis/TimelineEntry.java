@@ -0,0 +1,14 @@
+package click.dailyfeed.timeline.domain.timeline.redis;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+
+/**
+ * 타임라인 한 칸 (글 id, 정렬 키, 공유 캐시의 본문)
+ * 본문 캐시가 만료된 글은 body 가 null 이며, 조립 단계에서 DB 로 채운다.
+ */
+public record TimelineEntry(Long postPk, long score, PostDto.Post body) {
+    public FeedCursor cursor() {
+        return FeedCursor.ofScore(score, postPk);
+    }
+}
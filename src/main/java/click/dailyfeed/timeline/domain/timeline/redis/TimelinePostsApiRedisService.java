@@ -1,38 +1,144 @@
 package click.dailyfeed.timeline.domain.timeline.redis;
 
 import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.timeline.domain.post.redis.PostBodyRedisService;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Set;
 
+/**
+ * 팔로잉 타임라인 (timeline:followings:{memberId})
+ * member 는 게시글 id, score 는 작성 시각(epoch micros, FeedCursor 의 정렬 키와 동일)만 저장한다.
+ * 글 본문은 공유 캐시(PostBodyRedisService)에서, 작성자/통계는 조회 시점에 채운다.
+ * 페이지 조회는 타임라인 구간과 본문을 Lua 스크립트 하나로 읽어 요청당 redis 왕복을 한 번으로 줄인다.
+ * (본문 키를 스크립트 안에서 만들므로 단일 노드 redis 를 전제로 한다)
+ */
 @RequiredArgsConstructor
 @Service
 public class TimelinePostsApiRedisService {
+    private static final String FOLLOWINGS_TIMELINE_KEY = "timeline:followings:";
+    private static final int SAME_KEY_SLACK = 10;
+    private static final String MODE_RANK = "rank";
+    private static final String MODE_SCORE = "score";
+
+    // 반환: [id, score, body(없으면 nil)] 이 글 수만큼 이어진 배열
+    private static final byte[] TIMELINE_PAGE_SCRIPT = (
+            "local entries\n" +
+            "if ARGV[1] == 'rank' then\n" +
+            "  entries = redis.call('ZREVRANGE', KEYS[1], ARGV[2], ARGV[3], 'WITHSCORES')\n" +
+            "else\n" +
+            "  entries = redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[2], '-inf', 'WITHSCORES', 'LIMIT', 0, ARGV[3])\n" +
+            "end\n" +
+            "local result = {}\n" +
+            "if #entries == 0 then return result end\n" +
+            "local bodyKeys = {}\n" +
+            "for i = 1, #entries, 2 do bodyKeys[#bodyKeys + 1] = ARGV[4] .. entries[i] end\n" +
+            "local bodies = redis.call('MGET', unpack(bodyKeys))\n" +
+            "for i = 1, #bodyKeys do\n" +
+            "  result[#result + 1] = entries[2 * i - 1]\n" +
+            "  result[#result + 1] = entries[2 * i]\n" +
+            "  result[#result + 1] = bodies[i]\n" +
+            "end\n" +
+            "return result\n"
+    ).getBytes(StandardCharsets.UTF_8);
 
     @Qualifier("postDtoPostRedisTemplate")
     private final RedisTemplate<String, PostDto.Post> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
 
-    public List<PostDto.Post> topN(String redisKey, int page, int size) {
-        ZSetOperations<String, PostDto.Post> zSetOperations = redisTemplate.opsForZSet();
-
+    /**
+     * 타임라인 구간과 그 글들의 본문을 한 번의 왕복으로 읽는다. (ZREVRANGE + MGET 을 Lua 로 묶음)
+     */
+    public List<TimelineEntry> topN(Long memberId, int page, int size) {
         long start = (long) page * size;
         long end = start + size - 1;
+        return readPage(followingsKey(memberId), MODE_RANK, String.valueOf(start), String.valueOf(end));
+    }
 
-        Set<PostDto.Post> topN = zSetOperations.reverseRange(redisKey, start, end);
+    /**
+     * cursor(createdAt, id) 이후의 글을 최신순으로 size 개 조회 (본문 포함, 한 번의 왕복)
+     * score 가 cursor 와 같은 글은 id 로 한 번 더 걸러낸다.
+     */
+    public List<TimelineEntry> topNBefore(Long memberId, FeedCursor cursor, int size) {
+        return readPage(followingsKey(memberId), MODE_SCORE, String.valueOf(cursor.key()), String.valueOf(size + SAME_KEY_SLACK))
+                .stream()
+                .filter(entry -> entry.cursor().compareTo(cursor) < 0)
+                .limit(size)
+                .toList();
+    }
 
-        if (topN == null || topN.isEmpty()){
+    /**
+     * 타임라인에 남아 있는 글 수 (cursor 가 있으면 cursor 위치 이하의 글 수, 같은 작성 시각의 글을 포함한 근사치)
+     */
+    public long countAvailable(Long memberId, FeedCursor cursor) {
+        Long count = cursor == null
+                ? stringRedisTemplate.opsForZSet().zCard(followingsKey(memberId))
+                : stringRedisTemplate.opsForZSet().count(followingsKey(memberId), Double.NEGATIVE_INFINITY, cursor.key());
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * 여러 회원의 타임라인에 같은 글 id 를 추가 (pipeline 한 번으로 전송)
+     * 타임라인마다 최신 maxSize 개만 남기고, 활동이 없는 회원의 타임라인은 ttl 뒤에 사라진다.
+     */
+    public void pushToTimelines(Collection<Long> memberIds, FeedCursor position, int maxSize, Duration ttl) {
+        String member = String.valueOf(position.id());
+        double score = position.key();
+        long ttlSeconds = ttl.toSeconds();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long memberId : memberIds) {
+                String key = followingsKey(memberId);
+                stringConnection.zAdd(key, score, member);
+                stringConnection.zRemRange(key, 0, -(maxSize + 1L));
+                stringConnection.expire(key, ttlSeconds);
+            }
+            return null;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TimelineEntry> readPage(String timelineKey, String mode, String from, String to) {
+        RedisSerializer<PostDto.Post> bodySerializer = (RedisSerializer<PostDto.Post>) redisTemplate.getValueSerializer();
+        List<byte[]> reply = stringRedisTemplate.execute((RedisCallback<List<byte[]>>) connection -> connection.scriptingCommands().eval(
+                TIMELINE_PAGE_SCRIPT, ReturnType.MULTI, 1,
+                bytes(timelineKey), bytes(mode), bytes(from), bytes(to), bytes(PostBodyRedisService.POST_BODY_KEY)));
+
+        if (reply == null || reply.isEmpty()) {
             return List.of();
         }
+        List<TimelineEntry> entries = new ArrayList<>(reply.size() / 3);
+        for (int i = 0; i + 2 < reply.size(); i += 3) {
+            entries.add(new TimelineEntry(
+                    Long.valueOf(string(reply.get(i))),
+                    (long) Double.parseDouble(string(reply.get(i + 1))),
+                    reply.get(i + 2) == null ? null : bodySerializer.deserialize(reply.get(i + 2))));
+        }
+        return entries;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
 
-        return topN.stream().toList();
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
     }
 
-    public List<PostDto.Post> getList(String redisKey, int pageNumber, int pageSize) {
-        return redisTemplate.opsForList().range(redisKey, pageNumber, pageSize);
+    private static String followingsKey(Long memberId) {
+        return FOLLOWINGS_TIMELINE_KEY + memberId;
     }
 }
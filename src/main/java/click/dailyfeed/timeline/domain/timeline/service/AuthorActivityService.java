@@ -0,0 +1,85 @@
+package click.dailyfeed.timeline.domain.timeline.service;
+
+import click.dailyfeed.timeline.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.timeline.domain.timeline.redis.AuthorActivityRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class AuthorActivityService {
+    private final PostRepository postRepository;
+    private final AuthorActivityRedisService authorActivityRedisService;
+
+    @Value("${dailyfeed.services.timeline.super-heavy.seed-chunk-size}")
+    private Integer seedChunkSize;
+
+    /**
+     * authorIds 중 since 이후 글을 작성한 작성자를 최근 작성 순으로 최대 limit 명까지 반환
+     * 인덱스에 없는 작성자는 DB 에서 seedChunkSize 단위로 조회해 인덱스에 적재한다.
+     */
+    public List<Long> findRecentlyActiveAuthors(Collection<Long> authorIds, LocalDateTime since, int limit) {
+        List<Long> ids = List.copyOf(authorIds);
+        Map<Long, Long> lastPostedAtMap = new HashMap<>(authorActivityRedisService.getLastPostedAt(ids));
+
+        List<Long> missingIds = ids.stream().filter(id -> !lastPostedAtMap.containsKey(id)).toList();
+        if (!missingIds.isEmpty()) {
+            lastPostedAtMap.putAll(seed(missingIds));
+        }
+
+        long sinceMillis = toEpochMilli(since);
+        return lastPostedAtMap.entrySet().stream()
+                .filter(e -> e.getValue() >= sinceMillis)
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 글 작성 이벤트로 인덱스를 갱신한다. (seed 때 0 이나 오래된 시각으로 적재된 작성자도 refresh 를 기다리지 않고 바로 활동 작성자가 된다)
+     */
+    public void touch(Long authorId, LocalDateTime postedAt) {
+        authorActivityRedisService.touch(authorId, toEpochMilli(postedAt == null ? LocalDateTime.now() : postedAt));
+    }
+
+    /**
+     * 인덱스에 있는 작성자 전체를 DB 기준으로 다시 적재한다. (이벤트 유실 보정, 더 최근 값만 반영)
+     */
+    public int refresh() {
+        AtomicInteger total = new AtomicInteger();
+        authorActivityRedisService.scanAuthors(seedChunkSize, chunk -> total.addAndGet(seed(chunk).size()));
+        return total.get();
+    }
+
+    private Map<Long, Long> seed(List<Long> authorIds) {
+        Map<Long, Long> seeded = new HashMap<>();
+        for (int from = 0; from < authorIds.size(); from += seedChunkSize) {
+            List<Long> chunk = authorIds.subList(from, Math.min(from + seedChunkSize, authorIds.size()));
+
+            // 글이 없는 작성자도 0 으로 적재해서 매 요청마다 DB 를 다시 조회하지 않도록 한다
+            chunk.forEach(id -> seeded.put(id, 0L));
+            postRepository.findLastPostedAtByAuthorIds(chunk)
+                    .forEach(p -> seeded.put(p.getAuthorId(), toEpochMilli(p.getLastPostedAt())));
+        }
+
+        log.debug("author activity index seeded: {} authors", seeded.size());
+        authorActivityRedisService.putAll(seeded);
+        return seeded;
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,111 @@
+package click.dailyfeed.timeline.domain.timeline.service;
+
+import click.dailyfeed.timeline.domain.member.redis.FollowerIndexRedisService;
+import click.dailyfeed.timeline.domain.member.redis.FollowingsRedisService;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import click.dailyfeed.timeline.domain.timeline.redis.CelebrityPostsRedisService;
+import click.dailyfeed.timeline.domain.timeline.redis.TimelineEntry;
+import click.dailyfeed.timeline.domain.timeline.redis.TimelinePostsApiRedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 유명인(팔로워 수가 celebrity.followers-threshold 이상인 작성자) 글의 fan-out-on-read
+ * 유명인의 글은 작성자별 최근 글 ZSET 에 한 번만 넣고 (fan-out 비용 O(1)),
+ * 팔로잉 타임라인을 읽을 때 이 회원이 팔로우하는 유명인의 최근 글을 함께 읽어 (createdAt, id) 역순으로 합친다.
+ * 팔로우하는 유명인은 캐시된 팔로잉 목록과 celebrity:authors 의 교집합(SMISMEMBER 한 번)으로 구하므로 유명인 수와 무관하다.
+ * 팔로잉 목록이 캐시에 없으면 유명인마다 팔로워 색인을 확인한다.
+ * 합친 요청 수는 timeline.feed.celebrity_merge 로 집계한다.
+ */
+@RequiredArgsConstructor
+@Service
+public class CelebrityFeedService {
+    private static final String METRIC_CELEBRITY_MERGE = "timeline.feed.celebrity_merge";
+
+    private final CelebrityPostsRedisService celebrityPostsRedisService;
+    private final TimelinePostsApiRedisService timelinePostsApiRedisService;
+    private final FollowerIndexRedisService followerIndexRedisService;
+    private final FollowingsRedisService followingsRedisService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dailyfeed.services.timeline.celebrity.followers-threshold:10000}")
+    private Long followersThreshold;
+
+    @Value("${dailyfeed.services.timeline.celebrity.ring-size:200}")
+    private Integer ringSize;
+
+    @Value("${dailyfeed.services.timeline.fan-out.timeline-ttl-days:7}")
+    private Integer ttlDays;
+
+    public boolean isCelebrity(Long authorId) {
+        return followerIndexRedisService.countFollowers(authorId) >= followersThreshold;
+    }
+
+    public void publish(Long authorId, FeedCursor position) {
+        celebrityPostsRedisService.publish(authorId, position, ringSize, Duration.ofDays(ttlDays));
+    }
+
+    // 기준 아래로 내려간 작성자는 유명인일 때 쓴 글이 만료된 뒤 celebrity:authors 에서 빠진다
+    public void retireIfExpired(Long authorId) {
+        celebrityPostsRedisService.retireIfExpired(authorId);
+    }
+
+    /**
+     * 팔로잉 타임라인 한 페이지 (limit 개)를 유명인 최근 글과 합쳐 읽는다.
+     * 팔로우하는 유명인이 없으면 타임라인만 읽는다.
+     * page 요청은 두 목록의 순위가 섞이므로 앞 페이지까지 함께 읽어 합친 뒤 해당 구간만 잘라낸다.
+     */
+    public List<TimelineEntry> readTimeline(Long memberId, int page, FeedCursor after, int limit) {
+        List<Long> celebrities = followedCelebrities(memberId);
+        if (celebrities.isEmpty()) {
+            return after == null
+                    ? timelinePostsApiRedisService.topN(memberId, page, limit)
+                    : timelinePostsApiRedisService.topNBefore(memberId, after, limit);
+        }
+
+        int window = after == null ? (page + 1) * limit : limit;
+        List<TimelineEntry> pushed = after == null
+                ? timelinePostsApiRedisService.topN(memberId, 0, window)
+                : timelinePostsApiRedisService.topNBefore(memberId, after, window);
+        List<TimelineEntry> celebrityPosts = celebrityPostsRedisService.recent(celebrities, after, window);
+        meterRegistry.counter(METRIC_CELEBRITY_MERGE).increment();
+
+        List<TimelineEntry> merged = merge(pushed, celebrityPosts, window);
+        int skip = after == null ? page * limit : 0;
+        return merged.subList(Math.min(skip, merged.size()), merged.size());
+    }
+
+    private List<Long> followedCelebrities(Long memberId) {
+        List<Long> followingIds = followingsRedisService.get(memberId);
+        if (followingIds != null) {
+            return celebrityPostsRedisService.filterCelebrities(followingIds);
+        }
+        return followerIndexRedisService.filterFollowedBy(memberId, celebrityPostsRedisService.celebrityAuthors());
+    }
+
+    // 두 목록 모두 최신순이므로 앞에서부터 한 번씩만 비교한다 (유명인에서 일반 작성자로 바뀐 경우 같은 글이 양쪽에 있을 수 있어 id 로 거른다)
+    private static List<TimelineEntry> merge(List<TimelineEntry> pushed, List<TimelineEntry> celebrityPosts, int limit) {
+        List<TimelineEntry> result = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        int i = 0;
+        int j = 0;
+        while (result.size() < limit && (i < pushed.size() || j < celebrityPosts.size())) {
+            TimelineEntry next = j >= celebrityPosts.size()
+                    || (i < pushed.size() && pushed.get(i).cursor().compareTo(celebrityPosts.get(j).cursor()) >= 0)
+                    ? pushed.get(i++)
+                    : celebrityPosts.get(j++);
+            if (seen.add(next.postPk())) {
+                result.add(next);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+package click.dailyfeed.timeline.domain.timeline.service;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.timeline.domain.timeline.cursor.CursorPage;
+import click.dailyfeed.timeline.domain.timeline.feed.SingleFlight;
+import click.dailyfeed.timeline.domain.timeline.redis.GlobalFeedRedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 전체 회원이 같은 결과를 보는 피드의 공유 캐시
+ * 피드 종류와 조건(집계 구간, page/cursor, size)마다 하나의 캐시를 두고, 회원별 좋아요 여부는 캐시하지 않는다.
+ * 캐시에 없으면 같은 키의 동시 요청을 하나로 합쳐 조회한 뒤 적재한다. (single-flight, 인스턴스 단위)
+ * 응답 조립 단계가 제한 시간을 넘긴(degraded) 결과는 그 조회를 기다린 요청에만 돌려주고 캐시하지 않는다.
+ * 작성자 정보 조회(feign)는 먼저 들어온 요청의 token 으로 실행된다. 그 요청의 token 이 만료되는 등 조회가 실패하면,
+ * 기다리던 요청은 실패를 넘겨받지 않고 자신의 token 으로 다시 조회한다.
+ * 먼저 들어온 조회는 max-wait-millis 까지만 기다리고, 넘기면 기다리던 요청이 직접 조회해 적재한다.
+ * 결과는 timeline.global_feed.cache{feed, result=hit|miss|shared|retry} 로 집계한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class GlobalFeedCacheService {
+    private static final String METRIC_CACHE = "timeline.global_feed.cache";
+
+    private final GlobalFeedRedisService globalFeedRedisService;
+    private final MeterRegistry meterRegistry;
+
+    private final SingleFlight<String, CursorPage<PostDto.Post>> flights = new SingleFlight<>();
+
+    @Value("${dailyfeed.services.timeline.global-feed-cache.ttl-seconds:10}")
+    private Long ttlSeconds;
+
+    @Value("${dailyfeed.services.timeline.global-feed-cache.jitter-ratio:0.2}")
+    private Double jitterRatio;
+
+    @Value("${dailyfeed.services.timeline.global-feed-cache.max-wait-millis:2000}")
+    private Long maxWaitMillis;
+
+    public CursorPage<PostDto.Post> getOrLoad(String feed, String key, Supplier<SharedPage> loader) {
+        String feedKey = feed + ":" + key;
+        CursorPage<PostDto.Post> cached = globalFeedRedisService.get(feedKey);
+        if (cached != null) {
+            meterRegistry.counter(METRIC_CACHE, "feed", feed, "result", "hit").increment();
+            return cached;
+        }
+
+        AtomicBoolean leader = new AtomicBoolean(false);
+        SingleFlight.Outcome<CursorPage<PostDto.Post>> outcome;
+        try {
+            outcome = flights.execute(feedKey, () -> {
+                leader.set(true);
+                return loadAndPut(feedKey, loader);
+            }, Duration.ofMillis(maxWaitMillis));
+        } catch (RuntimeException e) {
+            if (leader.get()) {
+                throw e;
+            }
+            // 먼저 들어온 요청의 조회(그 요청의 token, 응답)가 실패한 경우
+            log.warn("shared load of global feed '{}' failed, reloading with own request: {}", feedKey, e.getMessage());
+            meterRegistry.counter(METRIC_CACHE, "feed", feed, "result", "retry").increment();
+            return loadAndPut(feedKey, loader);
+        }
+        meterRegistry.counter(METRIC_CACHE, "feed", feed, "result", outcome.shared() ? "shared" : "miss").increment();
+        return outcome.value();
+    }
+
+    private CursorPage<PostDto.Post> loadAndPut(String feedKey, Supplier<SharedPage> loader) {
+        SharedPage loaded = loader.get();
+        if (!loaded.degraded()) {
+            globalFeedRedisService.put(feedKey, loaded.page(), jitteredTtl());
+        }
+        return loaded.page();
+    }
+
+    private Duration jitteredTtl() {
+        long jitter = (long) (ttlSeconds * jitterRatio * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofSeconds(ttlSeconds + jitter);
+    }
+
+    /**
+     * 회원과 무관한 부분만 채운 피드 한 페이지. degraded 이면 캐시하지 않는다.
+     */
+    public record SharedPage(CursorPage<PostDto.Post> page, boolean degraded) {}
+}
@@ -0,0 +1,72 @@
+package click.dailyfeed.timeline.domain.timeline.service;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.timeline.domain.timeline.enrichment.EnrichedPosts;
+import click.dailyfeed.timeline.domain.timeline.feed.SingleFlight;
+import click.dailyfeed.timeline.domain.timeline.redis.HeavyFollowingFeedRedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * pull 방식 회원의 팔로잉 피드 페이지 캐시
+ * - 캐시에 없으면 조회 후 적재하며, TTL 에 jitter 를 더해 같은 시각에 만료가 몰리지 않게 한다.
+ * - 같은 키에 동시에 miss 가 나면 인스턴스 안에서는 먼저 들어온 요청 하나만 조회하고 나머지는 그 결과를 기다린다. (single-flight)
+ * - 팔로잉 작성자가 새 글을 쓰면 fan-out 에서 invalidate 를 호출한다.
+ * - 응답 조립 단계가 제한 시간을 넘긴(degraded) 페이지는 그 요청에만 응답하고 캐시하지 않는다.
+ * 결과는 timeline.heavy_feed.cache{result=hit|miss|shared} 로 집계한다. (적중률 = hit / (hit + miss + shared))
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class HeavyFollowingFeedCacheService {
+    private static final String METRIC_CACHE = "timeline.heavy_feed.cache";
+
+    private final HeavyFollowingFeedRedisService heavyFollowingFeedRedisService;
+    private final MeterRegistry meterRegistry;
+
+    private final SingleFlight<String, List<PostDto.Post>> flights = new SingleFlight<>();
+
+    @Value("${dailyfeed.services.timeline.heavy-feed-cache.ttl-seconds:30}")
+    private Long ttlSeconds;
+
+    @Value("${dailyfeed.services.timeline.heavy-feed-cache.jitter-ratio:0.2}")
+    private Double jitterRatio;
+
+    public List<PostDto.Post> getOrLoad(Long memberId, int page, int size, Supplier<EnrichedPosts> loader) {
+        String generation = heavyFollowingFeedRedisService.generation(memberId, Duration.ofSeconds(ttlSeconds * 2));
+        List<PostDto.Post> cached = heavyFollowingFeedRedisService.getPage(memberId, generation, page, size);
+        if (cached != null && !cached.isEmpty()) {
+            meterRegistry.counter(METRIC_CACHE, "result", "hit").increment();
+            return cached;
+        }
+
+        String flightKey = memberId + ":" + generation + ":" + page + ":" + size;
+        SingleFlight.Outcome<List<PostDto.Post>> outcome = flights.execute(flightKey, () -> {
+            EnrichedPosts loaded = loader.get();
+            if (!loaded.posts().isEmpty() && !loaded.degraded()) {
+                heavyFollowingFeedRedisService.putPage(memberId, generation, page, size, loaded.posts(), jitteredTtl());
+            }
+            return loaded.posts();
+        });
+        meterRegistry.counter(METRIC_CACHE, "result", outcome.shared() ? "shared" : "miss").increment();
+        return outcome.value();
+    }
+
+    public void invalidate(Collection<Long> memberIds) {
+        heavyFollowingFeedRedisService.invalidate(memberIds);
+    }
+
+    private Duration jitteredTtl() {
+        long jitter = (long) (ttlSeconds * jitterRatio * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofSeconds(ttlSeconds + jitter);
+    }
+}
@@ -0,0 +1,88 @@
+package click.dailyfeed.timeline.domain.timeline.service;
+
+import click.dailyfeed.timeline.domain.comment.kafka.CommentEvent;
+import click.dailyfeed.timeline.domain.comment.projection.PostCommentCountProjection;
+import click.dailyfeed.timeline.domain.comment.projection.PostHourlyCommentCountProjection;
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentMongoAggregation;
+import click.dailyfeed.timeline.domain.timeline.cursor.CursorPage;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import click.dailyfeed.timeline.domain.timeline.leaderboard.LeaderboardEntry;
+import click.dailyfeed.timeline.domain.timeline.leaderboard.LeaderboardWindow;
+import click.dailyfeed.timeline.domain.timeline.redis.MostCommentedLeaderboardRedisService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 댓글 많은 글 순위
+ * 댓글 작성/삭제 이벤트로 redis 순위를 증감하고, 조회는 redis ZSET 구간 읽기로 처리한다.
+ * 재계산이 한 번도 끝나지 않은 동안(배포 직후, redis 초기화 직후)에는 이벤트 증감분만 쌓여 있으므로 모든 구간을 comments 집계로 대신 응답한다.
+ * 재계산은 CounterReconcileScheduler 가 built 표시가 없을 때 바로, 그 외에는 매일 실행한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class MostCommentedLeaderboardService {
+    private final MostCommentedLeaderboardRedisService leaderboardRedisService;
+    private final CommentMongoAggregation commentMongoAggregation;
+
+    public void onComment(CommentEvent event) {
+        // 작성 시각을 모르는 삭제 이벤트는 전체 기간 순위만 줄인다 (현재 시간 bucket 을 잘못 줄이지 않도록)
+        LocalDateTime createdAt = event.getCreatedAt();
+        if (createdAt == null && event.getType() == CommentEvent.Type.CREATE) {
+            createdAt = LocalDateTime.now();
+        }
+        leaderboardRedisService.increment(event.getPostPk(), createdAt, event.delta());
+    }
+
+    public boolean isBuilt() {
+        return leaderboardRedisService.isBuilt();
+    }
+
+    // size + 1 개를 읽어 hasNext 를 판단한다
+    public CursorPage<LeaderboardEntry> page(LeaderboardWindow window, int page, FeedCursor cursor, int size) {
+        if (!leaderboardRedisService.isBuilt()) {
+            LocalDateTime since = window.isAllTime() ? null : LocalDateTime.now().minusHours(window.getHours());
+            List<PostCommentCountProjection> fetched = cursor == null
+                    ? commentMongoAggregation.findTopPostsByCommentCount(since, PageRequest.of(page, size + 1))
+                    : commentMongoAggregation.findTopPostsByCommentCountAfter(since, cursor, size + 1);
+            List<LeaderboardEntry> entries = fetched.stream()
+                    .map(p -> new LeaderboardEntry(p.getPostPk(), p.getCommentCount()))
+                    .collect(Collectors.toList());
+            return CursorPage.of(entries, size, LeaderboardEntry::cursor);
+        }
+
+        return CursorPage.of(leaderboardRedisService.range(window, page, size, cursor), size, LeaderboardEntry::cursor);
+    }
+
+    /**
+     * comments 원본 기준으로 전체 기간 순위와 최근 7일 시간 bucket 을 다시 만든다.
+     * 이벤트 유실/중복으로 어긋난 점수를 바로잡는다.
+     */
+    public void rebuild() {
+        try (Stream<PostCommentCountProjection> counts = commentMongoAggregation.streamCommentCountsByPost()) {
+            leaderboardRedisService.replaceAllTime(counts.map(p -> new LeaderboardEntry(p.getPostPk(), p.getCommentCount())));
+        }
+
+        LocalDateTime currentHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime since = currentHour.minusHours(LeaderboardWindow.WEEK.getHours() - 1);
+        Map<LocalDateTime, List<PostHourlyCommentCountProjection>> byHour = commentMongoAggregation.countCommentsByPostAndHourSince(since)
+                .stream()
+                .collect(Collectors.groupingBy(PostHourlyCommentCountProjection::getHour));
+
+        for (LocalDateTime hour = since; !hour.isAfter(currentHour); hour = hour.plusHours(1)) {
+            List<PostHourlyCommentCountProjection> counts = byHour.getOrDefault(hour, List.of());
+            leaderboardRedisService.replaceHourBucket(hour, counts.stream().map(p -> new LeaderboardEntry(p.getPostPk(), p.getCommentCount())));
+        }
+        leaderboardRedisService.markBuilt();
+        log.info("most commented leaderboard rebuilt, hourBuckets={}", byHour.size());
+    }
+}
@@ -0,0 +1,133 @@
+package click.dailyfeed.timeline.domain.timeline.service;
+
+import click.dailyfeed.timeline.domain.member.redis.FollowerIndexRedisService;
+import click.dailyfeed.timeline.domain.post.entity.Post;
+import click.dailyfeed.timeline.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.timeline.domain.post.service.PostBodyCacheService;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import click.dailyfeed.timeline.domain.timeline.redis.TimelinePostsApiRedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 작성 시 팔로워들의 타임라인(ZSET)에 글을 넣는 fan-out-on-write
+ * 팔로워 색인을 batch-size 단위로 나눠 읽고, batch 마다 pipeline 한 번으로 ZADD(글 id) + 길이 제한 + TTL 을 보낸다.
+ * pull 방식 회원의 피드 페이지 캐시도 같은 batch 단위로 무효화한다.
+ * 유명인(팔로워가 아주 많은 작성자)의 글은 팔로워마다 넣지 않고 작성자별 최근 글에 한 번만 넣는다. (CelebrityFeedService)
+ *
+ * backpressure
+ * - batch 는 전용 풀에서 실행하며, 큐가 가득 차면 호출한 kafka listener 스레드가 직접 실행하므로 소비 속도가 자연히 느려진다.
+ * - 한 게시글이 동시에 점유할 수 있는 batch 수를 제한하여 팔로워가 아주 많은 작성자가 풀 전체를 차지하지 않게 한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TimelineFanOutService {
+    private static final String METRIC_FAN_OUT = "timeline.fan_out";
+    private static final String METRIC_FAN_OUT_TIMELINES = "timeline.fan_out.timelines";
+    private static final String METRIC_FAN_OUT_CELEBRITY = "timeline.fan_out.celebrity";
+
+    private final PostRepository postRepository;
+    private final FollowerIndexRedisService followerIndexRedisService;
+    private final TimelinePostsApiRedisService timelinePostsApiRedisService;
+    private final PostBodyCacheService postBodyCacheService;
+    private final HeavyFollowingFeedCacheService heavyFollowingFeedCacheService;
+    private final CelebrityFeedService celebrityFeedService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dailyfeed.services.timeline.fan-out.batch-size:500}")
+    private Integer batchSize;
+
+    @Value("${dailyfeed.services.timeline.fan-out.timeline-max-size:800}")
+    private Integer timelineMaxSize;
+
+    @Value("${dailyfeed.services.timeline.fan-out.timeline-ttl-days:7}")
+    private Integer timelineTtlDays;
+
+    @Value("${dailyfeed.services.timeline.fan-out.pool-size:8}")
+    private Integer poolSize;
+
+    @Value("${dailyfeed.services.timeline.fan-out.queue-capacity:64}")
+    private Integer queueCapacity;
+
+    @Value("${dailyfeed.services.timeline.fan-out.max-inflight-batches-per-post:4}")
+    private Integer maxInflightBatchesPerPost;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("timeline-fan-out-"),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "timeline_fan_out");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 모든 batch 가 끝날 때까지 기다린다. (호출한 쪽이 완료 후 ack 할 수 있도록)
+     */
+    public void fanOut(Long postPk) {
+        Post post = postRepository.findByIdAndNotDeleted(postPk).orElse(null);
+        if (post == null) {
+            log.debug("skip fan-out, post not found or deleted, postPk={}", postPk);
+            return;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        // 본문은 공유 캐시에 한 벌만 두고, 타임라인에는 (작성 시각, id) 만 넣는다
+        postBodyCacheService.put(post);
+        FeedCursor position = FeedCursor.ofCreatedAt(post.getCreatedAt(), post.getId());
+        if (celebrityFeedService.isCelebrity(post.getAuthorId())) {
+            // 팔로워 타임라인에는 넣지 않으며, pull 방식 회원의 페이지 캐시는 TTL 로 갱신된다
+            celebrityFeedService.publish(post.getAuthorId(), position);
+            meterRegistry.counter(METRIC_FAN_OUT_CELEBRITY).increment();
+            sample.stop(meterRegistry.timer(METRIC_FAN_OUT));
+            return;
+        }
+        celebrityFeedService.retireIfExpired(post.getAuthorId());
+        Duration ttl = Duration.ofDays(timelineTtlDays);
+        Semaphore inflight = new Semaphore(maxInflightBatchesPerPost);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        followerIndexRedisService.scanFollowers(post.getAuthorId(), batchSize, followers -> {
+            inflight.acquireUninterruptibly();
+            futures.add(CompletableFuture.runAsync(() -> {
+                try {
+                    timelinePostsApiRedisService.pushToTimelines(followers, position, timelineMaxSize, ttl);
+                    heavyFollowingFeedCacheService.invalidate(followers);
+                    meterRegistry.counter(METRIC_FAN_OUT_TIMELINES).increment(followers.size());
+                } finally {
+                    inflight.release();
+                }
+            }, executor));
+        });
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        sample.stop(meterRegistry.timer(METRIC_FAN_OUT));
+    }
+}
@@ -14,22 +14,44 @@ import click.dailyfeed.feign.domain.member.MemberFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
 import click.dailyfeed.pagination.mapper.PageMapper;
 import click.dailyfeed.timeline.domain.comment.entity.Comment;
-import click.dailyfeed.timeline.domain.comment.projection.CommentLikeCountProjection;
 import click.dailyfeed.timeline.domain.comment.projection.PostCommentCountProjection;
 import click.dailyfeed.timeline.domain.comment.repository.jpa.CommentRepository;
-import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentLikeMongoAggregation;
-import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentLikeMongoRepository;
 import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentMongoAggregation;
+import click.dailyfeed.timeline.domain.member.service.FollowingsCacheService;
+import click.dailyfeed.timeline.domain.member.service.MemberSummaryCacheService;
+import click.dailyfeed.timeline.domain.post.document.PostActivityDocument;
+import click.dailyfeed.timeline.domain.post.document.PostCounterDocument;
 import click.dailyfeed.timeline.domain.post.entity.Post;
 import click.dailyfeed.timeline.domain.post.mapper.TimelinePostMapper;
 import click.dailyfeed.timeline.domain.post.repository.jpa.PostRepository;
-import click.dailyfeed.timeline.domain.post.repository.mongo.PostLikeMongoAggregation;
 import click.dailyfeed.timeline.domain.post.repository.mongo.PostLikeMongoRepository;
+import click.dailyfeed.timeline.domain.post.service.PostActivityService;
+import click.dailyfeed.timeline.domain.post.service.PostBodyCacheService;
+import click.dailyfeed.timeline.domain.post.service.PostCounterService;
+import click.dailyfeed.timeline.domain.post.service.PostPopularityService;
+import click.dailyfeed.timeline.domain.post.service.PostViewCountBuffer;
+import click.dailyfeed.timeline.domain.timeline.cursor.CursorPage;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedPageTooDeepException;
+import click.dailyfeed.timeline.domain.timeline.cursor.NextCursorHeader;
+import click.dailyfeed.timeline.domain.timeline.enrichment.CommentEnrichment;
+import click.dailyfeed.timeline.domain.timeline.enrichment.CommentEnrichmentPipeline;
+import click.dailyfeed.timeline.domain.timeline.enrichment.EnrichedPosts;
+import click.dailyfeed.timeline.domain.timeline.enrichment.PostEnrichment;
+import click.dailyfeed.timeline.domain.timeline.enrichment.PostEnrichmentPipeline;
+import click.dailyfeed.timeline.domain.timeline.enrichment.PostStatistics;
+import click.dailyfeed.timeline.domain.timeline.feed.FeedPlan;
+import click.dailyfeed.timeline.domain.timeline.feed.FeedPlanner;
+import click.dailyfeed.timeline.domain.timeline.feed.FollowingFeedMergeEngine;
+import click.dailyfeed.timeline.domain.timeline.leaderboard.LeaderboardEntry;
+import click.dailyfeed.timeline.domain.timeline.leaderboard.LeaderboardWindow;
 import click.dailyfeed.timeline.domain.timeline.mapper.TimelineMapper;
-import click.dailyfeed.timeline.domain.timeline.redis.TimelinePostsApiRedisService;
+import click.dailyfeed.timeline.domain.timeline.redis.FollowingFeedCursorRedisService;
+import click.dailyfeed.timeline.domain.timeline.redis.TimelineEntry;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -37,10 +59,19 @@ import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -48,127 +79,301 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Service
 public class TimelinePullService {
+    private static final Function<Comment, FeedCursor> COMMENT_CURSOR = c -> FeedCursor.ofCreatedAt(c.getCreatedAt(), c.getId());
+
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final PostLikeMongoRepository postLikeMongoRepository;
 
     private final CommentMongoAggregation commentMongoAggregation;
-    private final CommentLikeMongoAggregation commentLikeMongoAggregation;
-    private final PostLikeMongoAggregation postLikeMongoAggregation;
 
     private final MemberActivityKafkaPublisher memberActivityKafkaPublisher;
     private final MemberFeignHelper memberFeignHelper;
-    private final TimelinePostsApiRedisService timelinePostsApiRedisService;
+    private final MemberSummaryCacheService memberSummaryCacheService;
+    private final FollowingsCacheService followingsCacheService;
 
     private final PageMapper pageMapper;
     private final TimelinePostMapper timelinePostMapper;
     private final TimelineMapper timelineMapper;
-    private final CommentLikeMongoRepository commentLikeMongoRepository;
+    private final AuthorActivityService authorActivityService;
+    private final FollowingFeedMergeEngine followingFeedMergeEngine;
+    private final PostEnrichmentPipeline postEnrichmentPipeline;
+    private final PostCounterService postCounterService;
+    private final CommentEnrichmentPipeline commentEnrichmentPipeline;
+    private final FollowingFeedCursorRedisService followingFeedCursorRedisService;
+    private final MostCommentedLeaderboardService mostCommentedLeaderboardService;
+    private final PostPopularityService postPopularityService;
+    private final PostActivityService postActivityService;
+    private final PostViewCountBuffer postViewCountBuffer;
+    private final PostBodyCacheService postBodyCacheService;
+    private final HeavyFollowingFeedCacheService heavyFollowingFeedCacheService;
+    private final FeedPlanner feedPlanner;
+
+    @Value("${dailyfeed.services.timeline.super-heavy.active-window-days}")
+    private Integer superHeavyActiveWindowDays;
+
+    @Value("${dailyfeed.services.timeline.super-heavy.max-fan-in}")
+    private Integer superHeavyMaxFanIn;
+
+    @Value("${dailyfeed.services.timeline.feed-merge.cursor-ttl-minutes}")
+    private Integer feedCursorTtlMinutes;
+
+    @Value("${dailyfeed.services.timeline.feed-merge.max-skip-pages:10}")
+    private Integer feedMaxSkipPages;
+
+    @Value("${dailyfeed.services.timeline.comment-thread.max-prefetch-depth:3}")
+    private Integer threadMaxPrefetchDepth;
+
+    @Value("${dailyfeed.services.timeline.comment-thread.prefetch-per-parent:3}")
+    private Integer threadPrefetchPerParent;
 
     @Transactional(readOnly = true)
-    public List<PostDto.Post> listMyFollowingActivities(Long memberId, int page, int size, String token, HttpServletResponse httpResponse) {
-        List<MemberProfileDto.Summary> followingMembers = fetchMyFollowingMembers(token, httpResponse);
-        Map<Long, MemberProfileDto.Summary> followingsMap = followingMembers.stream().collect(Collectors.toMap(s -> s.getMemberId(), s -> s));
+    public EnrichedPosts listMyFollowingActivities(MemberProfileDto.MemberProfile member, int page, FeedCursor cursor, int size, String token, HttpServletResponse httpResponse) {
+        List<Long> followingIds = followingsCacheService.getFollowingIds(member.getMemberId(), token, httpResponse);
 
-        if (followingsMap.isEmpty()) {
-            return List.of();
+        if (followingIds.isEmpty()) {
+            return EnrichedPosts.empty();
         }
 
         /// DB 조회 (size개 조회 - hasNext는 상위에서 판단)
-        Pageable pageable = PageRequest.of(page, size);
-        List<Post> posts = postRepository.findPostsByAuthorIdInAndNotDeletedOrderByCreatedDateDesc(followingsMap.keySet(), pageable);
+        List<Post> posts = mergeFollowingPosts(member.getId(), followingIds, page, cursor, size);
 
-        /// 통계정보 추출, 병합
-        return withAuthorsAndStatistics(memberId, posts, token, httpResponse)
-                .stream()
-                .map(p -> {
-                    MemberProfileDto.Summary author = followingsMap.get(p.getAuthorId());
-                    return timelineMapper.toPostDto(p, p.getLiked(),author);
-                })
-                .collect(Collectors.toList());
+        /// 작성자 정보(페이지에 나온 작성자만), 통계정보 추출, 병합
+        return enrichWithAuthorsAndStatistics(member.getId(), posts, token, httpResponse);
     }
 
-    public List<MemberProfileDto.Summary> fetchMyFollowingMembers(String token, HttpServletResponse httpResponse) {
-        return memberFeignHelper.getMyFollowingMembers(token, httpResponse);
+    /**
+     * push 타임라인(redis 에서 함께 읽어 온 글 id, 본문)을 응답으로 조립한다.
+     * 본문 캐시가 만료된 글만 DB 에서 채우고, 작성자 정보와 좋아요/댓글 수, 좋아요 여부는 현재 값으로 채운다.
+     * 그 사이 삭제된 글은 제외하고 타임라인 순서는 그대로 유지한다.
+     */
+    public List<PostDto.Post> hydrateTimelinePosts(Long memberId, List<TimelineEntry> entries, String token, HttpServletResponse httpResponse) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        List<Long> postPks = entries.stream().map(TimelineEntry::postPk).toList();
+        Map<Long, PostDto.Post> prefetched = entries.stream()
+                .filter(entry -> entry.body() != null)
+                .collect(Collectors.toMap(TimelineEntry::postPk, TimelineEntry::body, (a, b) -> a));
+        Map<Long, PostDto.Post> bodies = postBodyCacheService.fillMissing(postPks, prefetched);
+        Set<Long> authorIds = bodies.values().stream().map(PostDto.Post::getAuthorId).collect(Collectors.toSet());
+        PostEnrichment enrichment = postEnrichmentPipeline.enrich(memberId, bodies.keySet(), authorIds, token, httpResponse);
+
+        return postPks.stream()
+                .map(bodies::get)
+                .filter(Objects::nonNull)
+                .map(body -> timelinePostMapper.toPostDto(
+                        body,
+                        enrichment.statistics().liked(body.getId()),
+                        enrichment.authorsMap().get(body.getAuthorId()),
+                        enrichment.statistics().commentCount(body.getId()),
+                        enrichment.statistics().likeCount(body.getId())))
+                .collect(Collectors.toList());
     }
 
-    public List<PostDto.Post> listHeavyMyFollowingActivities(MemberProfileDto.MemberProfile member, int page, int size, String token, HttpServletResponse httpServletResponse) {
-        final String key = "heavy_following_feed:" + member.getId() + ":" + page + ":" + size;
+    /**
+     * 팔로잉 작성자들의 글을 k-way merge 로 조회
+     * cursor 가 주어지면 그 위치부터 읽는다.
+     * page 로 요청한 경우 직전 페이지의 마지막 위치가 남아 있으면 그 위치부터 이어서 읽고, 없으면 앞 페이지들을 merge 로 건너뛴다.
+     * 건너뛰는 양은 (page + 1) * size 행을 병합하므로 max-skip-pages 를 넘는 page 는 cursor 로만 조회할 수 있다.
+     */
+    private List<Post> mergeFollowingPosts(Long memberId, Collection<Long> authorIds, int page, FeedCursor cursor, int size) {
+        if (cursor != null) {
+            return followingFeedMergeEngine.merge(authorIds, cursor, size);
+        }
 
-        List<PostDto.Post> cached = timelinePostsApiRedisService.getList(key, page, size);
+        FeedCursor after = page == 0 ? null : followingFeedCursorRedisService.get(memberId, page, size);
 
-        if (cached != null && !cached.isEmpty()) {
-            return cached;
+        List<Post> posts;
+        if (page > 0 && after == null) {
+            if (page > feedMaxSkipPages) {
+                throw new FeedPageTooDeepException(page, feedMaxSkipPages);
+            }
+            List<Post> merged = followingFeedMergeEngine.merge(authorIds, null, (page + 1) * size);
+            posts = merged.subList(Math.min(page * size, merged.size()), merged.size());
         }
+        else {
+            posts = followingFeedMergeEngine.merge(authorIds, after, size);
+        }
+
+        // 다음 페이지는 이 페이지의 마지막 위치부터 이어서 읽는다
+        if (!posts.isEmpty()) {
+            Post last = posts.get(posts.size() - 1);
+            FeedCursor next = FeedCursor.ofCreatedAt(last.getCreatedAt(), last.getId());
+            followingFeedCursorRedisService.put(memberId, page + 1, size, next, Duration.ofMinutes(feedCursorTtlMinutes));
+        }
+        return posts;
+    }
 
-        if (member.getFollowingsCount() < 10000){
-            return listMyFollowingActivities(member.getId(), page, size, token, httpServletResponse);
+    /**
+     * redis 타임라인 없이 pull 로만 읽는 팔로잉 피드 (조회 계획이 pull 인 경우)
+     * 조회 시간은 조회 계획의 pull 지연 신호로 쓰인다.
+     */
+    public List<PostDto.Post> listHeavyMyFollowingActivities(MemberProfileDto.MemberProfile member, FeedPlan.PullStrategy strategy, int page, FeedCursor cursor, int size, String token, HttpServletResponse httpServletResponse) {
+        // page 단위 캐시는 cursor 요청에는 사용하지 않는다
+        if (cursor == null) {
+            return heavyFollowingFeedCacheService.getOrLoad(member.getMemberId(), page, size,
+                    () -> feedPlanner.timePull(strategy, () -> loadFollowingActivities(member, strategy, page, null, size, token, httpServletResponse)));
         }
-        else{
-            Pageable pageable = PageRequest.of(page, size);
-            return listSuperHeavyFollowingActivities(member, pageable, token, httpServletResponse);
+        return feedPlanner.timePull(strategy, () -> listFollowingActivities(member, strategy, page, cursor, size, token, httpServletResponse));
+    }
+
+    public List<PostDto.Post> listFollowingActivities(MemberProfileDto.MemberProfile member, FeedPlan.PullStrategy strategy, int page, FeedCursor cursor, int size, String token, HttpServletResponse httpServletResponse) {
+        return loadFollowingActivities(member, strategy, page, cursor, size, token, httpServletResponse).posts();
+    }
+
+    private EnrichedPosts loadFollowingActivities(MemberProfileDto.MemberProfile member, FeedPlan.PullStrategy strategy, int page, FeedCursor cursor, int size, String token, HttpServletResponse httpServletResponse) {
+        if (strategy == FeedPlan.PullStrategy.ACTIVE_AUTHORS) {
+            return listSuperHeavyFollowingActivities(member, page, cursor, size, token, httpServletResponse);
         }
+        return listMyFollowingActivities(member, page, cursor, size, token, httpServletResponse);
     }
 
-    // TODO (SEASON2)
-    private List<PostDto.Post> listSuperHeavyFollowingActivities(
+    /**
+     * 팔로잉 수가 매우 많은 사용자의 피드
+     * 작성자별 마지막 글 작성 시각 인덱스로 최근 활동한 팔로잉만 추려낸 뒤,
+     * 최대 superHeavyMaxFanIn 명에 대해서만 글을 조회한다. (IN 절 크기를 제한)
+     */
+    private EnrichedPosts listSuperHeavyFollowingActivities(
             MemberProfileDto.MemberProfile member,
-            Pageable pageable,
+            int page,
+            FeedCursor cursor,
+            int size,
             String token,
             HttpServletResponse httpResponse) {
-        List<MemberProfileDto.Summary> members = fetchMyFollowingMembers(token, httpResponse);
+        List<Long> followingIds = followingsCacheService.getFollowingIds(member.getMemberId(), token, httpResponse);
 
-        // 최근 3일간 활동한 팔로잉 사용자만 필터링
-        LocalDateTime since = LocalDateTime.now().minusDays(3);
+        if (followingIds.isEmpty()) {
+            return EnrichedPosts.empty();
+        }
+
+        // 최근 N일간 글을 작성한 팔로잉 사용자만 최근 작성 순으로 필터링
+        LocalDateTime since = LocalDateTime.now().minusDays(superHeavyActiveWindowDays);
+        List<Long> activeFollowingIds = authorActivityService.findRecentlyActiveAuthors(followingIds, since, superHeavyMaxFanIn);
 
-        // 각 팔로잉 사용자별로 최근 활동 확인
-//        List<Long> activeFollowingIds = followingIds.parallelStream()
-//                .filter(followingId -> hasRecentActivity(followingId, since))
-//                .limit(50) // 최대 50명만
-//                .toList();
+        if (activeFollowingIds.isEmpty()) {
+            return EnrichedPosts.empty();
+        }
 
-        return null;
+        List<Post> posts = mergeFollowingPosts(member.getId(), activeFollowingIds, page, cursor, size);
+        return enrichWithAuthorsAndStatistics(member.getId(), posts, token, httpResponse);
     }
 
-    // 댓글이 많은 게시글 목록 (Slice 방식)
+    // 댓글이 많은 게시글 목록 (cursor 가 있으면 seek, 없으면 page 방식), 회원과 무관한 공유 페이지
     @Transactional(readOnly = true)
-    public List<PostDto.Post> getPostsOrderByCommentCount(Long memberId, int page, int size, String token, HttpServletResponse httpResponse) {
-        // 댓글 많은 순 데이터 (size개 조회 - hasNext는 상위에서 판단)
-        Pageable pageable = PageRequest.of(page, size);
-        List<PostCommentCountProjection> statisticResult = commentMongoAggregation.findTopPostsByCommentCount(pageable);
+    public GlobalFeedCacheService.SharedPage loadPostsOrderByCommentCount(LeaderboardWindow window, int page, FeedCursor cursor, int size, String token, HttpServletResponse httpResponse) {
+        // 댓글 많은 순 순위 (size + 1개 조회하여 hasNext 판단)
+        CursorPage<LeaderboardEntry> statisticResult = mostCommentedLeaderboardService.page(window, page, cursor, size);
 
         // 글 post id 키값 추출
-        Set<Long> postPks = statisticResult.stream().map(p -> p.getPostPk()).collect(Collectors.toSet());
+        Set<Long> postPks = statisticResult.content().stream().map(LeaderboardEntry::postPk).collect(Collectors.toSet());
 
         // postMap
         List<Post> posts = postRepository.findPostsByIdsInNotDeletedOrderByCreatedDateDesc(postPks);
-        Map<Long, PostDto.Post> postMap = withAuthorsAndStatistics(memberId, posts, token, httpResponse)
+        EnrichedPosts enriched = withSharedAuthorsAndStatistics(posts, token, httpResponse);
+        Map<Long, PostDto.Post> postMap = enriched.posts()
                 .stream()
                 .collect(Collectors.toMap(p -> p.getId(), p -> p));
 
         // 변환
-        return statisticResult.stream()
-                .map(projection -> {
-                    PostDto.Post post = postMap.get(projection.getPostPk());
-                    return timelineMapper.toPostDtoWithCountProjection(post, projection);
-                })
-                .collect(Collectors.toList());
+        // 순위에 남아 있지만 삭제된 글은 제외하고, 댓글 수는 해당 구간의 점수로 채운다
+        return new GlobalFeedCacheService.SharedPage(statisticResult.withContent(statisticResult.content().stream()
+                .filter(entry -> postMap.containsKey(entry.postPk()))
+                .map(entry -> timelineMapper.toPostDtoWithCountProjection(postMap.get(entry.postPk()), new PostCommentCountProjection(entry.postPk(), entry.score())))
+                .collect(Collectors.toList())), enriched.degraded());
     }
 
-    // 인기 글 목록 (Slice 방식)
+    // 인기 글 목록 (cursor 가 있으면 seek, 없으면 page 방식), 회원과 무관한 공유 페이지
+    // post_counters 의 popularity_score 인덱스 순으로 id 를 읽고, 그 사이 삭제된 글은 건너뛰며 size + 1 개를 채운다
     @Transactional(readOnly = true)
-    public List<PostDto.Post> getPopularPosts(Long requestedMemberId, int page, int size, String token, HttpServletResponse httpResponse) {
-        Pageable pageable = PageRequest.of(page, size);
-        Slice<Post> slice = postRepository.findPopularPostsNotDeleted(pageable);
-        return withAuthorsAndStatistics(requestedMemberId, slice.getContent(), token, httpResponse);
+    public GlobalFeedCacheService.SharedPage loadPopularPosts(int page, FeedCursor cursor, int size, String token, HttpServletResponse httpResponse) {
+        int limit = size + 1;
+        List<Post> fetched = new ArrayList<>();
+        Map<Long, Long> scoreMap = new HashMap<>();
+        FeedCursor after = cursor;
+        long skip = cursor == null ? (long) page * size : 0L;
+
+        while (fetched.size() < limit) {
+            List<PostCounterDocument> ranked = postPopularityService.findTop(after, skip, limit);
+            if (ranked.isEmpty()) {
+                break;
+            }
+            Map<Long, Post> postMap = postRepository.findPostsByIdsInNotDeletedOrderByCreatedDateDesc(
+                            ranked.stream().map(PostCounterDocument::getPostPk).collect(Collectors.toSet()))
+                    .stream()
+                    .collect(Collectors.toMap(Post::getId, p -> p));
+
+            for (PostCounterDocument counter : ranked) {
+                Post post = postMap.get(counter.getPostPk());
+                if (post == null) {
+                    // 삭제된 글은 다음 점수 갱신 때 정렬 대상에서 빠진다
+                    postPopularityService.markDirty(counter.getPostPk());
+                    continue;
+                }
+                if (fetched.size() < limit) {
+                    fetched.add(post);
+                    scoreMap.put(post.getId(), counter.getPopularityScore());
+                }
+            }
+
+            if (ranked.size() < limit) {
+                break;
+            }
+            PostCounterDocument last = ranked.get(ranked.size() - 1);
+            after = FeedCursor.ofScore(last.getPopularityScore(), last.getPostPk());
+            skip = 0L;
+        }
+
+        CursorPage<Post> posts = CursorPage.of(fetched, size, p -> FeedCursor.ofScore(scoreMap.get(p.getId()), p.getId()));
+        EnrichedPosts enriched = withSharedAuthorsAndStatistics(posts.content(), token, httpResponse);
+        return new GlobalFeedCacheService.SharedPage(posts.withContent(enriched.posts()), enriched.degraded());
     }
 
-    // 최근 활동이 있는 글 조회 (Slice 방식)
+    // 최근 활동이 있는 글 조회 (cursor 가 있으면 seek, 없으면 page 방식), 회원과 무관한 공유 페이지
+    // post_activities 의 last_activity_at 인덱스 순으로 id 를 읽고, 그 사이 삭제된 글은 건너뛰며 size + 1 개를 채운다
     @Transactional(readOnly = true)
-    public List<PostDto.Post> getPostsByRecentActivities(Long requestedMemberId, int page, int size, String token, HttpServletResponse httpResponse) {
-        Pageable pageable = PageRequest.of(page, size);
-        Slice<Post> slice = postRepository.findPostsByRecentActivities(pageable);
-        return withAuthorsAndStatistics(requestedMemberId, slice.getContent(), token, httpResponse);
+    public GlobalFeedCacheService.SharedPage loadPostsByRecentActivities(int page, FeedCursor cursor, int size, String token, HttpServletResponse httpResponse) {
+        int limit = size + 1;
+        List<Post> fetched = new ArrayList<>();
+        Map<Long, LocalDateTime> activityMap = new HashMap<>();
+        FeedCursor after = cursor;
+        long skip = cursor == null ? (long) page * size : 0L;
+
+        while (fetched.size() < limit) {
+            List<PostActivityDocument> recent = postActivityService.findRecent(after, skip, limit);
+            if (recent.isEmpty()) {
+                break;
+            }
+            Map<Long, Post> postMap = postRepository.findPostsByIdsInNotDeletedOrderByCreatedDateDesc(
+                            recent.stream().map(PostActivityDocument::getPostPk).collect(Collectors.toSet()))
+                    .stream()
+                    .collect(Collectors.toMap(Post::getId, p -> p));
+
+            List<Long> deleted = new ArrayList<>();
+            for (PostActivityDocument activity : recent) {
+                Post post = postMap.get(activity.getPostPk());
+                if (post == null) {
+                    deleted.add(activity.getPostPk());
+                    continue;
+                }
+                if (fetched.size() < limit) {
+                    fetched.add(post);
+                    activityMap.put(post.getId(), activity.getLastActivityAt());
+                }
+            }
+            postActivityService.remove(deleted);
+
+            if (recent.size() < limit) {
+                break;
+            }
+            PostActivityDocument last = recent.get(recent.size() - 1);
+            after = FeedCursor.ofCreatedAt(last.getLastActivityAt(), last.getPostPk());
+            skip = 0L;
+        }
+
+        CursorPage<Post> posts = CursorPage.of(fetched, size, p -> FeedCursor.ofCreatedAt(activityMap.get(p.getId()), p.getId()));
+        EnrichedPosts enriched = withSharedAuthorsAndStatistics(posts.content(), token, httpResponse);
+        return new GlobalFeedCacheService.SharedPage(posts.withContent(enriched.posts()), enriched.degraded());
     }
 
     @Transactional(readOnly = true)
@@ -180,19 +385,21 @@ public class TimelinePullService {
 
     @Transactional(readOnly = true)
     public List<PostDto.Post> withAuthorsAndStatistics(Long memberId, List<Post> posts, String token, HttpServletResponse httpResponse) {
-        // group by 및 키값 추출
-        Map<Long, Post> postMap = posts.stream().collect(Collectors.toMap(p -> p.getId(), p -> p));
-        Set<Long> authorIds = posts.stream().map(p -> p.getAuthorId()).collect(Collectors.toSet());
+        return enrichWithAuthorsAndStatistics(memberId, posts, token, httpResponse).posts();
+    }
 
-        // 작성자 상새 정보
-        Map<Long, MemberProfileDto.Summary> authorsMap = memberFeignHelper.getMemberMap(authorIds, token, httpResponse);
-        // 통계정보 (댓글수, 좋아요) 추출
-        PostStatisticsInternal statistics = queryPostStatistics(PostDto.PostsBulkRequest.builder().ids(postMap.keySet()).build());
-        // 좋아요 여부 체크
-        Set<Long> likedPostPks = postLikeMongoRepository.findByPostPkInAndMemberId(postMap.keySet(), memberId).stream().map(d -> d.getPostPk()).collect(Collectors.toSet());
+    private EnrichedPosts enrichWithAuthorsAndStatistics(Long memberId, List<Post> posts, String token, HttpServletResponse httpResponse) {
+        // 작성자 상세 정보, 통계정보 (댓글수, 좋아요), 좋아요 여부를 동시에 조회 (제한 시간 초과 시 해당 항목은 비어 있는 값)
+        PostEnrichment enrichment = postEnrichmentPipeline.enrich(memberId, posts, token, httpResponse);
 
         // 작성자 상세정보, 통계 정보 병합
-        return mergeAuthorAndStatistics(posts, likedPostPks, authorsMap, statistics);
+        return new EnrichedPosts(mergeAuthorAndStatistics(posts, enrichment.authorsMap(), enrichment.statistics()), enrichment.isDegraded());
+    }
+
+    // 회원과 무관한 작성자 정보, 통계만 채운다 (좋아요 여부는 false)
+    private EnrichedPosts withSharedAuthorsAndStatistics(List<Post> posts, String token, HttpServletResponse httpResponse) {
+        PostEnrichment enrichment = postEnrichmentPipeline.enrichShared(posts, token, httpResponse);
+        return new EnrichedPosts(mergeAuthorAndStatistics(posts, enrichment.authorsMap(), enrichment.statistics()), enrichment.isDegraded());
     }
 
     public List<PostDto.Post> getPostListByIdsIn(PostDto.PostsBulkRequest request, String token, HttpServletResponse httpResponse) {
@@ -204,55 +411,50 @@ public class TimelinePullService {
         List<Post> result = postRepository.findPostsByIdsInNotDeletedOrderByCreatedDateDesc(request.getIds());
         Set<Long> authorIds = result.stream().map(p -> p.getAuthorId()).collect(Collectors.toSet());
 
-        Map<Long, MemberProfileDto.Summary> authorMap = memberFeignHelper
-                .getMembersList(authorIds, token, httpResponse)
-                .stream()
-                .collect(Collectors.toMap(s -> s.getMemberId(), s -> s));
+        Map<Long, MemberProfileDto.Summary> authorMap = memberSummaryCacheService.getMemberMap(authorIds, token, httpResponse);
 
-        PostStatisticsInternal statistics = queryPostStatistics(request);
-        Map<Long, PostDto.PostLikeCountStatistics> postLikeCountStatisticsMap = statistics.postLikeCountStatisticsMap();
-        Map<Long, PostDto.PostCommentCountStatistics> commentCountStatisticsMap = statistics.commentCountStatisticsMap();
+        PostStatistics statistics = queryPostStatistics(request);
 
-        return result.stream().map(post -> timelineMapper.toPostDto(post, authorMap.get(post.getAuthorId()), postLikeCountStatisticsMap.get(post.getId()), commentCountStatisticsMap.get(post.getId()))).toList();
+        return result.stream().map(post -> timelineMapper.toPostDto(post, authorMap.get(post.getAuthorId()), null, statistics.likeCount(post.getId()), statistics.commentCount(post.getId()))).toList();
     }
 
-    public List<PostDto.Post> mergeAuthorAndStatistics(List<Post> posts, Set<Long> likedPostPks, Map<Long, MemberProfileDto.Summary> authorsMap, PostStatisticsInternal statistics){
-        return posts.stream()
-                .map(post -> {
-                    Long commentCount = 0L;
-                    Long likeCount = 0L;
-                    if(statistics.commentCountStatisticsMap() != null && statistics.commentCountStatisticsMap().get(post.getId()) != null){
-                        commentCount = statistics.commentCountStatisticsMap().get(post.getId()).getCommentCount();
-                    }
-                    if(statistics.postLikeCountStatisticsMap() != null && statistics.postLikeCountStatisticsMap().get(post.getId()) != null){
-                        likeCount = statistics.postLikeCountStatisticsMap().get(post.getId()).getLikeCount();
-                    }
-                    return timelinePostMapper.toPostDto(post, likedPostPks.contains(post.getId()) ,authorsMap.get(post.getAuthorId()), commentCount, likeCount);
-                })
-                .collect(Collectors.toList());
+    public List<PostDto.Post> mergeAuthorAndStatistics(List<Post> posts, Map<Long, MemberProfileDto.Summary> authorsMap, PostStatistics statistics){
+        List<PostDto.Post> result = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            long postPk = post.getId();
+            result.add(timelinePostMapper.toPostDto(post, statistics.liked(postPk), authorsMap.get(post.getAuthorId()), statistics.commentCount(postPk), statistics.likeCount(postPk)));
+        }
+        return result;
     }
 
 
     public List<PostDto.Post> mergeAuthorAndCommentCount(List<Post> posts, String token, HttpServletResponse httpResponse){
-        // (1) 작성자 id 추출
+        // (1) 작성자 id, 글 id 추출
         Set<Long> authorIds = posts.stream()
                 .map(Post::getAuthorId)
                 .collect(Collectors.toSet());
+        Set<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .collect(Collectors.toSet());
 
         // (2) 작성자 상세 정보
-        Map<Long, MemberProfileDto.Summary> authorsMap = memberFeignHelper.getMemberMap(authorIds, token, httpResponse);
+        Map<Long, MemberProfileDto.Summary> authorsMap = memberSummaryCacheService.getMemberMap(authorIds, token, httpResponse);
+
+        // (3) 댓글 수는 post_counters 에서 한 번에 조회 (comments 컬렉션을 글마다 로딩하지 않는다)
+        Map<Long, PostCounterDocument> counters = postCounterService.getCounters(postIds);
 
         return posts.stream()
                 .map(post -> {
-                    return timelinePostMapper.toPostDto(post, authorsMap.get(post.getAuthorId()), Long.parseLong(String.valueOf(post.getCommentsCount())));
+                    PostCounterDocument counter = counters.get(post.getId());
+                    Long commentCount = counter == null || counter.getCommentCount() == null ? 0L : counter.getCommentCount();
+                    return timelinePostMapper.toPostDto(post, authorsMap.get(post.getAuthorId()), commentCount);
                 })
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
-    public List<PostDto.Post> getMyPosts(MemberDto.Member requestedMember, int page, int size, String token, HttpServletResponse httpResponse) {
-        Pageable pageable = PageRequest.of(page, size);
-        Slice<Post> posts = postRepository.findByAuthorIdAndNotDeleted(requestedMember.getId(), pageable);
+    public List<PostDto.Post> getMyPosts(MemberDto.Member requestedMember, int page, FeedCursor cursor, int size, String token, HttpServletResponse httpResponse) {
+        Slice<Post> posts = findByAuthor(requestedMember.getId(), cursor, PageRequest.of(page, size));
         return withAuthorsAndStatistics(requestedMember.getId(), posts.getContent(), token, httpResponse);
     }
 
@@ -262,180 +464,81 @@ public class TimelinePullService {
 
         if (post.getAuthorId() != member.getId()) {
             // 조회수 증가 (조회수 필드 :: 필요에 의해 비정규화 상태 그대로 유지)
-            post.incrementViewCount();
+            // 행 단위 UPDATE 대신 버퍼에 모아 두고 PostViewCountFlushScheduler 가 일괄 반영한다
+            postViewCountBuffer.record(post.getId());
         }
 
         // 작성자 정보 조회
-        MemberProfileDto.Summary authorSummary = memberFeignHelper.getMemberSummaryById(post.getAuthorId(), token, httpResponse);
+        MemberProfileDto.Summary authorSummary = memberSummaryCacheService.getMemberSummaryById(post.getAuthorId(), token, httpResponse);
 
         // 본문 통계 정보 조회
-        PostStatisticsInternal statistics = queryPostStatistics(PostDto.PostsBulkRequest.builder().ids(Set.of(postId)).build());
-        Map<Long, PostDto.PostLikeCountStatistics> postLikeCountStatisticsMap = statistics.postLikeCountStatisticsMap();
-        Map<Long, PostDto.PostCommentCountStatistics> commentCountStatisticsMap = statistics.commentCountStatisticsMap();
+        PostStatistics statistics = queryPostStatistics(PostDto.PostsBulkRequest.builder().ids(Set.of(postId)).build());
 
         // liked 여부 표시를 위한 조회
-        Set<Long> likedPostPks = postLikeMongoRepository.findByPostPkInAndMemberId(Set.of(postId), member.getId()).stream().map(d -> d.getPostPk()).collect(Collectors.toSet());
+        boolean liked = !postLikeMongoRepository.findByPostPkInAndMemberId(Set.of(postId), member.getId()).isEmpty();
 
         // 글 조회 이벤트 발행
         memberActivityKafkaPublisher.publishPostReadEvent(member.getId(), postId);
 
         // return
-        return timelineMapper.toPostDto(post, authorSummary, likedPostPks.contains(postId), postLikeCountStatisticsMap.get(postId), commentCountStatisticsMap.get(postId));
+        return timelineMapper.toPostDto(post, authorSummary, liked, statistics.likeCount(postId), statistics.commentCount(postId));
     }
 
-    public DailyfeedScrollPage<PostDto.Post> getPostsByAuthor(Long authorId, Pageable pageable, String token, HttpServletResponse httpResponse) {
+    public DailyfeedScrollPage<PostDto.Post> getPostsByAuthor(Long authorId, FeedCursor cursor, Pageable pageable, String token, HttpServletResponse httpResponse) {
         MemberDto.Member author = memberFeignHelper.getMemberById(authorId, token, httpResponse);
         if (author == null) {
             throw new MemberNotFoundException(() -> "삭제된 사용자입니다");
         }
 
-        Slice<Post> posts = postRepository.findByAuthorIdAndNotDeleted(author.getId(), pageable);
+        Slice<Post> posts = findByAuthor(author.getId(), cursor, pageable);
+        writeNextCursor(httpResponse, posts, p -> FeedCursor.ofCreatedAt(p.getCreatedAt(), p.getId()));
         return pageMapper.fromJpaSliceToDailyfeedScrollPage(posts, mergeAuthorAndCommentCount(posts.getContent(), token, httpResponse));
     }
 
-    public PostStatisticsInternal queryPostStatistics(PostDto.PostsBulkRequest request){
-        Map<Long, PostDto.PostLikeCountStatistics> postLikeCountStatisticsMap = postLikeMongoAggregation.countLikesByPostPks(request.getIds())
-                .stream().map(timelineMapper::toPostLikeStatistics)
-                .collect(Collectors.toMap(o -> o.getPostPk(), o -> o));
-
-        Map<Long, PostDto.PostCommentCountStatistics> commentCountStatisticsMap = commentMongoAggregation.countCommentsByPostPks(request.getIds())
-                .stream().map(timelineMapper::toPostCommentCountStatistics)
-                .collect(Collectors.toMap(o -> o.getPostPk(), o -> o));
-
-        return new PostStatisticsInternal(postLikeCountStatisticsMap, commentCountStatisticsMap);
+    private Slice<Post> findByAuthor(Long authorId, FeedCursor cursor, Pageable pageable) {
+        if (cursor == null) {
+            return postRepository.findByAuthorIdAndNotDeleted(authorId, pageable);
+        }
+        return postRepository.findByAuthorIdAndNotDeletedBefore(authorId, cursor.createdAt(), cursor.id(), PageRequest.of(0, pageable.getPageSize()));
     }
 
-    @Transactional(readOnly = true)
-    public DailyfeedScrollPage<CommentDto.Comment> getMyComments(Long memberId, Pageable pageable, String token, HttpServletResponse httpResponse) {
-        // 1. 댓글 목록 조회
-        Slice<Comment> comments = commentRepository.findByAuthorIdAndNotDeleted(memberId, pageable);
-        if (comments.isEmpty()) {
-            return pageMapper.emptyScrollPage();
+    private <T> void writeNextCursor(HttpServletResponse httpResponse, Slice<T> slice, Function<T, FeedCursor> cursorOf) {
+        if (slice.hasNext() && slice.hasContent()) {
+            NextCursorHeader.write(httpResponse, cursorOf.apply(slice.getContent().get(slice.getNumberOfElements() - 1)));
         }
-
-        // 2. 댓글 ID 목록 추출
-        Set<Long> commentIds = comments.getContent().stream().map(click.dailyfeed.timeline.domain.comment.entity.Comment::getId).collect(Collectors.toSet());
-        // 3. 작성자 정보 조회
-        Set<Long> authorIds = comments.getContent().stream().map(c -> c.getAuthorId()).collect(Collectors.toSet());
-        // 4. 통계 정보 조회
-        ReplyStatistics replyStatistics = aggregateReplyStatistics(commentIds, authorIds, token, httpResponse);
-
-        Set<Long> myLikeReplyIds = commentLikeMongoRepository.findByCommentPkIn(commentIds)
-                .stream().filter(document -> document.getMemberId().equals(memberId))
-                .map(document -> document.getCommentPk())
-                .collect(Collectors.toSet());
-
-        // 5. 변환
-        List<CommentDto.Comment> result = comments.getContent().stream()
-                .map(comment -> {
-                    Long replyCount = replyStatistics.replyCountMap.getOrDefault(comment.getId(), 0L);
-                    Long commentLikeCount = replyStatistics.commentLikeMap.getOrDefault(comment.getId(), 0L);
-                    MemberProfileDto.Summary summary = replyStatistics.authorMap.get(comment.getAuthorId());
-                    Boolean liked = myLikeReplyIds.contains(comment.getId());
-                    return timelineMapper.toReplyCommentAtTopLevel(comment, liked, replyCount, commentLikeCount, summary);
-                })
-                .collect(Collectors.toList());
-
-        // 6. DailyfeedScrollPage로 변환하여 반환
-        return pageMapper.fromJpaSliceToDailyfeedScrollPage(comments, result);
     }
 
-    public ReplyStatistics aggregateReplyStatistics(Set<Long> commentIds, Set<Long> authorIds, String token, HttpServletResponse httpResponse) {
-        // 각 댓글의 대댓글 개수와 함께 조회
-        List<CommentRepository.ReplyCountProjection> replyCounts =
-                commentRepository.countRepliesByParentIds(commentIds);
-        // 댓글 ID를 키로 하는 대댓글 개수 맵 생성
-        Map<Long, Long> replyCountMap = replyCounts.stream()
-                .collect(Collectors.toMap(
-                        CommentRepository.ReplyCountProjection::getParentId,
-                        CommentRepository.ReplyCountProjection::getReplyCount
-                ));
-
-        // 각 댓글에 대한 좋아요 개수 조회
-        List<CommentLikeCountProjection> commentLikeCounts = commentLikeMongoAggregation.countLikesByCommentPks(commentIds);
-        // 각 댓글 ID 를 키로 하는 댓글 좋아요 맵 생성
-        Map<Long, Long> commentLikeMap = commentLikeCounts.stream()
-                .collect(Collectors.toMap(
-                        CommentLikeCountProjection::getCommentPk,
-                        CommentLikeCountProjection::getLikeCount
-                ));
+    public PostStatistics queryPostStatistics(PostDto.PostsBulkRequest request){
+        return PostStatistics.of(postCounterService.getCounters(request.getIds()).values());
+    }
 
-        Map<Long, MemberProfileDto.Summary> authorMap = memberFeignHelper.getMemberMap(authorIds, token, httpResponse);
+    @Transactional(readOnly = true)
+    public DailyfeedScrollPage<CommentDto.Comment> getMyComments(Long memberId, FeedCursor cursor, Pageable pageable, String token, HttpServletResponse httpResponse) {
+        Slice<Comment> comments = findCommentsByAuthor(memberId, cursor, pageable);
+        return toCommentPage(memberId, comments, comments.getContent(), timelineMapper::toReplyCommentAtTopLevel, token, httpResponse);
+    }
 
-        return new ReplyStatistics(replyCountMap, commentLikeMap, authorMap);
+    private Slice<Comment> findCommentsByAuthor(Long authorId, FeedCursor cursor, Pageable pageable) {
+        if (cursor == null) {
+            return commentRepository.findByAuthorIdAndNotDeleted(authorId, pageable);
+        }
+        return commentRepository.findByAuthorIdAndNotDeletedBefore(authorId, cursor.createdAt(), cursor.id(), PageRequest.of(0, pageable.getPageSize()));
     }
 
     /**
      * 특정 게시글의 최상위 댓글 목록을 대댓글 개수와 함께 조회
-     * 각 댓글에 대댓글 개수(replyCount)가 포함된 Projection을 반환
      */
-    public DailyfeedScrollPage<CommentDto.Comment> getCommentsByPostWithReplyCount(MemberProfileDto.Summary requestedMember, Long postId, Pageable pageable, String token, HttpServletResponse httpResponse) {
-        // 1. 최상위 댓글 조회
-        Slice<Comment> comments = commentRepository.findTopLevelCommentsByPostId(postId, pageable);
-        if (comments.isEmpty()) {
-            return pageMapper.emptyScrollPage();
-        }
-
-        // 2. 댓글 ID 목록 추출
-        Set<Long> commentIds = comments.getContent().stream().map(click.dailyfeed.timeline.domain.comment.entity.Comment::getId).collect(Collectors.toSet());
-        // 3. 작성자 정보 조회
-        Set<Long> authorIds = comments.getContent().stream().map(c -> c.getAuthorId()).collect(Collectors.toSet());
-        // 4. 통계 정보 조회
-        ReplyStatistics replyStatistics = aggregateReplyStatistics(commentIds, authorIds, token, httpResponse);
-
-        Set<Long> myLikeReplyIds = commentLikeMongoRepository.findByCommentPkIn(commentIds)
-                .stream().filter(document -> requestedMember.getMemberId().equals(document.getMemberId()))
-                .map(document -> document.getCommentPk())
-                .collect(Collectors.toSet());
-
-        // 5. 변환
-        List<CommentDto.Comment> result = comments.getContent().stream()
-                .map(comment -> {
-                    Long replyCount = replyStatistics.replyCountMap.getOrDefault(comment.getId(), 0L);
-                    Long commentLikeCount = replyStatistics.commentLikeMap.getOrDefault(comment.getId(), 0L);
-                    MemberProfileDto.Summary summary = replyStatistics.authorMap.get(comment.getAuthorId());
-                    Boolean liked = myLikeReplyIds.contains(comment.getId());
-                    return timelineMapper.toReplyCommentAtTopLevel(comment, liked, replyCount, commentLikeCount, summary);
-                })
-                .collect(Collectors.toList());
-
-        // 6. DailyfeedScrollPage로 변환하여 반환
-        return pageMapper.fromJpaSliceToDailyfeedScrollPage(comments, result);
+    public DailyfeedScrollPage<CommentDto.Comment> getCommentsByPostWithReplyCount(MemberProfileDto.Summary requestedMember, Long postId, FeedCursor cursor, Pageable pageable, String token, HttpServletResponse httpResponse) {
+        Slice<Comment> comments = cursor == null
+                ? commentRepository.findTopLevelCommentsByPostId(postId, pageable)
+                : commentRepository.findTopLevelCommentsByPostIdAfter(postId, cursor.createdAt(), cursor.id(), PageRequest.of(0, pageable.getPageSize()));
+        return toCommentPage(requestedMember.getMemberId(), comments, comments.getContent(), timelineMapper::toReplyCommentAtTopLevel, token, httpResponse);
     }
 
     @Transactional(readOnly = true)
-    public DailyfeedScrollPage<CommentDto.Comment> getCommentsByUser(Long memberId, Pageable pageable, String token, HttpServletResponse httpResponse) {
-        // 1. 댓글 목록 조회
-        Slice<Comment> comments = commentRepository.findByAuthorIdAndNotDeleted(memberId, pageable);
-        if (comments.isEmpty()) {
-            return pageMapper.emptyScrollPage();
-        }
-
-        // 2. 댓글 ID 목록 추출
-        Set<Long> commentIds = comments.getContent().stream().map(click.dailyfeed.timeline.domain.comment.entity.Comment::getId).collect(Collectors.toSet());
-        // 3. 작성자 정보 조회
-        Set<Long> authorIds = comments.getContent().stream().map(c -> c.getAuthorId()).collect(Collectors.toSet());
-        // 4. 통계 정보 조회
-        ReplyStatistics replyStatistics = aggregateReplyStatistics(commentIds, authorIds, token, httpResponse);
-
-        Set<Long> myLikeReplyIds = commentLikeMongoRepository.findByCommentPkIn(commentIds)
-                .stream().filter(document -> memberId.equals(document.getMemberId()))
-                .map(document -> document.getCommentPk())
-                .collect(Collectors.toSet());
-
-        // 5. 변환
-        List<CommentDto.Comment> result = comments.getContent().stream()
-                .map(comment -> {
-                    Long replyCount = replyStatistics.replyCountMap.getOrDefault(comment.getId(), 0L);
-                    Long commentLikeCount = replyStatistics.commentLikeMap.getOrDefault(comment.getId(), 0L);
-                    MemberProfileDto.Summary summary = replyStatistics.authorMap.get(comment.getAuthorId());
-                    Boolean liked = myLikeReplyIds.contains(comment.getId());
-                    return timelineMapper.toReplyCommentAtTopLevel(comment, liked, replyCount, commentLikeCount, summary);
-                })
-                .collect(Collectors.toList());
-
-        // 6. DailyfeedScrollPage로 변환하여 반환
-        return pageMapper.fromJpaSliceToDailyfeedScrollPage(comments, result);
+    public DailyfeedScrollPage<CommentDto.Comment> getCommentsByUser(Long memberId, FeedCursor cursor, Pageable pageable, String token, HttpServletResponse httpResponse) {
+        Slice<Comment> comments = findCommentsByAuthor(memberId, cursor, pageable);
+        return toCommentPage(memberId, comments, comments.getContent(), timelineMapper::toReplyCommentAtTopLevel, token, httpResponse);
     }
 
     // 댓글 상세 조회
@@ -445,68 +548,90 @@ public class TimelinePullService {
         Comment comment = commentRepository.findByIdAndNotDeleted(commentId)
                 .orElseThrow(CommentNotFoundException::new);
 
-//        Long replyCount = commentMongoAggregation.countCommentsByPostPk(commentId);
-        Long replyCount = commentRepository.countCommentByParentId(commentId);
-
-        Long likeCount = commentLikeMongoAggregation.countLikesByCommentPk(commentId);
-        Map<Long, MemberProfileDto.Summary> authorMap = memberFeignHelper.getMemberMap(Set.of(comment.getAuthorId()), token, httpResponse);
-
-        Set<Long> myLikeReplyIds = commentLikeMongoRepository.findByCommentPkIn(Set.of(commentId))
-                .stream().filter(document -> memberId.equals(document.getMemberId()))
-                .map(document -> document.getCommentPk())
-                .collect(Collectors.toSet());
+        CommentEnrichment enrichment = commentEnrichmentPipeline.enrich(memberId, List.of(comment), token, httpResponse);
 
         // 멤버 활동 기록
         memberActivityKafkaPublisher.publishCommentReadEvent(memberId, comment.getPost().getId(), commentId);
-        return timelineMapper.toReplyCommentAtTopLevel(comment, myLikeReplyIds.contains(memberId) ,replyCount, likeCount, authorMap.get(comment.getAuthorId()));
+        return toCommentDto(comment, enrichment, timelineMapper::toReplyCommentAtTopLevel);
     }
 
+    /**
+     * 대댓글 목록 (스레드)
+     * depth 가 2 이상이면 각 대댓글의 하위 대댓글을 단계마다 한 번의 조회로 최대 threadPrefetchPerParent 개씩 미리 읽어,
+     * 부모 바로 뒤에 이어지는 순서(pre-order)로 함께 응답한다. (parentId, depth 로 트리를 구성)
+     * 페이지 크기와 다음 cursor 는 첫 단계 대댓글 기준이다.
+     */
     @Transactional(readOnly = true)
-    public DailyfeedScrollPage<CommentDto.Comment> getRepliesByParent(MemberProfileDto.Summary member, Long parentId, Pageable pageable, String token, HttpServletResponse httpResponse) {
+    public DailyfeedScrollPage<CommentDto.Comment> getRepliesByParent(MemberProfileDto.Summary member, Long parentId, int depth, FeedCursor cursor, Pageable pageable, String token, HttpServletResponse httpResponse) {
         Comment parentComment = commentRepository.findByIdAndNotDeleted(parentId)
                 .orElseThrow(ParentCommentNotFoundException::new);
 
-        // 1. 댓글 목록 조회
-        Slice<Comment> replies = commentRepository.findChildrenByParentSlice(parentComment, pageable);
-        if (replies.isEmpty()) {
-            return pageMapper.emptyScrollPage();
+        Slice<Comment> replies = cursor == null
+                ? commentRepository.findChildrenByParentSlice(parentComment, pageable)
+                : commentRepository.findChildrenByParentSliceAfter(parentComment, cursor.createdAt(), cursor.id(), PageRequest.of(0, pageable.getPageSize()));
+
+        List<Comment> thread = prefetchThread(replies.getContent(), Math.min(Math.max(depth, 1), threadMaxPrefetchDepth));
+        return toCommentPage(member.getMemberId(), replies, thread,
+                (comment, liked, replyCount, likeCount, author) -> timelineMapper.toReplyComment(
+                        comment.getParent() == null ? parentId : comment.getParent().getId(), liked, comment, replyCount, likeCount, author),
+                token, httpResponse);
+    }
+
+    // 첫 단계 대댓글 아래로 depth - 1 단계까지 하위 대댓글을 미리 읽어 pre-order 로 펼친다 (단계마다 조회 1회)
+    private List<Comment> prefetchThread(List<Comment> roots, int depth) {
+        Map<Long, List<Comment>> childrenMap = new HashMap<>();
+        List<Comment> level = roots;
+        for (int d = 1; d < depth && !level.isEmpty(); d++) {
+            Set<Long> parentIds = level.stream().map(Comment::getId).collect(Collectors.toSet());
+            Map<Long, List<Comment>> grouped = new LinkedHashMap<>();
+            for (Comment child : commentRepository.findChildrenByParentIds(parentIds, threadPrefetchPerParent)) {
+                grouped.computeIfAbsent(child.getParent().getId(), id -> new ArrayList<>()).add(child);
+            }
+            childrenMap.putAll(grouped);
+            level = grouped.values().stream().flatMap(List::stream).toList();
         }
 
-        // 2. 댓글 ID 목록 추출
-        Set<Long> commentIds = replies.getContent().stream().map(click.dailyfeed.timeline.domain.comment.entity.Comment::getId).collect(Collectors.toSet());
-        // 3. 작성자 정보 조회
-        Set<Long> authorIds = replies.getContent().stream().map(c -> c.getAuthorId()).collect(Collectors.toSet());
-        // 4. 통계 정보 조회
-        ReplyStatistics replyStatistics = aggregateReplyStatistics(commentIds, authorIds, token, httpResponse);
+        List<Comment> thread = new ArrayList<>();
+        Deque<Comment> stack = new ArrayDeque<>();
+        for (int i = roots.size() - 1; i >= 0; i--) {
+            stack.push(roots.get(i));
+        }
+        while (!stack.isEmpty()) {
+            Comment comment = stack.pop();
+            thread.add(comment);
+            List<Comment> children = childrenMap.getOrDefault(comment.getId(), List.of());
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(children.get(i));
+            }
+        }
+        return thread;
+    }
 
-        Set<Long> myLikeReplyIds = commentLikeMongoRepository.findByCommentPkIn(commentIds)
-                .stream().filter(document -> member.getMemberId().equals(document.getMemberId()))
-                .map(document -> document.getCommentPk())
-                .collect(Collectors.toSet());
+    // 댓글 목록 공통 조립: 페이지의 댓글(스레드인 경우 미리 읽은 하위 댓글 포함)을 한 번에 통계, 작성자, 좋아요 여부와 합친다
+    private DailyfeedScrollPage<CommentDto.Comment> toCommentPage(Long memberId, Slice<Comment> slice, List<Comment> comments, CommentView view, String token, HttpServletResponse httpResponse) {
+        if (slice.isEmpty()) {
+            return pageMapper.emptyScrollPage();
+        }
+        writeNextCursor(httpResponse, slice, COMMENT_CURSOR);
 
-        // 5. 변환
-        List<CommentDto.Comment> result = replies.getContent().stream()
-                .map(comment -> {
-                    Long replyCount = replyStatistics.replyCountMap.getOrDefault(comment.getId(), 0L);
-                    Long commentLikeCount = replyStatistics.commentLikeMap.getOrDefault(comment.getId(), 0L);
-                    MemberProfileDto.Summary summary = replyStatistics.authorMap.get(comment.getAuthorId());
-                    Boolean liked = myLikeReplyIds.contains(comment.getId());
-                    return timelineMapper.toReplyComment(parentId, liked, comment, replyCount, commentLikeCount, summary);
-                })
+        CommentEnrichment enrichment = commentEnrichmentPipeline.enrich(memberId, comments, token, httpResponse);
+        List<CommentDto.Comment> result = comments.stream()
+                .map(comment -> toCommentDto(comment, enrichment, view))
                 .collect(Collectors.toList());
-
-        // 6. DailyfeedScrollPage로 변환하여 반환
-        return pageMapper.fromJpaSliceToDailyfeedScrollPage(replies, result);
+        return pageMapper.fromJpaSliceToDailyfeedScrollPage(slice, result);
     }
 
-    private record PostStatisticsInternal(
-            Map<Long, PostDto.PostLikeCountStatistics> postLikeCountStatisticsMap,
-            Map<Long, PostDto.PostCommentCountStatistics> commentCountStatisticsMap
-    ){}
+    private CommentDto.Comment toCommentDto(Comment comment, CommentEnrichment enrichment, CommentView view) {
+        return view.toDto(
+                comment,
+                enrichment.likedCommentPks().contains(comment.getId()),
+                enrichment.replyCount(comment.getId()),
+                enrichment.likeCount(comment.getId()),
+                enrichment.authorsMap().get(comment.getAuthorId()));
+    }
 
-    record ReplyStatistics(
-            Map<Long, Long> replyCountMap,
-            Map<Long, Long> commentLikeMap,
-            Map<Long, MemberProfileDto.Summary> authorMap
-    ){}
+    @FunctionalInterface
+    private interface CommentView {
+        CommentDto.Comment toDto(Comment comment, Boolean liked, Long replyCount, Long commentLikeCount, MemberProfileDto.Summary author);
+    }
 }
@@ -4,15 +4,24 @@ import click.dailyfeed.code.domain.content.comment.dto.CommentDto;
 import click.dailyfeed.code.domain.content.post.dto.PostDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
-import click.dailyfeed.code.domain.timeline.timeline.predicate.PushPullPredicate;
-import click.dailyfeed.code.global.cache.RedisKeyPrefix;
 import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
 import click.dailyfeed.code.global.web.page.DailyfeedPage;
 import click.dailyfeed.code.global.web.page.DailyfeedScrollPage;
 import click.dailyfeed.code.global.web.response.DailyfeedScrollResponse;
 import click.dailyfeed.pagination.slice.HasMoreComponent;
+import click.dailyfeed.timeline.domain.post.mapper.TimelinePostMapper;
+import click.dailyfeed.timeline.domain.post.repository.mongo.PostLikeMongoRepository;
+import click.dailyfeed.timeline.domain.member.redis.FollowerIndexRedisService;
+import click.dailyfeed.timeline.domain.member.service.FollowingsCacheService;
+import click.dailyfeed.timeline.domain.timeline.cursor.CursorPage;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import click.dailyfeed.timeline.domain.timeline.cursor.NextCursorHeader;
+import click.dailyfeed.timeline.domain.timeline.feed.FeedPlan;
+import click.dailyfeed.timeline.domain.timeline.feed.FeedPlanner;
+import click.dailyfeed.timeline.domain.timeline.feed.PushPullFeedMerger;
+import click.dailyfeed.timeline.domain.timeline.leaderboard.LeaderboardWindow;
 import click.dailyfeed.timeline.domain.timeline.mapper.TimelineMapper;
-import click.dailyfeed.timeline.domain.timeline.redis.TimelinePostsApiRedisService;
+import click.dailyfeed.timeline.domain.timeline.redis.TimelineEntry;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -20,27 +29,49 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class TimelineService {
-    private final TimelinePostsApiRedisService timelinePostsApiRedisService;
+    private static final Function<PostDto.Post, FeedCursor> CREATED_AT_CURSOR = p -> FeedCursor.ofCreatedAt(p.getCreatedAt(), p.getId());
+    private static final String FEED_POPULAR = "popular";
+    private static final String FEED_MOST_COMMENTED = "most_commented";
+    private static final String FEED_RECENT_ACTIVITIES = "recent_activities";
+
     private final TimelinePullService timelinePullService;
     private final TimelineMapper timelineMapper;
     private final HasMoreComponent hasMoreComponent;
-
-    @Value("${dailyfeed.services.timeline.push-pull.limit}")
-    private Integer pushPullLimit;
-
-    public DailyfeedScrollResponse<DailyfeedScrollPage<PostDto.Post>> getMyFollowingMembersTimeline(MemberProfileDto.MemberProfile member, int page, int size, String token, HttpServletResponse httpServletResponse) {
-        if(PushPullPredicate.PUSH.equals(checkPushOrPull(member.getFollowingsCount()))){
+    private final FollowerIndexRedisService followerIndexRedisService;
+    private final PushPullFeedMerger pushPullFeedMerger;
+    private final FeedPlanner feedPlanner;
+    private final CelebrityFeedService celebrityFeedService;
+    private final FollowingsCacheService followingsCacheService;
+    private final GlobalFeedCacheService globalFeedCacheService;
+    private final PostLikeMongoRepository postLikeMongoRepository;
+    private final TimelinePostMapper timelinePostMapper;
+
+    @Value("${dailyfeed.services.timeline.fan-out.follower-index-refresh-hours:24}")
+    private Integer followerIndexRefreshHours;
+
+    public DailyfeedScrollResponse<DailyfeedScrollPage<PostDto.Post>> getMyFollowingMembersTimeline(MemberProfileDto.MemberProfile member, int page, String cursor, int size, String token, HttpServletResponse httpServletResponse) {
+        FeedCursor after = FeedCursor.decode(cursor);
+
+        // redis 타임라인 적재량, 팔로잉 수, 최근 pull 지연으로 이번 요청의 조회 계획을 정한다
+        FeedPlan plan = feedPlanner.plan(member.getMemberId(), member.getFollowingsCount(), page, after, size);
+        if(plan.pushFirst()){
             // (1)
             // redis 에서 조회 (size + 1 개를 조회하여 hasNext 판단)
-            final String redisKey = RedisKeyPrefix.TIMELINE_API_POSTS_FOLLOWINGS_RECENT_POSTS.getKeyPrefix() + member.getMemberId();
-            List<PostDto.Post> redisResult = timelinePostsApiRedisService.topN(redisKey, page, size + 1);
+            // 타임라인 구간과 본문은 redis 왕복 한 번으로 함께 읽고, 팔로우하는 유명인의 최근 글은 읽는 시점에 합친다
+            List<TimelineEntry> timelineEntries = celebrityFeedService.readTimeline(member.getMemberId(), page, after, size + 1);
+            List<PostDto.Post> redisResult = timelinePullService.hydrateTimelinePosts(member.getId(), timelineEntries, token, httpServletResponse);
 
             // hasNext 판단
             Boolean hasMore = hasMoreComponent.hasMore(redisResult, size);
@@ -49,11 +80,19 @@ public class TimelineService {
             // (2)
             // 부족할 경우 pull 데이터로 보완
             if(content.size() < size){
-                List<PostDto.Post> dbData = timelinePullService.listMyFollowingActivities(member.getId(), page, size + 1, token, httpServletResponse);
-                List<PostDto.Post> merged = mergeFeedsWithoutDuplicate(content, dbData, size + 1);
+                // 이후 새 글이 이 회원의 타임라인으로 fan-out 되도록 팔로워 색인에 등록해 둔다
+                registerFollowerIndex(member, token, httpServletResponse);
+
+                // pull 은 병합 중 부족한 만큼만 이어서 읽는다
+                // page 로 요청한 첫 조회는 페이지 위치(page * 크기)가 달라지지 않도록 redis 와 같은 size + 1 로 읽는다
+                List<PostDto.Post> merged = pushPullFeedMerger.merge(content, (pullAfter, limit) -> pullAfter != null
+                        ? timelinePullService.listFollowingActivities(member, plan.pullStrategy(), 0, pullAfter, limit, token, httpServletResponse)
+                        : timelinePullService.listFollowingActivities(member, plan.pullStrategy(), page, after, after == null && page > 0 ? size + 1 : limit, token, httpServletResponse),
+                        size + 1);
 
                 Boolean mergedHasMore = hasMoreComponent.hasMore(merged, size);
                 List<PostDto.Post> mergedContent = hasMoreComponent.toList(merged, size);
+                writeNextCursor(httpServletResponse, mergedContent, mergedHasMore, CREATED_AT_CURSOR);
 
                 DailyfeedScrollPage<PostDto.Post> slice = timelineMapper.toScrollPage(mergedContent, page, size, mergedHasMore);
                 return DailyfeedScrollResponse.<DailyfeedScrollPage<PostDto.Post>>builder()
@@ -63,16 +102,20 @@ public class TimelineService {
                         .build();
             }
 
+            writeNextCursor(httpServletResponse, content, hasMore, CREATED_AT_CURSOR);
             return DailyfeedScrollResponse.<DailyfeedScrollPage<PostDto.Post>>builder()
                     .data(timelineMapper.toScrollPage(content, page, size, hasMore))
                     .result(ResponseSuccessCode.SUCCESS)
                     .status(HttpStatus.OK.value())
                     .build();
         }
-        else{ // 실제 데이터를 그대로 pull 해온다.
-            List<PostDto.Post> pullActivities = timelinePullService.listHeavyMyFollowingActivities(member, page, size + 1, token, httpServletResponse);
+        else{ // redis 타임라인으로 채울 수 없으면 실제 데이터를 그대로 pull 해온다.
+            // 팔로잉 작성자가 새 글을 쓰면 페이지 캐시가 무효화되도록 팔로워 색인에 등록해 둔다
+            registerFollowerIndex(member, token, httpServletResponse);
+            List<PostDto.Post> pullActivities = timelinePullService.listHeavyMyFollowingActivities(member, plan.pullStrategy(), page, after, size + 1, token, httpServletResponse);
             Boolean hasMore = hasMoreComponent.hasMore(pullActivities, size);
             List<PostDto.Post> content = hasMoreComponent.toList(pullActivities, size);
+            writeNextCursor(httpServletResponse, content, hasMore, CREATED_AT_CURSOR);
 
             return DailyfeedScrollResponse.<DailyfeedScrollPage<PostDto.Post>>builder()
                     .data(timelineMapper.toScrollPage(content, page, size, hasMore))
@@ -82,47 +125,35 @@ public class TimelineService {
         }
     }
 
-    public DailyfeedScrollResponse<DailyfeedScrollPage<PostDto.Post>> getPostsOrderByCommentCount(Long memberId, int page, int size, String token, HttpServletResponse httpResponse){
-        // (1)
-        // redis 에서 조회 (size + 1 개를 조회하여 hasNext 판단)
-        final String redisKey = RedisKeyPrefix.TIMELINE_API_POSTS_MOST_COMMENTED.getKeyPrefix() + memberId;
-        List<PostDto.Post> redisResult = timelinePostsApiRedisService.topN(redisKey, page, size + 1);
-
-        // hasNext 판단
-        Boolean hasMore = hasMoreComponent.hasMore(redisResult, size);
-        List<PostDto.Post> content = hasMoreComponent.toList(redisResult, size);
-
-        // (2)
-        // 부족할 경우 pull 데이터로 보완
-        if(content.size() < size){
-            List<PostDto.Post> dbData = timelinePullService.getPostsOrderByCommentCount(memberId, page, size + 1, token, httpResponse);
-            List<PostDto.Post> merged = mergeFeedsWithoutDuplicate(content, dbData, size + 1);
-
-            Boolean mergedHasMore = hasMoreComponent.hasMore(merged, size);
-            List<PostDto.Post> mergedContent = hasMoreComponent.toList(merged, size);
+    private void registerFollowerIndex(MemberProfileDto.MemberProfile member, String token, HttpServletResponse httpServletResponse) {
+        followerIndexRedisService.registerFollowings(member.getMemberId(),
+                () -> followingsCacheService.getFollowingIds(member.getMemberId(), token, httpServletResponse),
+                Duration.ofHours(followerIndexRefreshHours));
+    }
 
-            DailyfeedScrollPage<PostDto.Post> slice = timelineMapper.toScrollPage(mergedContent, page, size, mergedHasMore);
-            return DailyfeedScrollResponse.<DailyfeedScrollPage<PostDto.Post>>builder()
-                    .data(slice)
-                    .result(ResponseSuccessCode.SUCCESS)
-                    .status(HttpStatus.OK.value())
-                    .build();
-        }
+    public DailyfeedScrollResponse<DailyfeedScrollPage<PostDto.Post>> getPostsOrderByCommentCount(Long memberId, String window, int page, String cursor, int size, String token, HttpServletResponse httpResponse){
+        FeedCursor after = FeedCursor.decode(cursor);
 
+        // 순위는 댓글 이벤트로 갱신되는 redis leaderboard 에서 바로 읽는다 (page, cursor 모두 구간 조회)
+        LeaderboardWindow leaderboardWindow = LeaderboardWindow.from(window);
+        CursorPage<PostDto.Post> dbPage = coalesceGlobalFeed(FEED_MOST_COMMENTED, leaderboardWindow.getCode() + ":" + pageKey(page, after, size), memberId,
+                () -> timelinePullService.loadPostsOrderByCommentCount(leaderboardWindow, page, after, size, token, httpResponse));
+        NextCursorHeader.write(httpResponse, dbPage.nextCursor());
         return DailyfeedScrollResponse.<DailyfeedScrollPage<PostDto.Post>>builder()
-                .data(timelineMapper.toScrollPage(content, page, size, hasMore))
+                .data(timelineMapper.toScrollPage(dbPage.content(), page, size, dbPage.hasNext()))
                 .result(ResponseSuccessCode.SUCCESS)
                 .status(HttpStatus.OK.value())
                 .build();
     }
 
-    public DailyfeedScrollResponse<DailyfeedScrollPage<PostDto.Post>> getMyPosts(MemberDto.Member member, int page, int size, String token, HttpServletResponse httpResponse) {
+    public DailyfeedScrollResponse<DailyfeedScrollPage<PostDto.Post>> getMyPosts(MemberDto.Member member, int page, String cursor, int size, String token, HttpServletResponse httpResponse) {
         // size + 1개 조회하여 hasNext 판단
-        List<PostDto.Post> result = timelinePullService.getMyPosts(member, page, size + 1, token, httpResponse);
+        List<PostDto.Post> result = timelinePullService.getMyPosts(member, page, FeedCursor.decode(cursor), size + 1, token, httpResponse);
 
         // hasNext 판단
         Boolean hasMore = hasMoreComponent.hasMore(result, size);
         List<PostDto.Post> content = hasMoreComponent.toList(result, size);
+        writeNextCursor(httpResponse, content, hasMore, CREATED_AT_CURSOR);
 
         return DailyfeedScrollResponse.<DailyfeedScrollPage<PostDto.Post>>builder()
                 .data(timelineMapper.toScrollPage(content, page, size, hasMore))
@@ -135,109 +166,100 @@ public class TimelineService {
         return timelinePullService.getPostById(member, postId, token, httpResponse);
     }
 
-    public DailyfeedScrollPage<PostDto.Post> getPostsByAuthor(Long authorId, Pageable pageable, String token, HttpServletResponse httpResponse) {
-        return timelinePullService.getPostsByAuthor(authorId, pageable, token, httpResponse);
+    public DailyfeedScrollPage<PostDto.Post> getPostsByAuthor(Long authorId, String cursor, Pageable pageable, String token, HttpServletResponse httpResponse) {
+        return timelinePullService.getPostsByAuthor(authorId, FeedCursor.decode(cursor), pageable, token, httpResponse);
     }
 
-    public DailyfeedScrollResponse<DailyfeedScrollPage<PostDto.Post>> getPopularPosts(Long requestedMemberId, int page, int size, String token, HttpServletResponse httpResponse) {
-        // (1)
-        // redis 에서 조회 (size + 1 개를 조회하여 hasNext 판단)
-        final String redisKey = RedisKeyPrefix.TIMELINE_API_POSTS_POPULAR_POSTS.getKeyPrefix() + requestedMemberId;
-        List<PostDto.Post> redisResult = timelinePostsApiRedisService.topN(redisKey, page, size + 1);
-
-        // hasNext 판단
-        Boolean hasMore = hasMoreComponent.hasMore(redisResult, size);
-        List<PostDto.Post> content = hasMoreComponent.toList(redisResult, size);
-
-        // (2)
-        // 부족할 경우 pull 데이터로 보완
-        if(content.size() < size){
-            List<PostDto.Post> dbData = timelinePullService.getPopularPosts(requestedMemberId, page, size + 1, token, httpResponse);
-            List<PostDto.Post> merged = mergeFeedsWithoutDuplicate(content, dbData, size + 1);
-
-            Boolean mergedHasMore = hasMoreComponent.hasMore(merged, size);
-            List<PostDto.Post> mergedContent = hasMoreComponent.toList(merged, size);
-
-            DailyfeedScrollPage<PostDto.Post> slice = timelineMapper.toScrollPage(mergedContent, page, size, mergedHasMore);
-            return DailyfeedScrollResponse.<DailyfeedScrollPage<PostDto.Post>>builder()
-                    .data(slice)
-                    .result(ResponseSuccessCode.SUCCESS)
-                    .status(HttpStatus.OK.value())
-                    .build();
-        }
+    public DailyfeedScrollResponse<DailyfeedScrollPage<PostDto.Post>> getPopularPosts(Long requestedMemberId, int page, String cursor, int size, String token, HttpServletResponse httpResponse) {
+        FeedCursor after = FeedCursor.decode(cursor);
 
+        // 인기 점수 인덱스(post_counters.popularity_score)에서 바로 읽는다 (page, cursor 모두 인덱스 구간 조회)
+        CursorPage<PostDto.Post> dbPage = coalesceGlobalFeed(FEED_POPULAR, pageKey(page, after, size), requestedMemberId,
+                () -> timelinePullService.loadPopularPosts(page, after, size, token, httpResponse));
+        NextCursorHeader.write(httpResponse, dbPage.nextCursor());
         return DailyfeedScrollResponse.<DailyfeedScrollPage<PostDto.Post>>builder()
-                .data(timelineMapper.toScrollPage(content, page, size, hasMore))
+                .data(timelineMapper.toScrollPage(dbPage.content(), page, size, dbPage.hasNext()))
                 .result(ResponseSuccessCode.SUCCESS)
                 .status(HttpStatus.OK.value())
                 .build();
     }
 
-    public DailyfeedScrollResponse<DailyfeedScrollPage<PostDto.Post>> getPostsByRecentActivities(Long requestedMemberId, int page, int size, String token, HttpServletResponse httpResponse) {
-        // size + 1개 조회하여 hasNext 판단
-        List<PostDto.Post> result = timelinePullService.getPostsByRecentActivities(requestedMemberId, page, size + 1, token, httpResponse);
+    public DailyfeedScrollResponse<DailyfeedScrollPage<PostDto.Post>> getPostsByRecentActivities(Long requestedMemberId, int page, String cursor, int size, String token, HttpServletResponse httpResponse) {
+        FeedCursor after = FeedCursor.decode(cursor);
 
-        // hasNext 판단
-        Boolean hasMore = hasMoreComponent.hasMore(result, size);
-        List<PostDto.Post> content = hasMoreComponent.toList(result, size);
+        // size + 1개 조회하여 hasNext 판단
+        CursorPage<PostDto.Post> result = coalesceGlobalFeed(FEED_RECENT_ACTIVITIES, pageKey(page, after, size), requestedMemberId,
+                () -> timelinePullService.loadPostsByRecentActivities(page, after, size, token, httpResponse));
+        NextCursorHeader.write(httpResponse, result.nextCursor());
 
         return DailyfeedScrollResponse.<DailyfeedScrollPage<PostDto.Post>>builder()
-                .data(timelineMapper.toScrollPage(content, page, size, hasMore))
+                .data(timelineMapper.toScrollPage(result.content(), page, size, result.hasNext()))
                 .result(ResponseSuccessCode.SUCCESS)
                 .status(HttpStatus.OK.value())
                 .build();
     }
 
+    /**
+     * 전체 회원에게 같은 결과를 주는 피드(인기순, 댓글순, 최근 활동순)는 회원과 무관한 부분(DB, 작성자 정보, 카운터)을 공유 캐시에서 읽고,
+     * 회원마다 다른 좋아요 여부만 한 번의 조회로 덧씌운다.
+     * 캐시에 없을 때 같은 조건으로 동시에 들어온 요청은 먼저 들어온 요청의 조회 결과를 함께 쓴다.
+     * 트랜잭션은 loader(TimelinePullService.loadXXX) 안에서만 열린다. 캐시 hit, 다른 요청의 조회를 기다리는 동안, 좋아요 조회에는 DB 커넥션을 잡지 않는다.
+     */
+    private CursorPage<PostDto.Post> coalesceGlobalFeed(String feed, String key, Long memberId, Supplier<GlobalFeedCacheService.SharedPage> loader) {
+        return withLikedOverlay(memberId, globalFeedCacheService.getOrLoad(feed, key, loader));
+    }
+
+    private CursorPage<PostDto.Post> withLikedOverlay(Long memberId, CursorPage<PostDto.Post> shared) {
+        if (shared.content().isEmpty()) {
+            return shared;
+        }
+        Set<Long> postPks = shared.content().stream().map(PostDto.Post::getId).collect(Collectors.toSet());
+        Set<Long> likedPostPks = postLikeMongoRepository.findByPostPkInAndMemberId(postPks, memberId).stream()
+                .map(d -> d.getPostPk())
+                .collect(Collectors.toSet());
+        return shared.withContent(shared.content().stream()
+                .map(p -> timelinePostMapper.withLiked(p, likedPostPks.contains(p.getId())))
+                .collect(Collectors.toList()));
+    }
+
+    private static String pageKey(int page, FeedCursor cursor, int size) {
+        return (cursor == null ? "p" + page : "c" + cursor.encode()) + ":" + size;
+    }
+
     public DailyfeedPage<PostDto.Post> getPostsByDateRange(Long requestedMemberId, LocalDateTime startDate, LocalDateTime endDate, Pageable pageable, String token, HttpServletResponse httpResponse) {
         return timelinePullService.getPostsByDateRange(requestedMemberId, startDate, endDate, pageable, token, httpResponse);
     }
 
     /// comments
-    public DailyfeedScrollPage<CommentDto.Comment> getMyComments(Long id, Pageable pageable, String authorizationHeader, HttpServletResponse httpResponse) {
-        return timelinePullService.getMyComments(id, pageable, authorizationHeader, httpResponse);
+    public DailyfeedScrollPage<CommentDto.Comment> getMyComments(Long id, String cursor, Pageable pageable, String authorizationHeader, HttpServletResponse httpResponse) {
+        return timelinePullService.getMyComments(id, FeedCursor.decode(cursor), pageable, authorizationHeader, httpResponse);
     }
 
-    public DailyfeedScrollPage<CommentDto.Comment> getCommentsByPostWithReplyCount(MemberProfileDto.Summary requestedMember, Long postId, Pageable pageable, String token, HttpServletResponse httpResponse){
-        return timelinePullService.getCommentsByPostWithReplyCount(requestedMember, postId, pageable, token, httpResponse);
+    public DailyfeedScrollPage<CommentDto.Comment> getCommentsByPostWithReplyCount(MemberProfileDto.Summary requestedMember, Long postId, String cursor, Pageable pageable, String token, HttpServletResponse httpResponse){
+        return timelinePullService.getCommentsByPostWithReplyCount(requestedMember, postId, FeedCursor.decode(cursor), pageable, token, httpResponse);
     }
 
-    public DailyfeedScrollPage<CommentDto.Comment> getCommentsByUser(Long memberId, Pageable pageable, String token, HttpServletResponse httpResponse) {
-        return timelinePullService.getCommentsByUser(memberId, pageable, token, httpResponse);
+    public DailyfeedScrollPage<CommentDto.Comment> getCommentsByUser(Long memberId, String cursor, Pageable pageable, String token, HttpServletResponse httpResponse) {
+        return timelinePullService.getCommentsByUser(memberId, FeedCursor.decode(cursor), pageable, token, httpResponse);
     }
 
     public CommentDto.Comment getCommentById(Long memberId, Long commentId, String token, HttpServletResponse httpResponse) {
         return timelinePullService.getCommentById(memberId, commentId,token,httpResponse);
     }
 
-    public DailyfeedScrollPage<CommentDto.Comment> getRepliesByParent(MemberProfileDto.Summary member, Long commentId, Pageable pageable, String token, HttpServletResponse httpResponse) {
-        return timelinePullService.getRepliesByParent(member, commentId, pageable, token, httpResponse);
+    public DailyfeedScrollPage<CommentDto.Comment> getRepliesByParent(MemberProfileDto.Summary member, Long commentId, int depth, String cursor, Pageable pageable, String token, HttpServletResponse httpResponse) {
+        return timelinePullService.getRepliesByParent(member, commentId, depth, FeedCursor.decode(cursor), pageable, token, httpResponse);
     }
 
     /**
-     * PUSH : 팔로잉 멤버 수가 pushPullLimit 미만일 경우
-     * PULL : 팔로잉 멤버 수가 pushPullLimit 이상일 경우
+     * 다음 페이지 cursor 를 응답 헤더로 기록
+     * 병합된 목록의 표시 순서와 무관하도록, 페이지 안에서 가장 뒤쪽(정렬 키가 가장 작은) 위치를 cursor 로 사용한다.
      */
-    private PushPullPredicate checkPushOrPull(Long followingCount) {
-        if(followingCount == null || followingCount <= 0){
-            return PushPullPredicate.PUSH;
-        }
-
-        if(followingCount < pushPullLimit){
-            return PushPullPredicate.PUSH;
+    private void writeNextCursor(HttpServletResponse httpResponse, List<PostDto.Post> content, boolean hasMore, Function<PostDto.Post, FeedCursor> cursorOf) {
+        if (!hasMore || content.isEmpty()) {
+            return;
         }
-        return  PushPullPredicate.PULL;
-    }
-
-    private List<PostDto.Post> mergeFeedsWithoutDuplicate(
-            List<PostDto.Post> feed1,
-            List<PostDto.Post> feed2,
-            int size
-    ) {
-        return Stream.concat(feed1.stream(), feed2.stream())
-                .distinct()
-                .sorted((a,b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                .limit(size)
-                .toList();
+        NextCursorHeader.write(httpResponse, content.stream().map(cursorOf).min(Comparator.naturalOrder()).orElse(null));
     }
 
     public List<PostDto.Post> getPostListByIdsIn(PostDto.PostsBulkRequest request, String token, HttpServletResponse httpResponse) {
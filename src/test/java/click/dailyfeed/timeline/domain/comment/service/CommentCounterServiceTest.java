@@ -0,0 +1,87 @@
+package click.dailyfeed.timeline.domain.comment.service;
+
+import click.dailyfeed.timeline.domain.comment.document.CommentCounterDocument;
+import click.dailyfeed.timeline.domain.comment.repository.jpa.CommentRepository;
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentCounterMongoOperations;
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentCounterMongoRepository;
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentLikeMongoAggregation;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CommentCounterServiceTest {
+    private final CommentCounterMongoRepository commentCounterMongoRepository = mock(CommentCounterMongoRepository.class);
+    private final CommentCounterMongoOperations commentCounterMongoOperations = mock(CommentCounterMongoOperations.class);
+    private final CommentLikeMongoAggregation commentLikeMongoAggregation = mock(CommentLikeMongoAggregation.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final CommentCounterService service = new CommentCounterService(
+            commentCounterMongoRepository, commentCounterMongoOperations, commentLikeMongoAggregation, commentRepository);
+
+    @Test
+    void materializedCountersAreServedWithoutGroupBy() {
+        when(commentCounterMongoRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(
+                CommentCounterDocument.of(1L, 3L, 2L), CommentCounterDocument.of(2L, 0L, 0L)));
+
+        Map<Long, CommentCounterDocument> counters = service.getCounters(Set.of(1L, 2L));
+
+        assertThat(counters.get(1L).getReplyCount()).isEqualTo(2L);
+        verify(commentRepository, never()).countRepliesByParentIds(anySet());
+        verify(commentCounterMongoOperations, never()).insertIfAbsent(anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void countersWithoutReplyCountAreFilledOnce() {
+        when(commentCounterMongoRepository.findAllById(Set.of(1L)))
+                .thenReturn(List.of(new CommentCounterDocument(1L, 4L, null, LocalDateTime.now())));
+        CommentRepository.ReplyCountProjection replies = mock(CommentRepository.ReplyCountProjection.class);
+        when(replies.getParentId()).thenReturn(1L);
+        when(replies.getReplyCount()).thenReturn(5L);
+        when(commentRepository.countRepliesByParentIds(Set.of(1L))).thenReturn(List.of(replies));
+
+        Map<Long, CommentCounterDocument> counters = service.getCounters(Set.of(1L));
+
+        assertThat(counters.get(1L).getLikeCount()).isEqualTo(4L);
+        assertThat(counters.get(1L).getReplyCount()).isEqualTo(5L);
+        ArgumentCaptor<List<CommentCounterDocument>> filled = ArgumentCaptor.forClass(List.class);
+        verify(commentCounterMongoOperations).fillReplyCountIfAbsent(filled.capture());
+        assertThat(filled.getValue()).extracting(CommentCounterDocument::getReplyCount).containsExactly(5L);
+        verify(commentLikeMongoAggregation, never()).countLikesByCommentPks(anySet());
+    }
+
+    @Test
+    void replyEventForCounterWithoutReplyCountFillsItFromSource() {
+        when(commentCounterMongoOperations.increment(1L, CommentCounterDocument.REPLY_COUNT, 1L)).thenReturn(false);
+        when(commentCounterMongoOperations.insertIfAbsent(anyList())).thenReturn(Set.of());
+        when(commentCounterMongoOperations.fillReplyCountIfAbsent(anyList())).thenReturn(1);
+
+        service.incrementReplyCount(1L, 1L);
+
+        verify(commentCounterMongoOperations).fillReplyCountIfAbsent(anyList());
+        verify(commentCounterMongoOperations, times(1)).increment(1L, CommentCounterDocument.REPLY_COUNT, 1L);
+    }
+
+    @Test
+    void reappliesDeltaWhenReaderCreatedTheCounterFirst() {
+        when(commentCounterMongoOperations.increment(1L, CommentCounterDocument.LIKE_COUNT, 1L)).thenReturn(false, true);
+        when(commentCounterMongoOperations.insertIfAbsent(anyList())).thenReturn(Set.of());
+
+        service.incrementLikeCount(1L, 1L);
+
+        verify(commentCounterMongoOperations, never()).fillReplyCountIfAbsent(anyList());
+        verify(commentCounterMongoOperations, times(2)).increment(1L, CommentCounterDocument.LIKE_COUNT, 1L);
+    }
+}
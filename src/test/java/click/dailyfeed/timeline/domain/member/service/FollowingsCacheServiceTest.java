@@ -0,0 +1,53 @@
+package click.dailyfeed.timeline.domain.member.service;
+
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.feign.domain.member.MemberFeignHelper;
+import click.dailyfeed.timeline.domain.member.redis.FollowingsRedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FollowingsCacheServiceTest {
+    private final FollowingsRedisService followingsRedisService = mock(FollowingsRedisService.class);
+    private final MemberFeignHelper memberFeignHelper = mock(MemberFeignHelper.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FollowingsCacheService service = new FollowingsCacheService(followingsRedisService, memberFeignHelper, meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "ttlHours", 6);
+    }
+
+    @Test
+    void cachedIdsAreServedWithoutMemberService() {
+        when(followingsRedisService.get(1L)).thenReturn(List.of(2L, 3L));
+
+        assertThat(service.getFollowingIds(1L, "token", null)).containsExactly(2L, 3L);
+        verify(memberFeignHelper, never()).getMyFollowingMembers(any(), any());
+        assertThat(meterRegistry.counter("timeline.followings.cache", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void missLoadsIdsAndStoresThemAgainstVersionReadBeforeLoading() {
+        MemberProfileDto.Summary following = mock(MemberProfileDto.Summary.class);
+        when(following.getMemberId()).thenReturn(7L);
+        when(followingsRedisService.get(1L)).thenReturn(null);
+        when(followingsRedisService.version(1L)).thenReturn("4");
+        when(memberFeignHelper.getMyFollowingMembers("token", null)).thenReturn(List.of(following));
+
+        assertThat(service.getFollowingIds(1L, "token", null)).containsExactly(7L);
+        verify(followingsRedisService).replaceIfVersion(eq(1L), eq("4"), eq(List.of(7L)), eq(Duration.ofHours(6)));
+    }
+}
@@ -0,0 +1,60 @@
+package click.dailyfeed.timeline.domain.member.service;
+
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.feign.domain.member.MemberFeignHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MemberSummaryCacheServiceTest {
+    private final MemberFeignHelper memberFeignHelper = mock(MemberFeignHelper.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MemberSummaryCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new MemberSummaryCacheService(memberFeignHelper, meterRegistry);
+        ReflectionTestUtils.setField(service, "maximumSize", 100L);
+        ReflectionTestUtils.setField(service, "ttlSeconds", 60L);
+        service.init();
+
+        when(memberFeignHelper.getMemberMap(anySet(), any(), any())).thenAnswer(inv -> {
+            Set<Long> ids = inv.getArgument(0);
+            return ids.stream().collect(Collectors.toMap(id -> id, id -> mock(MemberProfileDto.Summary.class)));
+        });
+    }
+
+    @Test
+    void fetchesOnlyMissingIdsAndMergesWithCachedEntries() {
+        service.getMemberMap(Set.of(1L, 2L), "token", null);
+
+        Map<Long, MemberProfileDto.Summary> result = service.getMemberMap(Set.of(1L, 2L, 3L), "token", null);
+
+        assertThat(result).containsOnlyKeys(1L, 2L, 3L);
+        verify(memberFeignHelper).getMemberMap(Set.of(1L, 2L), "token", null);
+        verify(memberFeignHelper).getMemberMap(Set.of(3L), "token", null);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void evictedMemberIsFetchedAgain() {
+        service.getMemberMap(Set.of(1L), "token", null);
+        service.evict(1L);
+        service.getMemberMap(Set.of(1L), "token", null);
+
+        verify(memberFeignHelper, times(2)).getMemberMap(Set.of(1L), "token", null);
+    }
+}
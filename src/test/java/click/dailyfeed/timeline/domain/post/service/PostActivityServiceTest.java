@@ -0,0 +1,58 @@
+package click.dailyfeed.timeline.domain.post.service;
+
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentMongoAggregation;
+import click.dailyfeed.timeline.domain.post.projection.PostActivityProjection;
+import click.dailyfeed.timeline.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.timeline.domain.post.repository.mongo.PostActivityMongoOperations;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostActivityServiceTest {
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final CommentMongoAggregation commentMongoAggregation = mock(CommentMongoAggregation.class);
+    private final PostActivityMongoOperations postActivityMongoOperations = mock(PostActivityMongoOperations.class);
+    private final StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final PostActivityService service = new PostActivityService(postRepository, commentMongoAggregation, postActivityMongoOperations, stringRedisTemplate);
+
+    @Test
+    void rebuildSeedsFromPostsThenLatestCommentsAndMarksBuilt() {
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        LocalDateTime now = LocalDateTime.now();
+        List<PostActivityProjection> first = List.of(new PostActivityProjection(1L, now), new PostActivityProjection(2L, now));
+        List<PostActivityProjection> second = List.of(new PostActivityProjection(5L, now));
+        when(postRepository.findActivitySeedsAfter(eq(0L), any(Pageable.class))).thenReturn(first);
+        when(postRepository.findActivitySeedsAfter(eq(2L), any(Pageable.class))).thenReturn(second);
+        when(postRepository.findActivitySeedsAfter(eq(5L), any(Pageable.class))).thenReturn(List.of());
+        when(commentMongoAggregation.streamLastCommentAtByPost()).thenReturn(Stream.of(
+                new PostActivityProjection(1L, now.plusMinutes(1)),
+                new PostActivityProjection(2L, now.plusMinutes(2)),
+                new PostActivityProjection(5L, now.plusMinutes(3))));
+
+        int total = service.rebuild(2);
+
+        assertThat(total).isEqualTo(3);
+        verify(postActivityMongoOperations).touchAll(first);
+        verify(postActivityMongoOperations).touchAll(second);
+        // 댓글 3건은 2건, 1건 두 번에 나누어 반영
+        verify(postActivityMongoOperations, times(4)).touchAll(anyList());
+        verify(valueOperations).set(eq("post_activities:built"), anyString());
+    }
+}
@@ -0,0 +1,87 @@
+package click.dailyfeed.timeline.domain.post.service;
+
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentMongoAggregation;
+import click.dailyfeed.timeline.domain.post.document.PostCounterDocument;
+import click.dailyfeed.timeline.domain.post.projection.PostLikeCountProjection;
+import click.dailyfeed.timeline.domain.post.repository.mongo.PostCounterMongoOperations;
+import click.dailyfeed.timeline.domain.post.repository.mongo.PostCounterMongoRepository;
+import click.dailyfeed.timeline.domain.post.repository.mongo.PostLikeMongoAggregation;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostCounterServiceTest {
+    private final PostCounterMongoRepository postCounterMongoRepository = mock(PostCounterMongoRepository.class);
+    private final PostCounterMongoOperations postCounterMongoOperations = mock(PostCounterMongoOperations.class);
+    private final PostLikeMongoAggregation postLikeMongoAggregation = mock(PostLikeMongoAggregation.class);
+    private final CommentMongoAggregation commentMongoAggregation = mock(CommentMongoAggregation.class);
+    private final PostCounterService service = new PostCounterService(
+            postCounterMongoRepository, postCounterMongoOperations, postLikeMongoAggregation, commentMongoAggregation);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void eventForMissingCounterSeedsItFromSourceInsteadOfDropping() {
+        when(postCounterMongoOperations.increment(1L, PostCounterDocument.LIKE_COUNT, 1L)).thenReturn(false);
+        when(postLikeMongoAggregation.countLikesByPostPks(Set.of(1L))).thenReturn(List.of(new PostLikeCountProjection(1L, 4L)));
+        when(postCounterMongoOperations.insertIfAbsent(anyList())).thenReturn(Set.of(1L));
+
+        service.incrementLikeCount(1L, 1L);
+
+        ArgumentCaptor<List<PostCounterDocument>> seeded = ArgumentCaptor.forClass(List.class);
+        verify(postCounterMongoOperations).insertIfAbsent(seeded.capture());
+        assertThat(seeded.getValue()).extracting(PostCounterDocument::getLikeCount).containsExactly(4L);
+        verify(postCounterMongoOperations, times(1)).increment(1L, PostCounterDocument.LIKE_COUNT, 1L);
+    }
+
+    @Test
+    void reappliesDeltaWhenReaderCreatedTheCounterFirst() {
+        when(postCounterMongoOperations.increment(1L, PostCounterDocument.COMMENT_COUNT, 1L)).thenReturn(false, true);
+        when(postCounterMongoOperations.insertIfAbsent(anyList())).thenReturn(Set.of());
+
+        service.incrementCommentCount(1L, 1L);
+
+        verify(postCounterMongoOperations, times(2)).increment(1L, PostCounterDocument.COMMENT_COUNT, 1L);
+    }
+
+    @Test
+    void existingCounterIsIncrementedInPlace() {
+        when(postCounterMongoOperations.increment(1L, PostCounterDocument.LIKE_COUNT, -1L)).thenReturn(true);
+
+        service.incrementLikeCount(1L, -1L);
+
+        verify(postCounterMongoOperations, never()).insertIfAbsent(anyList());
+        verify(postLikeMongoAggregation, never()).countLikesByPostPks(anySet());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reconcileOverwritesOnlyIfCounterIsUnchangedSinceRead() {
+        PostCounterDocument observed = new PostCounterDocument(1L, 3L, 1L, null, LocalDateTime.of(2026, 1, 1, 0, 0));
+        when(postCounterMongoRepository.findAllById(List.of(1L))).thenReturn(List.of(observed));
+        when(postLikeMongoAggregation.countLikesByPostPks(Set.of(1L))).thenReturn(List.of(new PostLikeCountProjection(1L, 4L)));
+        // 재계산하는 동안 증감이 반영되어 updated_at 이 바뀐 경우
+        when(postCounterMongoOperations.overwriteIfUnchanged(anyMap(), anyList())).thenReturn(0);
+
+        int written = service.reconcile(List.of(1L));
+
+        assertThat(written).isZero();
+        ArgumentCaptor<List<PostCounterDocument>> recounted = ArgumentCaptor.forClass(List.class);
+        verify(postCounterMongoOperations).overwriteIfUnchanged(eq(Map.of(1L, observed)), recounted.capture());
+        assertThat(recounted.getValue()).extracting(PostCounterDocument::getLikeCount).containsExactly(4L);
+    }
+}
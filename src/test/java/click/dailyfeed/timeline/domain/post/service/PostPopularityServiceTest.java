@@ -0,0 +1,30 @@
+package click.dailyfeed.timeline.domain.post.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostPopularityServiceTest {
+    private static final double GRAVITY = 1.8;
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 10, 12, 0);
+
+    @Test
+    void olderPostNeedsMoreEngagementToOutrank() {
+        long fresh = PostPopularityService.score(10, 5, now.minusHours(1), now, GRAVITY);
+        long dayOld = PostPopularityService.score(10, 5, now.minusHours(24), now, GRAVITY);
+        long dayOldPopular = PostPopularityService.score(1000, 300, now.minusHours(24), now, GRAVITY);
+
+        assertThat(fresh).isGreaterThan(dayOld);
+        assertThat(dayOldPopular).isGreaterThan(fresh);
+    }
+
+    @Test
+    void likesWeighTwiceViews() {
+        long byViews = PostPopularityService.score(20, 0, now.minusHours(3), now, GRAVITY);
+        long byLikes = PostPopularityService.score(0, 10, now.minusHours(3), now, GRAVITY);
+
+        assertThat(byLikes).isEqualTo(byViews);
+    }
+}
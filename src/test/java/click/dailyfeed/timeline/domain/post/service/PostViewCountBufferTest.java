@@ -0,0 +1,73 @@
+package click.dailyfeed.timeline.domain.post.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostViewCountBufferTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PostViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new PostViewCountBuffer(meterRegistry);
+        buffer.init();
+    }
+
+    @Test
+    void drainReturnsAccumulatedDeltasAndResets() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            long postPk = i % 2 == 0 ? 1L : 2L;
+            executor.submit(() -> buffer.record(postPk));
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertThat(meterRegistry.get("timeline.view_count.pending").gauge().value()).isEqualTo(1000d);
+        assertThat(buffer.drain()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 500L, 2L, 500L));
+        assertThat(buffer.drain()).isEmpty();
+        assertThat(meterRegistry.get("timeline.view_count.pending.posts").gauge().value()).isZero();
+        assertThat(meterRegistry.get("timeline.view_count.flush.lag").gauge().value()).isZero();
+    }
+
+    @Test
+    void concurrentDrainDoesNotLoseViews() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        int views = 200_000;
+        for (int i = 0; i < 4; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < views / 4; j++) {
+                    buffer.record((long) (j % 3));
+                }
+            });
+        }
+        executor.shutdown();
+
+        long drained = 0;
+        while (!executor.isTerminated()) {
+            drained += buffer.drain().values().stream().mapToLong(Long::longValue).sum();
+        }
+        drained += buffer.drain().values().stream().mapToLong(Long::longValue).sum();
+
+        assertThat(drained).isEqualTo(views);
+    }
+
+    @Test
+    void restoreKeepsDeltasForNextFlush() {
+        buffer.record(1L);
+        Map<Long, Long> drained = buffer.drain();
+        buffer.record(1L);
+
+        buffer.restore(drained);
+
+        assertThat(buffer.drain()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2L));
+    }
+}
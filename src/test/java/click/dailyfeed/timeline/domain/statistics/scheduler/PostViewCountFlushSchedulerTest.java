@@ -0,0 +1,57 @@
+package click.dailyfeed.timeline.domain.statistics.scheduler;
+
+import click.dailyfeed.timeline.domain.post.repository.jdbc.PostViewCountJdbcRepository;
+import click.dailyfeed.timeline.domain.post.service.PostPopularityService;
+import click.dailyfeed.timeline.domain.post.service.PostViewCountBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PostViewCountFlushSchedulerTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PostViewCountJdbcRepository postViewCountJdbcRepository = mock(PostViewCountJdbcRepository.class);
+    private final PostPopularityService postPopularityService = mock(PostPopularityService.class);
+    private PostViewCountBuffer buffer;
+    private PostViewCountFlushScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new PostViewCountBuffer(meterRegistry);
+        buffer.init();
+        scheduler = new PostViewCountFlushScheduler(buffer, postViewCountJdbcRepository, postPopularityService, meterRegistry);
+        buffer.record(1L);
+        buffer.record(2L);
+    }
+
+    @Test
+    void failedMarkDirtyDoesNotRestoreCommittedDeltas() {
+        doThrow(new IllegalStateException("redis down")).when(postPopularityService).markDirty(anyCollection());
+
+        scheduler.flush();
+
+        verify(postViewCountJdbcRepository).incrementViewCounts(Map.of(1L, 1L, 2L, 1L));
+        verify(postPopularityService).markDirty(Set.of(1L, 2L));
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    void failedUpdateRestoresDeltasWithoutMarkingDirty() {
+        doThrow(new IllegalStateException("db down")).when(postViewCountJdbcRepository).incrementViewCounts(anyMap());
+
+        scheduler.flush();
+
+        verify(postPopularityService, never()).markDirty(anyCollection());
+        assertThat(buffer.drain()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 1L, 2L, 1L));
+    }
+}
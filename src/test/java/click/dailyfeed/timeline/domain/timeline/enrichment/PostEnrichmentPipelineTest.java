@@ -0,0 +1,160 @@
+package click.dailyfeed.timeline.domain.timeline.enrichment;
+
+import click.dailyfeed.timeline.domain.member.service.MemberSummaryCacheService;
+import click.dailyfeed.timeline.domain.post.entity.Post;
+import click.dailyfeed.timeline.domain.post.repository.mongo.PostLikeMongoRepository;
+import click.dailyfeed.timeline.domain.post.service.PostCounterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostEnrichmentPipelineTest {
+    private final MemberSummaryCacheService memberSummaryCacheService = mock(MemberSummaryCacheService.class);
+    private final PostCounterService postCounterService = mock(PostCounterService.class);
+    private final PostLikeMongoRepository postLikeMongoRepository = mock(PostLikeMongoRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EnrichmentExecutor enrichmentExecutor;
+    private PostEnrichmentPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        enrichmentExecutor = new EnrichmentExecutor(meterRegistry);
+        ReflectionTestUtils.setField(enrichmentExecutor, "deadlineMillis", 100L);
+        ReflectionTestUtils.setField(enrichmentExecutor, "poolSize", 4);
+        ReflectionTestUtils.setField(enrichmentExecutor, "queueCapacity", 10);
+        enrichmentExecutor.init();
+        pipeline = new PostEnrichmentPipeline(memberSummaryCacheService, postCounterService, postLikeMongoRepository,
+                meterRegistry, enrichmentExecutor);
+
+        when(postCounterService.getCounters(anySet())).thenReturn(Map.of());
+        when(postLikeMongoRepository.findByPostPkInAndMemberId(anySet(), any())).thenReturn(Set.of());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        enrichmentExecutor.shutdown();
+    }
+
+    @Test
+    void degradesStageThatMissesDeadline() {
+        when(memberSummaryCacheService.getMemberMap(anySet(), any(), any())).thenAnswer(inv -> {
+            Thread.sleep(1_000);
+            return Map.of();
+        });
+
+        PostEnrichment result = pipeline.enrich(7L, posts(), "token", null);
+
+        assertThat(result.degradedStages()).containsExactly(PostEnrichmentPipeline.STAGE_AUTHORS);
+        assertThat(result.authorsMap()).isEmpty();
+        assertThat(meterRegistry.counter("timeline.enrichment.degraded", "stage", "authors").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.find("timeline.enrichment.stage").tag("stage", "liked").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    void interruptsStageThatMissesDeadlineAndDropsItsHeaders() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(memberSummaryCacheService.getMemberMap(anySet(), any(), any())).thenAnswer(inv -> {
+            HttpServletResponse response = inv.getArgument(2);
+            response.setHeader("X-Late", "1");
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return Map.of();
+        });
+        MockHttpServletResponse httpResponse = new MockHttpServletResponse();
+
+        pipeline.enrich(7L, posts(), "token", httpResponse);
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(httpResponse.getHeader("X-Late")).isNull();
+    }
+
+    @Test
+    void appliesHeadersOfStageThatFinishedInTime() {
+        when(memberSummaryCacheService.getMemberMap(anySet(), any(), any())).thenAnswer(inv -> {
+            HttpServletResponse response = inv.getArgument(2);
+            assertThat(response).isNotInstanceOf(MockHttpServletResponse.class);
+            response.setHeader("X-Refreshed-Token", "t2");
+            return Map.of();
+        });
+        MockHttpServletResponse httpResponse = new MockHttpServletResponse();
+
+        PostEnrichment result = pipeline.enrich(7L, posts(), "token", httpResponse);
+
+        assertThat(result.isDegraded()).isFalse();
+        assertThat(httpResponse.getHeader("X-Refreshed-Token")).isEqualTo("t2");
+    }
+
+    @Test
+    void propagatesStageFailure() {
+        when(memberSummaryCacheService.getMemberMap(anySet(), any(), any())).thenThrow(new IllegalArgumentException("boom"));
+
+        assertThatThrownBy(() -> pipeline.enrich(7L, posts(), "token", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("boom");
+    }
+
+    @Test
+    void cancelsRemainingStagesWhenOneFails() throws InterruptedException {
+        CountDownLatch countersStarted = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        // 카운터 단계가 실행 중일 때 작성자 단계가 실패한다
+        when(memberSummaryCacheService.getMemberMap(anySet(), any(), any())).thenAnswer(inv -> {
+            countersStarted.await(1, TimeUnit.SECONDS);
+            throw new IllegalArgumentException("boom");
+        });
+        when(postCounterService.getCounters(anySet())).thenAnswer(inv -> {
+            countersStarted.countDown();
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return Map.of();
+        });
+
+        assertThatThrownBy(() -> pipeline.enrich(7L, posts(), "token", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void sharedEnrichmentSkipsLikedStage() {
+        when(memberSummaryCacheService.getMemberMap(anySet(), any(), any())).thenReturn(Map.of());
+
+        PostEnrichment result = pipeline.enrichShared(posts(), "token", null);
+
+        assertThat(result.statistics().liked(1L)).isFalse();
+        assertThat(result.isDegraded()).isFalse();
+        verify(postLikeMongoRepository, never()).findByPostPkInAndMemberId(anySet(), any());
+    }
+
+    private List<Post> posts() {
+        return List.of(Post.ofAll(1L, "t", "c", 1L, 0L, 0L, false, new ArrayList<>()));
+    }
+}
@@ -0,0 +1,70 @@
+package click.dailyfeed.timeline.domain.timeline.enrichment;
+
+import click.dailyfeed.timeline.domain.post.document.PostCounterDocument;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostStatisticsTest {
+
+    @Test
+    void readsCountsAndLikedBitsByPostPk() {
+        PostStatistics statistics = PostStatistics.of(
+                List.of(PostCounterDocument.of(10L, 3L, 5L), PostCounterDocument.of(20L, null, 1L)),
+                new long[]{20L, 30L});
+
+        assertThat(statistics.likeCount(10L)).isEqualTo(3L);
+        assertThat(statistics.commentCount(10L)).isEqualTo(5L);
+        assertThat(statistics.liked(10L)).isFalse();
+
+        assertThat(statistics.likeCount(20L)).isZero();
+        assertThat(statistics.commentCount(20L)).isEqualTo(1L);
+        assertThat(statistics.liked(20L)).isTrue();
+
+        // 카운터 없이 좋아요만 있는 게시글
+        assertThat(statistics.liked(30L)).isTrue();
+        assertThat(statistics.likeCount(30L)).isZero();
+
+        assertThat(statistics.liked(40L)).isFalse();
+        assertThat(statistics.commentCount(40L)).isZero();
+        assertThat(statistics.size()).isEqualTo(3);
+    }
+
+    @Test
+    void growsWhenCountersAndLikedPostsExceedExpectedSize() {
+        List<PostCounterDocument> counters = new ArrayList<>();
+        for (long pk = 1; pk <= 600; pk++) {
+            counters.add(PostCounterDocument.of(pk, pk, pk * 10));
+        }
+        long[] liked = new long[600];
+        for (int i = 0; i < liked.length; i++) {
+            liked[i] = (i + 1) * 1024L;
+        }
+
+        PostStatistics statistics = PostStatistics.of(counters, liked);
+
+        assertThat(statistics.size()).isEqualTo(1200);
+        for (long pk = 1; pk <= 600; pk++) {
+            assertThat(statistics.likeCount(pk)).isEqualTo(pk);
+            assertThat(statistics.commentCount(pk)).isEqualTo(pk * 10);
+            assertThat(statistics.liked(pk)).isFalse();
+        }
+        for (long pk : liked) {
+            assertThat(statistics.liked(pk)).isTrue();
+        }
+        assertThat(statistics.liked(1025L)).isFalse();
+    }
+
+    @Test
+    void emptyStatisticsReadsZero() {
+        PostStatistics statistics = PostStatistics.of(List.of(), new long[0]);
+
+        assertThat(statistics).isSameAs(PostStatistics.empty());
+        assertThat(statistics.likeCount(1L)).isZero();
+        assertThat(statistics.liked(1L)).isFalse();
+        assertThat(statistics.size()).isZero();
+    }
+}
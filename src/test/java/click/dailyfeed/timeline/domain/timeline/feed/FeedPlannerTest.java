@@ -0,0 +1,79 @@
+package click.dailyfeed.timeline.domain.timeline.feed;
+
+import click.dailyfeed.timeline.domain.timeline.redis.TimelinePostsApiRedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FeedPlannerTest {
+    private final TimelinePostsApiRedisService timelinePostsApiRedisService = mock(TimelinePostsApiRedisService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FeedPlanner planner;
+
+    @BeforeEach
+    void setUp() {
+        planner = new FeedPlanner(timelinePostsApiRedisService, meterRegistry);
+        ReflectionTestUtils.setField(planner, "pushPullLimit", 1000);
+        ReflectionTestUtils.setField(planner, "activeAuthorsFollowings", 10000);
+        ReflectionTestUtils.setField(planner, "pullLatencyBudgetMillis", 50L);
+        ReflectionTestUtils.setField(planner, "latencyEwmaAlpha", 0.5);
+        ReflectionTestUtils.setField(planner, "probeEvery", 4);
+    }
+
+    @Test
+    void lightReaderReadsPushFirstWithoutCheckingTimeline() {
+        FeedPlan plan = planner.plan(1L, 10L, 0, null, 20);
+
+        assertThat(plan).isEqualTo(new FeedPlan(true, FeedPlan.PullStrategy.ALL_FOLLOWINGS));
+        verify(timelinePostsApiRedisService, never()).countAvailable(any(), any());
+        assertThat(meterRegistry.counter("timeline.feed.plan", "source", "push", "pull", "all_followings").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void heavyReaderUsesPushWhenTimelineCoversRequestedPage() {
+        when(timelinePostsApiRedisService.countAvailable(eq(1L), any())).thenReturn(42L);
+
+        assertThat(planner.plan(1L, 5000L, 1, null, 20).pushFirst()).isTrue();
+        assertThat(planner.plan(1L, 5000L, 2, null, 20).pushFirst()).isFalse();
+        assertThat(planner.plan(1L, 20000L, 2, null, 20).pullStrategy()).isEqualTo(FeedPlan.PullStrategy.ACTIVE_AUTHORS);
+    }
+
+    @Test
+    void slowFullPullSwitchesToActiveAuthorsWithPeriodicProbe() {
+        planner.timePull(FeedPlan.PullStrategy.ALL_FOLLOWINGS, () -> {
+            sleep(80);
+            return null;
+        });
+        assertThat(planner.allFollowingsLatencyMillis()).isGreaterThan(50);
+
+        int probes = 0;
+        for (int i = 0; i < 8; i++) {
+            if (planner.plan(1L, 5000L, 5, null, 20).pullStrategy() == FeedPlan.PullStrategy.ALL_FOLLOWINGS) {
+                probes++;
+            }
+        }
+        assertThat(probes).isEqualTo(2);
+
+        planner.timePull(FeedPlan.PullStrategy.ALL_FOLLOWINGS, () -> null);
+        planner.timePull(FeedPlan.PullStrategy.ALL_FOLLOWINGS, () -> null);
+        assertThat(planner.allFollowingsLatencyMillis()).isLessThan(50);
+        assertThat(planner.plan(1L, 5000L, 5, null, 20).pullStrategy()).isEqualTo(FeedPlan.PullStrategy.ALL_FOLLOWINGS);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
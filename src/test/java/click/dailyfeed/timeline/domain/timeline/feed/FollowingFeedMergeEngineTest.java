@@ -0,0 +1,103 @@
+package click.dailyfeed.timeline.domain.timeline.feed;
+
+import click.dailyfeed.timeline.domain.post.entity.Post;
+import click.dailyfeed.timeline.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FollowingFeedMergeEngineTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final List<Post> table = new ArrayList<>();
+    private FollowingFeedMergeEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        PostRepository postRepository = mock(PostRepository.class);
+        when(postRepository.findHeadByAuthorIdIn(anyCollection(), any(Pageable.class)))
+                .thenAnswer(inv -> head(inv.getArgument(0), null, inv.getArgument(1)));
+        when(postRepository.findHeadByAuthorIdInBefore(anyCollection(), any(LocalDateTime.class), any(Long.class), any(Pageable.class)))
+                .thenAnswer(inv -> head(inv.getArgument(0), FeedCursor.ofCreatedAt(inv.getArgument(1), inv.getArgument(2)), inv.getArgument(3)));
+
+        engine = new FollowingFeedMergeEngine(postRepository);
+        ReflectionTestUtils.setField(engine, "bucketSize", 2);
+        ReflectionTestUtils.setField(engine, "headSize", 3);
+
+        // 작성자 1~5, 작성자마다 서로 다른 시각에 글 6개씩
+        long id = 1;
+        for (long authorId = 1; authorId <= 5; authorId++) {
+            for (int i = 0; i < 6; i++) {
+                table.add(post(id++, authorId, BASE.plusMinutes(authorId * 7 + i * 11)));
+            }
+        }
+    }
+
+    @Test
+    void mergesBucketsInCreatedAtDescendingOrder() {
+        List<Post> result = engine.merge(List.of(1L, 2L, 3L, 4L, 5L), null, 10);
+
+        assertThat(result).extracting(Post::getId)
+                .containsExactlyElementsOf(expected(null, 10));
+    }
+
+    @Test
+    void resumesFromCursorWithoutRepeatingEarlierPosts() {
+        List<Post> first = engine.merge(List.of(1L, 2L, 3L, 4L, 5L), null, 7);
+        Post last = first.get(first.size() - 1);
+
+        List<Post> second = engine.merge(List.of(1L, 2L, 3L, 4L, 5L), FeedCursor.ofCreatedAt(last.getCreatedAt(), last.getId()), 7);
+
+        assertThat(second).extracting(Post::getId)
+                .containsExactlyElementsOf(expected(FeedCursor.ofCreatedAt(last.getCreatedAt(), last.getId()), 7))
+                .doesNotContainAnyElementsOf(first.stream().map(Post::getId).toList());
+    }
+
+    private List<Post> head(Collection<Long> authorIds, FeedCursor after, Pageable pageable) {
+        return table.stream()
+                .filter(p -> authorIds.contains(p.getAuthorId()))
+                .filter(p -> after == null || isBefore(p, after))
+                .sorted(newestFirst())
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    private List<Long> expected(FeedCursor after, int limit) {
+        return table.stream()
+                .filter(p -> after == null || isBefore(p, after))
+                .sorted(newestFirst())
+                .limit(limit)
+                .map(Post::getId)
+                .toList();
+    }
+
+    private boolean isBefore(Post post, FeedCursor cursor) {
+        int compare = post.getCreatedAt().compareTo(cursor.createdAt());
+        return compare < 0 || (compare == 0 && post.getId() < cursor.id());
+    }
+
+    private Comparator<Post> newestFirst() {
+        return Comparator.comparing(Post::getCreatedAt, Comparator.reverseOrder())
+                .thenComparing(Post::getId, Comparator.reverseOrder());
+    }
+
+    private Post post(Long id, Long authorId, LocalDateTime createdAt) {
+        Post post = Post.ofAll(id, "title-" + id, "content-" + id, authorId, 0L, 0L, false, new ArrayList<>());
+        ReflectionTestUtils.setField(post, "createdAt", createdAt);
+        return post;
+    }
+}
@@ -0,0 +1,65 @@
+package click.dailyfeed.timeline.domain.timeline.feed;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PushPullFeedMergerTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final PushPullFeedMerger merger = new PushPullFeedMerger();
+    private final List<Integer> fetchSizes = new ArrayList<>();
+
+    @Test
+    void mergesSortedInputsAndKeepsPushedCopyOfDuplicate() {
+        List<PostDto.Post> pushed = List.of(post(9L, 9, 3L), post(6L, 6, 3L), post(3L, 3, 3L));
+        List<PostDto.Post> table = List.of(post(8L, 8, 0L), post(6L, 6, 0L), post(5L, 5, 0L), post(3L, 3, 0L), post(1L, 1, 0L));
+
+        List<PostDto.Post> result = merger.merge(pushed, source(table), 5);
+
+        assertThat(result).extracting(PostDto.Post::getId).containsExactly(9L, 8L, 6L, 5L, 3L);
+        assertThat(result.get(2).getLikeCount()).isEqualTo(3L);
+    }
+
+    @Test
+    void pullsOnlyTheShortfall() {
+        List<PostDto.Post> pushed = List.of(post(10L, 10, 0L), post(9L, 9, 0L), post(8L, 8, 0L));
+        List<PostDto.Post> table = List.of(post(7L, 7, 0L), post(6L, 6, 0L), post(5L, 5, 0L), post(4L, 4, 0L));
+
+        List<PostDto.Post> result = merger.merge(pushed, source(table), 5);
+
+        assertThat(result).extracting(PostDto.Post::getId).containsExactly(10L, 9L, 8L, 7L, 6L);
+        assertThat(fetchSizes).containsExactly(2);
+    }
+
+    @Test
+    void keepsPullingWhenPulledRowsAreDuplicates() {
+        List<PostDto.Post> pushed = List.of(post(10L, 10, 0L), post(9L, 9, 0L));
+        List<PostDto.Post> table = List.of(post(10L, 10, 0L), post(9L, 9, 0L), post(8L, 8, 0L), post(7L, 7, 0L));
+
+        List<PostDto.Post> result = merger.merge(pushed, source(table), 4);
+
+        assertThat(result).extracting(PostDto.Post::getId).containsExactly(10L, 9L, 8L, 7L);
+        assertThat(fetchSizes).containsExactly(2, 4);
+    }
+
+    private PushPullFeedMerger.PullSource source(List<PostDto.Post> table) {
+        return (after, limit) -> {
+            fetchSizes.add(limit);
+            return table.stream()
+                    .filter(p -> after == null || FeedCursor.ofCreatedAt(p.getCreatedAt(), p.getId()).compareTo(after) < 0)
+                    .limit(limit)
+                    .toList();
+        };
+    }
+
+    private static PostDto.Post post(Long id, int minute, Long likeCount) {
+        return PostDto.Post.builder().id(id).createdAt(BASE.plusMinutes(minute)).likeCount(likeCount).build();
+    }
+}
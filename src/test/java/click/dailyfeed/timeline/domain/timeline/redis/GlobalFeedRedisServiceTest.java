@@ -0,0 +1,31 @@
+package click.dailyfeed.timeline.domain.timeline.redis;
+
+import click.dailyfeed.timeline.domain.timeline.cursor.CursorPage;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalFeedRedisServiceTest {
+
+    @Test
+    void metaRoundTripsHasNextAndCursor() {
+        CursorPage<Long> page = new CursorPage<>(List.of(1L, 2L), true, FeedCursor.ofScore(1234L, 2L));
+
+        CursorPage<Long> decoded = GlobalFeedRedisService.decodeMeta(GlobalFeedRedisService.encodeMeta(page), page.content());
+
+        assertThat(decoded).isEqualTo(page);
+    }
+
+    @Test
+    void metaRoundTripsLastPageWithoutCursor() {
+        CursorPage<Long> page = new CursorPage<>(List.of(), false, null);
+
+        CursorPage<Long> decoded = GlobalFeedRedisService.decodeMeta(GlobalFeedRedisService.encodeMeta(page), List.of());
+
+        assertThat(decoded.hasNext()).isFalse();
+        assertThat(decoded.nextCursor()).isNull();
+    }
+}
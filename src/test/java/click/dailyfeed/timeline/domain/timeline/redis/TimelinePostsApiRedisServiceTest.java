@@ -0,0 +1,91 @@
+package click.dailyfeed.timeline.domain.timeline.redis;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisScriptingCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class TimelinePostsApiRedisServiceTest {
+    private final RedisScriptingCommands scriptingCommands = mock(RedisScriptingCommands.class);
+    @SuppressWarnings("unchecked")
+    private final RedisSerializer<PostDto.Post> bodySerializer = mock(RedisSerializer.class);
+    private TimelinePostsApiRedisService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        // default 메서드(eval 등)는 scriptingCommands() 로 위임되도록 실제 구현을 사용한다
+        RedisConnection connection = mock(RedisConnection.class, withSettings().defaultAnswer(CALLS_REAL_METHODS));
+        when(connection.scriptingCommands()).thenReturn(scriptingCommands);
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+
+        StringRedisTemplate stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        RedisTemplate<String, PostDto.Post> postTemplate = mock(RedisTemplate.class);
+        when(postTemplate.getValueSerializer()).thenReturn((RedisSerializer) bodySerializer);
+        when(bodySerializer.deserialize(any())).thenAnswer(inv -> PostDto.Post.builder()
+                .id(Long.valueOf(new String((byte[]) inv.getArgument(0), StandardCharsets.UTF_8)))
+                .build());
+
+        service = new TimelinePostsApiRedisService(postTemplate, stringRedisTemplate);
+    }
+
+    @Test
+    void readsTimelineRangeAndBodiesInOneRoundTrip() {
+        replyWith(List.of(entry(30L, 3_000L, true), entry(20L, 2_000L, false), entry(10L, 1_000L, true)));
+
+        List<TimelineEntry> page = service.topN(1L, 0, 3);
+
+        assertThat(page).extracting(TimelineEntry::postPk).containsExactly(30L, 20L, 10L);
+        assertThat(page.get(0).body().getId()).isEqualTo(30L);
+        assertThat(page.get(1).body()).isNull();
+        verify(scriptingCommands, times(1)).eval(any(byte[].class), eq(ReturnType.MULTI), anyInt(), any(byte[][].class));
+        verifyNoMoreInteractions(scriptingCommands);
+    }
+
+    @Test
+    void cursorPageSkipsEntriesAtOrAfterCursor() {
+        replyWith(List.of(entry(21L, 2_000L, true), entry(20L, 2_000L, true), entry(19L, 2_000L, true), entry(10L, 1_000L, true)));
+
+        List<TimelineEntry> page = service.topNBefore(1L, FeedCursor.ofScore(2_000L, 20L), 2);
+
+        assertThat(page).extracting(TimelineEntry::postPk).containsExactly(19L, 10L);
+    }
+
+    private void replyWith(List<List<byte[]>> entries) {
+        List<byte[]> reply = new ArrayList<>();
+        entries.forEach(reply::addAll);
+        when(scriptingCommands.eval(any(byte[].class), eq(ReturnType.MULTI), anyInt(), any(byte[][].class))).thenReturn(reply);
+    }
+
+    private static List<byte[]> entry(Long postPk, long score, boolean cached) {
+        List<byte[]> triple = new ArrayList<>();
+        triple.add(String.valueOf(postPk).getBytes(StandardCharsets.UTF_8));
+        triple.add(String.valueOf(score).getBytes(StandardCharsets.UTF_8));
+        triple.add(cached ? String.valueOf(postPk).getBytes(StandardCharsets.UTF_8) : null);
+        return triple;
+    }
+}
@@ -0,0 +1,50 @@
+package click.dailyfeed.timeline.domain.timeline.service;
+
+import click.dailyfeed.timeline.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.timeline.domain.timeline.redis.AuthorActivityRedisService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthorActivityServiceTest {
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final AuthorActivityRedisService authorActivityRedisService = mock(AuthorActivityRedisService.class);
+    private final AuthorActivityService service = new AuthorActivityService(postRepository, authorActivityRedisService);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refreshReseedsIndexedAuthorsChunkByChunk() {
+        ReflectionTestUtils.setField(service, "seedChunkSize", 2);
+        LocalDateTime postedAt = LocalDateTime.of(2026, 10, 1, 12, 0);
+        doAnswer(invocation -> {
+            Consumer<List<Long>> consumer = invocation.getArgument(1);
+            consumer.accept(List.of(1L, 2L));
+            consumer.accept(List.of(3L));
+            return null;
+        }).when(authorActivityRedisService).scanAuthors(eq(2), any());
+        PostRepository.AuthorLastPostedAtProjection lastPosted = mock(PostRepository.AuthorLastPostedAtProjection.class);
+        when(lastPosted.getAuthorId()).thenReturn(2L);
+        when(lastPosted.getLastPostedAt()).thenReturn(postedAt);
+        when(postRepository.findLastPostedAtByAuthorIds(List.of(1L, 2L))).thenReturn(List.of(lastPosted));
+        when(postRepository.findLastPostedAtByAuthorIds(List.of(3L))).thenReturn(List.of());
+
+        assertThat(service.refresh()).isEqualTo(3);
+
+        // 글이 없는 작성자는 0 으로 넘기고, redis 쪽에서 더 클 때만 반영한다
+        verify(authorActivityRedisService).putAll(Map.of(1L, 0L, 2L, postedAt.toInstant(ZoneOffset.UTC).toEpochMilli()));
+        verify(authorActivityRedisService).putAll(Map.of(3L, 0L));
+    }
+}
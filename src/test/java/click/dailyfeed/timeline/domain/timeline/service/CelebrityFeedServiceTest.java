@@ -0,0 +1,75 @@
+package click.dailyfeed.timeline.domain.timeline.service;
+
+import click.dailyfeed.timeline.domain.member.redis.FollowerIndexRedisService;
+import click.dailyfeed.timeline.domain.member.redis.FollowingsRedisService;
+import click.dailyfeed.timeline.domain.timeline.redis.CelebrityPostsRedisService;
+import click.dailyfeed.timeline.domain.timeline.redis.TimelineEntry;
+import click.dailyfeed.timeline.domain.timeline.redis.TimelinePostsApiRedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CelebrityFeedServiceTest {
+    private final CelebrityPostsRedisService celebrityPostsRedisService = mock(CelebrityPostsRedisService.class);
+    private final TimelinePostsApiRedisService timelinePostsApiRedisService = mock(TimelinePostsApiRedisService.class);
+    private final FollowerIndexRedisService followerIndexRedisService = mock(FollowerIndexRedisService.class);
+    private final FollowingsRedisService followingsRedisService = mock(FollowingsRedisService.class);
+    private final CelebrityFeedService service = new CelebrityFeedService(
+            celebrityPostsRedisService, timelinePostsApiRedisService, followerIndexRedisService, followingsRedisService, new SimpleMeterRegistry());
+
+    @Test
+    void readsTimelineOnlyWhenNoCelebrityIsFollowed() {
+        // 팔로잉 목록이 캐시에 없으면 팔로워 색인으로 확인한다
+        when(followingsRedisService.get(1L)).thenReturn(null);
+        when(celebrityPostsRedisService.celebrityAuthors()).thenReturn(Set.of(100L));
+        when(followerIndexRedisService.filterFollowedBy(eq(1L), anyCollection())).thenReturn(List.of());
+        when(timelinePostsApiRedisService.topN(1L, 2, 5)).thenReturn(List.of(entry(3L, 30)));
+
+        assertThat(service.readTimeline(1L, 2, null, 5)).extracting(TimelineEntry::postPk).containsExactly(3L);
+        verify(celebrityPostsRedisService, never()).recent(anyCollection(), any(), anyInt());
+    }
+
+    @Test
+    void intersectsCachedFollowingsWithCelebrities() {
+        when(followingsRedisService.get(1L)).thenReturn(List.of(100L, 200L, 300L));
+        when(celebrityPostsRedisService.filterCelebrities(List.of(100L, 200L, 300L))).thenReturn(List.of(200L));
+        when(timelinePostsApiRedisService.topN(1L, 0, 2)).thenReturn(List.of(entry(9L, 90)));
+        when(celebrityPostsRedisService.recent(List.of(200L), null, 2)).thenReturn(List.of(entry(8L, 80)));
+
+        assertThat(service.readTimeline(1L, 0, null, 2)).extracting(TimelineEntry::postPk).containsExactly(9L, 8L);
+        // 유명인 전체 목록과 유명인별 팔로워 색인은 읽지 않는다
+        verify(celebrityPostsRedisService, never()).celebrityAuthors();
+        verify(followerIndexRedisService, never()).filterFollowedBy(any(), anyCollection());
+    }
+
+    @Test
+    void mergesCelebrityPostsAndSlicesRequestedPage() {
+        // 팔로잉 목록이 캐시에 없으면 팔로워 색인으로 확인한다
+        when(followingsRedisService.get(1L)).thenReturn(null);
+        when(celebrityPostsRedisService.celebrityAuthors()).thenReturn(Set.of(100L));
+        when(followerIndexRedisService.filterFollowedBy(eq(1L), anyCollection())).thenReturn(List.of(100L));
+        when(timelinePostsApiRedisService.topN(1L, 0, 6)).thenReturn(List.of(entry(9L, 90), entry(7L, 70), entry(5L, 50), entry(3L, 30)));
+        when(celebrityPostsRedisService.recent(List.of(100L), null, 6)).thenReturn(List.of(entry(8L, 80), entry(5L, 50), entry(4L, 40), entry(1L, 10)));
+
+        List<TimelineEntry> secondPage = service.readTimeline(1L, 1, null, 3);
+
+        // 전체 순서: 9, 8, 7, 5, 4, 3 (5 는 양쪽에 있어 한 번만)
+        assertThat(secondPage).extracting(TimelineEntry::postPk).containsExactly(5L, 4L, 3L);
+    }
+
+    private static TimelineEntry entry(Long postPk, long score) {
+        return new TimelineEntry(postPk, score, null);
+    }
+}
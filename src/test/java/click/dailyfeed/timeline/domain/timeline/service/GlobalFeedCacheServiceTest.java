@@ -0,0 +1,109 @@
+package click.dailyfeed.timeline.domain.timeline.service;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.timeline.domain.timeline.cursor.CursorPage;
+import click.dailyfeed.timeline.domain.timeline.redis.GlobalFeedRedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class GlobalFeedCacheServiceTest {
+    private final GlobalFeedRedisService redisService = mock(GlobalFeedRedisService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GlobalFeedCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GlobalFeedCacheService(redisService, meterRegistry);
+        ReflectionTestUtils.setField(service, "ttlSeconds", 10L);
+        ReflectionTestUtils.setField(service, "jitterRatio", 0.2);
+        ReflectionTestUtils.setField(service, "maxWaitMillis", 5_000L);
+    }
+
+    @Test
+    void degradedPageIsServedButNotCached() {
+        CursorPage<PostDto.Post> page = new CursorPage<>(List.of(PostDto.Post.builder().id(1L).build()), false, null);
+
+        CursorPage<PostDto.Post> result = service.getOrLoad("popular", "p0:s20", () -> new GlobalFeedCacheService.SharedPage(page, true));
+
+        assertThat(result).isEqualTo(page);
+        verify(redisService, never()).put(anyString(), any(), any());
+    }
+
+    @Test
+    void waiterReloadsWithOwnRequestWhenLeaderLoadFails() throws Exception {
+        CursorPage<PostDto.Post> page = new CursorPage<>(List.of(PostDto.Post.builder().id(1L).build()), false, null);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<CursorPage<PostDto.Post>> leader = executor.submit(() -> service.getOrLoad("popular", "p0:s20", () -> {
+            leaderStarted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // 먼저 들어온 요청의 token 이 만료된 경우
+            throw new IllegalStateException("expired token");
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<CursorPage<PostDto.Post>> waiter = executor.submit(() -> service.getOrLoad("popular", "p0:s20",
+                () -> new GlobalFeedCacheService.SharedPage(page, false)));
+        Thread.sleep(200);
+        release.countDown();
+
+        assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo(page);
+        assertThat(leader).failsWithin(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        verify(redisService).put(eq("popular:p0:s20"), eq(page), any());
+        assertThat(meterRegistry.counter("timeline.global_feed.cache", "feed", "popular", "result", "retry").count()).isEqualTo(1d);
+    }
+
+    @Test
+    void waiterLoadsDirectlyWhenLeaderExceedsMaxWait() throws Exception {
+        ReflectionTestUtils.setField(service, "maxWaitMillis", 100L);
+        CursorPage<PostDto.Post> slow = new CursorPage<>(List.of(PostDto.Post.builder().id(1L).build()), false, null);
+        CursorPage<PostDto.Post> own = new CursorPage<>(List.of(PostDto.Post.builder().id(2L).build()), false, null);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<CursorPage<PostDto.Post>> leader = executor.submit(() -> service.getOrLoad("popular", "p0:s20", () -> {
+            leaderStarted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new GlobalFeedCacheService.SharedPage(slow, false);
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 먼저 들어온 조회가 끝나기 전에 기다리던 요청이 직접 조회한 결과를 받는다
+        CursorPage<PostDto.Post> waited = service.getOrLoad("popular", "p0:s20", () -> new GlobalFeedCacheService.SharedPage(own, false));
+        assertThat(waited).isEqualTo(own);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(slow);
+        executor.shutdown();
+        assertThat(meterRegistry.counter("timeline.global_feed.cache", "feed", "popular", "result", "shared").count()).isZero();
+    }
+}
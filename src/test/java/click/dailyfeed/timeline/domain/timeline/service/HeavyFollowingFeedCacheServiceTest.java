@@ -0,0 +1,103 @@
+package click.dailyfeed.timeline.domain.timeline.service;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.timeline.domain.timeline.enrichment.EnrichedPosts;
+import click.dailyfeed.timeline.domain.timeline.redis.HeavyFollowingFeedRedisService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HeavyFollowingFeedCacheServiceTest {
+    private final HeavyFollowingFeedRedisService redisService = mock(HeavyFollowingFeedRedisService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HeavyFollowingFeedCacheService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new HeavyFollowingFeedCacheService(redisService, meterRegistry);
+        ReflectionTestUtils.setField(service, "ttlSeconds", 30L);
+        ReflectionTestUtils.setField(service, "jitterRatio", 0.2);
+        when(redisService.generation(anyLong(), any())).thenReturn("g1");
+        when(redisService.getPage(anyLong(), anyString(), anyInt(), anyInt())).thenReturn(List.of());
+    }
+
+    @Test
+    void concurrentMissesForSameKeyLoadOnce() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<PostDto.Post> page = List.of(PostDto.Post.builder().id(1L).build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<List<PostDto.Post>>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> service.getOrLoad(7L, 0, 21, () -> {
+                loads.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new EnrichedPosts(page, false);
+            })));
+        }
+        Thread.sleep(200);
+        release.countDown();
+
+        for (Future<List<PostDto.Post>> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(page);
+        }
+        executor.shutdown();
+
+        assertThat(loads.get()).isEqualTo(1);
+        verify(redisService, times(1)).putPage(eq(7L), eq("g1"), eq(0), eq(21), eq(page), any());
+        assertThat(meterRegistry.counter("timeline.heavy_feed.cache", "result", "miss").count()).isEqualTo(1d);
+        assertThat(meterRegistry.counter("timeline.heavy_feed.cache", "result", "shared").count()).isEqualTo(3d);
+    }
+
+    @Test
+    void servesCachedPageWithoutLoading() {
+        List<PostDto.Post> page = List.of(PostDto.Post.builder().id(1L).build());
+        when(redisService.getPage(7L, "g1", 0, 21)).thenReturn(page);
+
+        List<PostDto.Post> result = service.getOrLoad(7L, 0, 21, () -> {
+            throw new AssertionError("should not load");
+        });
+
+        assertThat(result).isEqualTo(page);
+        verify(redisService, never()).putPage(anyLong(), anyString(), anyInt(), anyInt(), anyList(), any());
+        assertThat(meterRegistry.counter("timeline.heavy_feed.cache", "result", "hit").count()).isEqualTo(1d);
+    }
+
+    @Test
+    void degradedPageIsServedButNotCached() {
+        List<PostDto.Post> page = List.of(PostDto.Post.builder().id(1L).build());
+
+        List<PostDto.Post> result = service.getOrLoad(7L, 0, 21, () -> new EnrichedPosts(page, true));
+
+        assertThat(result).isEqualTo(page);
+        verify(redisService, never()).putPage(anyLong(), anyString(), anyInt(), anyInt(), anyList(), any());
+    }
+}
@@ -0,0 +1,61 @@
+package click.dailyfeed.timeline.domain.timeline.service;
+
+import click.dailyfeed.timeline.domain.comment.kafka.CommentEvent;
+import click.dailyfeed.timeline.domain.comment.projection.PostCommentCountProjection;
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentMongoAggregation;
+import click.dailyfeed.timeline.domain.timeline.cursor.CursorPage;
+import click.dailyfeed.timeline.domain.timeline.leaderboard.LeaderboardEntry;
+import click.dailyfeed.timeline.domain.timeline.leaderboard.LeaderboardWindow;
+import click.dailyfeed.timeline.domain.timeline.redis.MostCommentedLeaderboardRedisService;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MostCommentedLeaderboardServiceTest {
+    private final MostCommentedLeaderboardRedisService leaderboardRedisService = mock(MostCommentedLeaderboardRedisService.class);
+    private final CommentMongoAggregation commentMongoAggregation = mock(CommentMongoAggregation.class);
+    private final MostCommentedLeaderboardService service = new MostCommentedLeaderboardService(leaderboardRedisService, commentMongoAggregation);
+
+    @Test
+    void windowsFallBackToCommentsUntilFirstRebuild() {
+        when(leaderboardRedisService.isBuilt()).thenReturn(false);
+        when(commentMongoAggregation.findTopPostsByCommentCount(any(LocalDateTime.class), any()))
+                .thenReturn(List.of(new PostCommentCountProjection(7L, 3L)));
+
+        CursorPage<LeaderboardEntry> page = service.page(LeaderboardWindow.DAY, 0, null, 20);
+
+        assertThat(page.content()).containsExactly(new LeaderboardEntry(7L, 3L));
+        verify(commentMongoAggregation).findTopPostsByCommentCount(
+                argThat(since -> since.isAfter(LocalDateTime.now().minusHours(25)) && since.isBefore(LocalDateTime.now().minusHours(23))), any());
+        verify(leaderboardRedisService, never()).range(any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void builtLeaderboardIsReadFromRedis() {
+        when(leaderboardRedisService.isBuilt()).thenReturn(true);
+        when(leaderboardRedisService.range(LeaderboardWindow.ALL, 0, 20, null)).thenReturn(List.of(new LeaderboardEntry(1L, 9L)));
+
+        CursorPage<LeaderboardEntry> page = service.page(LeaderboardWindow.ALL, 0, null, 20);
+
+        assertThat(page.content()).containsExactly(new LeaderboardEntry(1L, 9L));
+    }
+
+    @Test
+    void deleteWithoutCreatedAtSkipsHourBucket() {
+        service.onComment(new CommentEvent(7L, 70L, null, CommentEvent.Type.DELETE, null));
+
+        verify(leaderboardRedisService).increment(eq(7L), isNull(), eq(-1L));
+    }
+}
@@ -0,0 +1,270 @@
+package click.dailyfeed.timeline.domain.timeline.service;
+
+import click.dailyfeed.code.domain.content.comment.dto.CommentDto;
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.code.domain.member.member.dto.MemberDto;
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.feign.domain.member.MemberFeignHelper;
+import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
+import click.dailyfeed.pagination.mapper.PageMapper;
+import click.dailyfeed.timeline.domain.comment.entity.Comment;
+import click.dailyfeed.timeline.domain.comment.repository.jpa.CommentRepository;
+import click.dailyfeed.timeline.domain.comment.repository.mongo.CommentMongoAggregation;
+import click.dailyfeed.timeline.domain.member.service.FollowingsCacheService;
+import click.dailyfeed.timeline.domain.member.service.MemberSummaryCacheService;
+import click.dailyfeed.timeline.domain.post.document.PostCounterDocument;
+import click.dailyfeed.timeline.domain.post.entity.Post;
+import click.dailyfeed.timeline.domain.post.mapper.TimelinePostMapper;
+import click.dailyfeed.timeline.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.timeline.domain.post.repository.mongo.PostLikeMongoRepository;
+import click.dailyfeed.timeline.domain.post.service.PostActivityService;
+import click.dailyfeed.timeline.domain.post.service.PostBodyCacheService;
+import click.dailyfeed.timeline.domain.post.service.PostCounterService;
+import click.dailyfeed.timeline.domain.post.service.PostPopularityService;
+import click.dailyfeed.timeline.domain.post.service.PostViewCountBuffer;
+import click.dailyfeed.timeline.domain.timeline.cursor.FeedPageTooDeepException;
+import click.dailyfeed.timeline.domain.timeline.enrichment.CommentEnrichment;
+import click.dailyfeed.timeline.domain.timeline.enrichment.CommentEnrichmentPipeline;
+import click.dailyfeed.timeline.domain.timeline.enrichment.PostEnrichmentPipeline;
+import click.dailyfeed.timeline.domain.timeline.feed.FeedPlanner;
+import click.dailyfeed.timeline.domain.timeline.feed.FollowingFeedMergeEngine;
+import click.dailyfeed.timeline.domain.timeline.mapper.TimelineMapper;
+import click.dailyfeed.timeline.domain.timeline.redis.FollowingFeedCursorRedisService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 작성자별 글 목록, 대댓글 스레드가 페이지 크기, 댓글 수와 무관하게 고정된 수의 쿼리만 실행하는지 Hibernate 통계로 확인한다.
+ * TimelinePullService 는 생성자 주입으로 만들어 @Transactional 프록시를 거쳐 호출하고, JPA 가 아닌 협력 객체만 mock 으로 둔다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:timeline;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "dailyfeed.services.timeline.super-heavy.active-window-days=3",
+        "dailyfeed.services.timeline.super-heavy.max-fan-in=500",
+        "dailyfeed.services.timeline.feed-merge.cursor-ttl-minutes=30",
+        "dailyfeed.services.timeline.feed-merge.max-skip-pages=10",
+        "dailyfeed.services.timeline.comment-thread.max-prefetch-depth=3",
+        "dailyfeed.services.timeline.comment-thread.prefetch-per-parent=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = TimelinePullServiceQueryCountTest.JpaConfig.class)
+class TimelinePullServiceQueryCountTest {
+    private static final long AUTHOR_ID = 7L;
+    private static final int COMMENTS_PER_POST = 3;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TimelinePullService timelinePullService;
+
+    @MockitoBean
+    private PostLikeMongoRepository postLikeMongoRepository;
+    @MockitoBean
+    private CommentMongoAggregation commentMongoAggregation;
+    @MockitoBean
+    private MemberActivityKafkaPublisher memberActivityKafkaPublisher;
+    @MockitoBean
+    private MemberFeignHelper memberFeignHelper;
+    @MockitoBean
+    private MemberSummaryCacheService memberSummaryCacheService;
+    @MockitoBean
+    private FollowingsCacheService followingsCacheService;
+    @MockitoBean
+    private PageMapper pageMapper;
+    @MockitoBean
+    private AuthorActivityService authorActivityService;
+    @MockitoBean
+    private FollowingFeedMergeEngine followingFeedMergeEngine;
+    @MockitoBean
+    private PostEnrichmentPipeline postEnrichmentPipeline;
+    @MockitoBean
+    private PostCounterService postCounterService;
+    @MockitoBean
+    private CommentEnrichmentPipeline commentEnrichmentPipeline;
+    @MockitoBean
+    private FollowingFeedCursorRedisService followingFeedCursorRedisService;
+    @MockitoBean
+    private MostCommentedLeaderboardService mostCommentedLeaderboardService;
+    @MockitoBean
+    private PostPopularityService postPopularityService;
+    @MockitoBean
+    private PostActivityService postActivityService;
+    @MockitoBean
+    private PostViewCountBuffer postViewCountBuffer;
+    @MockitoBean
+    private PostBodyCacheService postBodyCacheService;
+    @MockitoBean
+    private HeavyFollowingFeedCacheService heavyFollowingFeedCacheService;
+    @MockitoBean
+    private FeedPlanner feedPlanner;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 20; i++) {
+            Post post = Post.newPost("title-" + i, "content-" + i, AUTHOR_ID);
+            entityManager.persist(post);
+            for (int j = 0; j < COMMENTS_PER_POST; j++) {
+                entityManager.persist(Comment.commentBuilder().content("comment-" + j).post(post).authorId(9L).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        MemberDto.Member author = mock(MemberDto.Member.class);
+        when(author.getId()).thenReturn(AUTHOR_ID);
+        when(memberFeignHelper.getMemberById(eq(AUTHOR_ID), any(), any())).thenReturn(author);
+        when(memberSummaryCacheService.getMemberMap(anySet(), any(), any())).thenReturn(Map.of());
+        when(postCounterService.getCounters(anySet())).thenAnswer(inv -> {
+            Set<Long> postPks = inv.getArgument(0);
+            return postPks.stream().collect(Collectors.toMap(id -> id, id -> PostCounterDocument.of(id, 0L, (long) COMMENTS_PER_POST)));
+        });
+    }
+
+    @Test
+    void serviceIsCalledThroughTransactionalProxy() {
+        assertThat(AopUtils.isAopProxy(timelinePullService)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20})
+    @SuppressWarnings("unchecked")
+    void authorPageIssuesOneQueryRegardlessOfPageSizeAndComments(int size) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        timelinePullService.getPostsByAuthor(AUTHOR_ID, null, PageRequest.of(0, size), "token", new MockHttpServletResponse());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1L);
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+
+        ArgumentCaptor<List<PostDto.Post>> content = ArgumentCaptor.forClass(List.class);
+        verify(pageMapper).fromJpaSliceToDailyfeedScrollPage(any(), content.capture());
+        assertThat(content.getValue()).hasSize(size)
+                .allSatisfy(post -> assertThat(post.getCommentCount()).isEqualTo((long) COMMENTS_PER_POST));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void threadViewPrefetchesRepliesWithOneQueryPerLevel() {
+        Post post = Post.newPost("thread", "content", AUTHOR_ID);
+        entityManager.persist(post);
+        Comment root = Comment.commentBuilder().content("root").post(post).authorId(9L).build();
+        entityManager.persist(root);
+        for (int i = 0; i < 4; i++) {
+            Comment reply = persistReply(post, root, "r" + i);
+            for (int j = 0; j < 4; j++) {
+                Comment child = persistReply(post, reply, "r" + i + "c" + j);
+                persistReply(post, child, "r" + i + "c" + j + "g");
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        when(commentEnrichmentPipeline.enrich(any(), anyList(), any(), any())).thenReturn(CommentEnrichment.empty());
+        MemberProfileDto.Summary member = mock(MemberProfileDto.Summary.class);
+        when(member.getMemberId()).thenReturn(9L);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        timelinePullService.getRepliesByParent(member, root.getId(), 3, null, PageRequest.of(0, 10), "token", new MockHttpServletResponse());
+
+        // 부모 댓글 1 + 첫 단계 대댓글 1 + 하위 두 단계 각 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4L);
+
+        ArgumentCaptor<List<CommentDto.Comment>> content = ArgumentCaptor.forClass(List.class);
+        verify(pageMapper).fromJpaSliceToDailyfeedScrollPage(any(), content.capture());
+        // 대댓글 4 + 대댓글마다 하위 2 (부모별 제한) + 그 아래 1 씩
+        assertThat(content.getValue()).hasSize(4 + 8 + 8);
+        assertThat(content.getValue().subList(0, 6)).extracting(CommentDto.Comment::getContent)
+                .containsExactly("r0", "r0c0", "r0c0g", "r0c1", "r0c1g", "r1");
+        assertThat(content.getValue().get(1).getParentId()).isEqualTo(content.getValue().get(0).getId());
+    }
+
+    @Test
+    void cursorlessFollowingPageBeyondMaxSkipPagesIsRejectedBeforeMerging() {
+        MemberProfileDto.MemberProfile member = mock(MemberProfileDto.MemberProfile.class);
+        when(member.getId()).thenReturn(9L);
+        when(member.getMemberId()).thenReturn(9L);
+        when(followingsCacheService.getFollowingIds(eq(9L), any(), any())).thenReturn(List.of(AUTHOR_ID));
+
+        // 직전 페이지의 cursor 가 남아 있지 않은 page 11
+        assertThatThrownBy(() -> timelinePullService.listMyFollowingActivities(member, 11, null, 20, "token", new MockHttpServletResponse()))
+                .isInstanceOf(FeedPageTooDeepException.class);
+        verify(followingFeedMergeEngine, never()).merge(any(), any(), anyInt());
+    }
+
+    private Comment persistReply(Post post, Comment parent, String content) {
+        Comment reply = Comment.commentBuilder().content(content).post(post).authorId(9L).build();
+        parent.addChild(reply);
+        entityManager.persist(reply);
+        return reply;
+    }
+
+    @Configuration
+    @EntityScan(basePackages = "click.dailyfeed.timeline.domain")
+    @EnableJpaRepositories(basePackageClasses = {PostRepository.class, CommentRepository.class})
+    @EnableJpaAuditing
+    @Import(TimelinePullService.class)
+    static class JpaConfig {
+        @Bean
+        TimelinePostMapper timelinePostMapper() {
+            return new TimelinePostMapper() {};
+        }
+
+        @Bean
+        TimelineMapper timelineMapper() {
+            return new TimelineMapper() {};
+        }
+    }
+}